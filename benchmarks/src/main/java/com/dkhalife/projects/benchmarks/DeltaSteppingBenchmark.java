@@ -0,0 +1,111 @@
+package com.dkhalife.projects.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.dkhalife.projects.CsrGraph;
+import com.dkhalife.projects.DeltaStepping;
+import com.dkhalife.projects.Dijkstra;
+import com.dkhalife.projects.ShortestPathTree;
+
+/**
+ * 
+ * This class measures how the delta-stepping algorithm scales with the number
+ * of threads, against Dijkstra's algorithm on a single one
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DeltaSteppingBenchmark {
+	// The shape of the graph
+	@Param({ SyntheticGraphs.GRID, SyntheticGraphs.SPARSE,
+			SyntheticGraphs.POWER_LAW })
+	public String shape;
+
+	// The number of edges of the graph
+	@Param({ "1000000", "10000000" })
+	public int edges;
+
+	// The number of threads
+	@Param({ "1", "2", "4", "8" })
+	public int threads;
+
+	// The graph
+	private CsrGraph g;
+
+	// The width of the buckets
+	private int delta;
+
+	// The pool holding the threads
+	private ForkJoinPool pool;
+
+	// The source of the queries
+	private Random random;
+
+	/**
+	 * 
+	 * Generates the graph and starts the threads once per trial
+	 * 
+	 */
+	@Setup
+	public void setup() {
+		g = SyntheticGraphs.generate(shape, edges, 42);
+		delta = DeltaStepping.delta(g);
+		pool = new ForkJoinPool(threads);
+		random = new Random(42);
+	}
+
+	/**
+	 * 
+	 * Stops the threads
+	 * 
+	 */
+	@TearDown
+	public void tearDown() {
+		pool.shutdown();
+	}
+
+	/**
+	 * 
+	 * Computes the shortest paths from a random source with delta-stepping
+	 * 
+	 */
+	@Benchmark
+	public ShortestPathTree deltaStepping() {
+		return DeltaStepping.shortestPaths(g, random.nextInt(g.vertexCount()),
+				delta, pool);
+	}
+
+	/**
+	 * 
+	 * Computes the shortest paths from a random source with Dijkstra's
+	 * algorithm, which doesn't depend on the number of threads
+	 * 
+	 */
+	@Benchmark
+	public ShortestPathTree dijkstra() {
+		return Dijkstra.shortestPaths(g, random.nextInt(g.vertexCount()));
+	}
+}
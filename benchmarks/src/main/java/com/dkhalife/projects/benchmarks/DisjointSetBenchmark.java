@@ -0,0 +1,162 @@
+package com.dkhalife.projects.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.dkhalife.projects.ConcurrentDisjointSet;
+import com.dkhalife.projects.DisjointSet;
+
+/**
+ * 
+ * This class benchmarks the union and find operations of the disjoint sets
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DisjointSetBenchmark {
+	// The number of operations per invocation
+	private static final int BATCH = 1024;
+
+	// The universe size
+	@Param({ "1000", "1000000", "10000000" })
+	public int size;
+
+	// The elements to join or look for
+	private int[] first;
+	private int[] second;
+
+	// The sets the find operations run on
+	private DisjointSet ds;
+	private ConcurrentDisjointSet cds;
+
+	// The position in the elements
+	private int next = 0;
+
+	/**
+	 * 
+	 * Picks the elements and joins half of them, so that find has some trees
+	 * to walk
+	 * 
+	 */
+	@Setup(Level.Iteration)
+	public void setup() {
+		Random random = new Random(42);
+		// One extra batch lets the last batch run past the end
+		first = new int[size + BATCH];
+		second = new int[size + BATCH];
+		for (int i = 0; i < first.length; ++i) {
+			first[i] = random.nextInt(size);
+			second[i] = random.nextInt(size);
+		}
+
+		ds = new DisjointSet(size);
+		cds = new ConcurrentDisjointSet(size);
+		for (int i = 0; i < size / 2; ++i) {
+			ds.union(first[i], second[i]);
+			cds.union(first[i], second[i]);
+		}
+	}
+
+	/**
+	 * 
+	 * Joins a batch of pairs of elements
+	 * 
+	 */
+	@Benchmark
+	@OperationsPerInvocation(BATCH)
+	public int union() {
+		int i = advance();
+		for (int k = 0; k < BATCH; ++k) {
+			ds.union(first[i + k], second[i + k]);
+		}
+		return i;
+	}
+
+	/**
+	 * 
+	 * Finds the representative of a batch of elements
+	 * 
+	 */
+	@Benchmark
+	@OperationsPerInvocation(BATCH)
+	public int find() {
+		int i = advance();
+		int sum = 0;
+		for (int k = 0; k < BATCH; ++k) {
+			sum += ds.find(first[i + k]);
+		}
+		return sum;
+	}
+
+	/**
+	 * 
+	 * Joins a batch of pairs of elements in the lock-free sets, from a
+	 * single thread
+	 * 
+	 */
+	@Benchmark
+	@OperationsPerInvocation(BATCH)
+	public int concurrentUnion() {
+		int i = advance();
+		for (int k = 0; k < BATCH; ++k) {
+			cds.union(first[i + k], second[i + k]);
+		}
+		return i;
+	}
+
+	/**
+	 * 
+	 * Finds the representative of a batch of elements in the lock-free
+	 * sets, from a single thread
+	 * 
+	 */
+	@Benchmark
+	@OperationsPerInvocation(BATCH)
+	public int concurrentFind() {
+		int i = advance();
+		int sum = 0;
+		for (int k = 0; k < BATCH; ++k) {
+			sum += cds.find(first[i + k]);
+		}
+		return sum;
+	}
+
+	/**
+	 * 
+	 * Moves on to the next batch of elements, wrapping around at the end
+	 * 
+	 * @return The position of the batch
+	 * 
+	 */
+	private int advance() {
+		if (next >= size) {
+			next = 0;
+		}
+
+		int i = next;
+		next += BATCH;
+		return i;
+	}
+}
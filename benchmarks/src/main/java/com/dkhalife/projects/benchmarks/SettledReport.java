@@ -0,0 +1,94 @@
+package com.dkhalife.projects.benchmarks;
+
+import java.util.Random;
+
+import com.dkhalife.projects.CsrGraph;
+import com.dkhalife.projects.GeometricHeuristic;
+import com.dkhalife.projects.GraphEngine;
+import com.dkhalife.projects.Heuristic;
+
+/**
+ * 
+ * This class reports how many vertices each point-to-point search settles on
+ * average, which tells how much of the graph it explores regardless of the
+ * machine it runs on. The arguments are the shape of the graph, its number of
+ * edges and the number of queries.
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+public class SettledReport {
+
+	/**
+	 * 
+	 * This class only holds static methods
+	 * 
+	 */
+	private SettledReport() {
+	}
+
+	/**
+	 * 
+	 * Runs the same random queries with every search and prints the averages
+	 * 
+	 * @param args The shape, the number of edges and the number of queries
+	 * 
+	 */
+	public static void main(String[] args) {
+		String shape = args.length > 0 ? args[0] : SyntheticGraphs.GEOMETRIC;
+		int edges = args.length > 1 ? Integer.parseInt(args[1]) : 1000000;
+		int queries = args.length > 2 ? Integer.parseInt(args[2]) : 100;
+
+		CsrGraph g = SyntheticGraphs.generate(shape, edges, 42);
+		GraphEngine engine = new GraphEngine();
+
+		// The searches being compared
+		String[] names = { "Dijkstra", "Bidirectional", "A* (zero)",
+				"A* (landmarks)", "A* (Euclidean)", "A* (Manhattan)" };
+		Heuristic landmarks = engine.landmarks(g, 16);
+		Heuristic euclidean = null;
+		Heuristic manhattan = null;
+		if (g.hasCoordinates()) {
+			euclidean = GeometricHeuristic.fitted(g,
+					GeometricHeuristic.EUCLIDEAN);
+			manhattan = GeometricHeuristic.fitted(g,
+					GeometricHeuristic.MANHATTAN);
+		}
+
+		long[] settled = new long[names.length];
+		Random random = new Random(42);
+		for (int q = 0; q < queries; ++q) {
+			int s = random.nextInt(g.vertexCount());
+			int t = random.nextInt(g.vertexCount());
+
+			settled[0] += engine.shortestPath(g, s, t, GraphEngine.DIJKSTRA)
+					.getSettled();
+			settled[1] += engine.shortestPath(g, s, t,
+					GraphEngine.BIDIRECTIONAL_DIJKSTRA).getSettled();
+			settled[2] += engine.shortestPath(g, s, t, Heuristic.ZERO)
+					.getSettled();
+			settled[3] += engine.shortestPath(g, s, t, landmarks)
+					.getSettled();
+			if (euclidean != null) {
+				settled[4] += engine.shortestPath(g, s, t, euclidean)
+						.getSettled();
+				settled[5] += engine.shortestPath(g, s, t, manhattan)
+						.getSettled();
+			}
+		}
+
+		System.out.println(shape + " graph, " + g.vertexCount() + " vertices, "
+				+ g.edgeCount() + " edges, " + queries + " queries");
+		for (int i = 0; i < names.length; ++i) {
+			// The geometric heuristics need coordinates
+			if (i >= 4 && euclidean == null)
+				continue;
+
+			System.out.printf("%-16s %12.1f settled per query (%5.1f%%)%n",
+					names[i], (double) settled[i] / queries, 100.0
+							* settled[i] / settled[0]);
+		}
+	}
+}
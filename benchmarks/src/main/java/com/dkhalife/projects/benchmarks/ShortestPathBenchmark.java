@@ -0,0 +1,123 @@
+package com.dkhalife.projects.benchmarks;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.dkhalife.projects.CsrGraph;
+import com.dkhalife.projects.GeometricHeuristic;
+import com.dkhalife.projects.GraphEngine;
+import com.dkhalife.projects.Heuristic;
+import com.dkhalife.projects.ShortestPathTree;
+
+/**
+ * 
+ * This class benchmarks Dijkstra's algorithm, both for one-to-all and for
+ * point-to-point queries, along with the other point-to-point searches
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ShortestPathBenchmark {
+	// The shape of the graph
+	@Param({ SyntheticGraphs.GRID, SyntheticGraphs.SPARSE,
+			SyntheticGraphs.DENSE, SyntheticGraphs.POWER_LAW,
+			SyntheticGraphs.GEOMETRIC })
+	public String shape;
+
+	// The number of edges of the graph
+	@Param({ "1000", "100000", "1000000", "10000000" })
+	public int edges;
+
+	// The graph
+	private CsrGraph g;
+
+	// The heuristic used by A*
+	private Heuristic heuristic;
+
+	// The engine
+	private final GraphEngine engine = new GraphEngine();
+
+	// The source of the queries
+	private Random random;
+
+	/**
+	 * 
+	 * Generates the graph once per trial
+	 * 
+	 */
+	@Setup
+	public void setup() {
+		g = SyntheticGraphs.generate(shape, edges, 42);
+		random = new Random(42);
+
+		// Graphs without coordinates can only use the zero heuristic
+		heuristic = g.hasCoordinates() ? GeometricHeuristic.fitted(g,
+				GeometricHeuristic.EUCLIDEAN) : Heuristic.ZERO;
+	}
+
+	/**
+	 * 
+	 * Computes the shortest paths from a random source to every vertex
+	 * 
+	 */
+	@Benchmark
+	public ShortestPathTree oneToAll() {
+		return engine.shortestPaths(g, random.nextInt(g.vertexCount()));
+	}
+
+	/**
+	 * 
+	 * Computes the shortest path between two random vertices
+	 * 
+	 */
+	@Benchmark
+	public ShortestPathTree pointToPoint() {
+		return engine.shortestPath(g, random.nextInt(g.vertexCount()),
+				random.nextInt(g.vertexCount()));
+	}
+
+	/**
+	 * 
+	 * Computes the shortest path between two random vertices with a
+	 * bidirectional search
+	 * 
+	 */
+	@Benchmark
+	public ShortestPathTree bidirectional() {
+		return engine.shortestPath(g, random.nextInt(g.vertexCount()),
+				random.nextInt(g.vertexCount()),
+				GraphEngine.BIDIRECTIONAL_DIJKSTRA);
+	}
+
+	/**
+	 * 
+	 * Computes the shortest path between two random vertices with A* and the
+	 * Euclidean heuristic
+	 * 
+	 */
+	@Benchmark
+	public ShortestPathTree aStar() {
+		return engine.shortestPath(g, random.nextInt(g.vertexCount()),
+				random.nextInt(g.vertexCount()), heuristic);
+	}
+}
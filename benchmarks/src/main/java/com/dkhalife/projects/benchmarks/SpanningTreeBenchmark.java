@@ -0,0 +1,93 @@
+package com.dkhalife.projects.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.dkhalife.projects.CsrGraph;
+import com.dkhalife.projects.GraphEngine;
+import com.dkhalife.projects.SpanningTree;
+
+/**
+ * 
+ * This class benchmarks the minimal spanning tree algorithms
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({ Mode.Throughput, Mode.SampleTime })
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SpanningTreeBenchmark {
+	// The shape of the graph
+	@Param({ SyntheticGraphs.GRID, SyntheticGraphs.SPARSE,
+			SyntheticGraphs.DENSE, SyntheticGraphs.POWER_LAW })
+	public String shape;
+
+	// The number of edges of the graph
+	@Param({ "1000", "100000", "1000000", "10000000" })
+	public int edges;
+
+	// The graph
+	private CsrGraph g;
+
+	// The engine
+	private final GraphEngine engine = new GraphEngine();
+
+	/**
+	 * 
+	 * Generates the graph once per trial
+	 * 
+	 */
+	@Setup
+	public void setup() {
+		g = SyntheticGraphs.generate(shape, edges, 42);
+	}
+
+	/**
+	 * 
+	 * Computes the minimal spanning forest with Prim's algorithm, restarted
+	 * from each component
+	 * 
+	 */
+	@Benchmark
+	public SpanningTree prim() {
+		return engine.minimumSpanningForest(g, GraphEngine.PRIM);
+	}
+
+	/**
+	 * 
+	 * Computes the minimal spanning forest with Kruskal's algorithm
+	 * 
+	 */
+	@Benchmark
+	public SpanningTree kruskal() {
+		return engine.minimumSpanningForest(g, GraphEngine.KRUSKAL);
+	}
+
+	/**
+	 * 
+	 * Computes the minimal spanning forest with Boruvka's algorithm in the
+	 * engine's pool
+	 * 
+	 */
+	@Benchmark
+	public SpanningTree boruvka() {
+		return engine.minimumSpanningForest(g, GraphEngine.BORUVKA);
+	}
+}
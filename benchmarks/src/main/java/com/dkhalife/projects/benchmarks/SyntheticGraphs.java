@@ -0,0 +1,218 @@
+package com.dkhalife.projects.benchmarks;
+
+import java.util.Random;
+
+import com.dkhalife.projects.CsrGraph;
+
+/**
+ * 
+ * This class generates the synthetic graphs used by the benchmarks. Every
+ * generator is seeded so that all the runs measure the same graphs.
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+public class SyntheticGraphs {
+	// The supported shapes
+	public static final String GRID = "grid";
+	public static final String SPARSE = "sparse";
+	public static final String DENSE = "dense";
+	public static final String POWER_LAW = "powerlaw";
+	public static final String GEOMETRIC = "geometric";
+
+	// The heaviest weight given to an edge
+	private static final int MAX_WEIGHT = 1000;
+
+	// The spacing between the rows and the columns of geometric graphs
+	private static final int SPACING = 100;
+
+	/**
+	 * 
+	 * This class only holds static methods
+	 * 
+	 */
+	private SyntheticGraphs() {
+	}
+
+	/**
+	 * 
+	 * Generates a graph of a given shape with about the given number of edges
+	 * 
+	 * @param shape The shape (GRID, SPARSE, DENSE, POWER_LAW or GEOMETRIC)
+	 * @param edges The number of edges
+	 * @param seed The seed of the generator
+	 * @return The graph
+	 * 
+	 */
+	public static CsrGraph generate(String shape, int edges, long seed) {
+		Random random = new Random(seed);
+
+		if (GRID.equals(shape))
+			return grid(edges, random);
+		if (SPARSE.equals(shape))
+			return random(Math.max(edges / 4, 2), edges, random);
+		if (DENSE.equals(shape))
+			return random(Math.max((int) Math.sqrt(2.0 * edges), 2), edges,
+					random);
+		if (POWER_LAW.equals(shape))
+			return powerLaw(edges, random);
+		if (GEOMETRIC.equals(shape))
+			return geometric(edges, random);
+
+		throw new IllegalArgumentException("Unknown shape: " + shape);
+	}
+
+	/**
+	 * 
+	 * Generates a square grid where each vertex is linked to its right and
+	 * bottom neighbors, which looks a lot like a road network
+	 * 
+	 */
+	private static CsrGraph grid(int edges, Random random) {
+		int side = Math.max((int) Math.sqrt(edges / 2.0), 2);
+		int n = side * side;
+		int m = 2 * side * (side - 1);
+
+		int[] sources = new int[m];
+		int[] destinations = new int[m];
+		int[] weights = new int[m];
+		int[] xs = new int[n];
+		int[] ys = new int[n];
+
+		int e = 0;
+		for (int y = 0; y < side; ++y) {
+			for (int x = 0; x < side; ++x) {
+				int v = y * side + x;
+				xs[v] = x;
+				ys[v] = y;
+
+				if (x + 1 < side) {
+					sources[e] = v;
+					destinations[e] = v + 1;
+					weights[e++] = 1 + random.nextInt(MAX_WEIGHT);
+				}
+				if (y + 1 < side) {
+					sources[e] = v;
+					destinations[e] = v + side;
+					weights[e++] = 1 + random.nextInt(MAX_WEIGHT);
+				}
+			}
+		}
+
+		return CsrGraph.fromEdges(n, sources, destinations, weights, xs, ys);
+	}
+
+	/**
+	 * 
+	 * Generates a grid whose vertices are moved around a little, where the
+	 * weight of each edge is its length plus up to 30% of detours. Since no
+	 * edge is shorter than its straight line, the coordinates make admissible
+	 * heuristics.
+	 * 
+	 */
+	private static CsrGraph geometric(int edges, Random random) {
+		int side = Math.max((int) Math.sqrt(edges / 2.0), 2);
+		int n = side * side;
+		int m = 2 * side * (side - 1);
+
+		int[] sources = new int[m];
+		int[] destinations = new int[m];
+		int[] weights = new int[m];
+		int[] xs = new int[n];
+		int[] ys = new int[n];
+
+		for (int y = 0; y < side; ++y) {
+			for (int x = 0; x < side; ++x) {
+				int v = y * side + x;
+				xs[v] = x * SPACING + random.nextInt(SPACING / 2);
+				ys[v] = y * SPACING + random.nextInt(SPACING / 2);
+			}
+		}
+
+		int e = 0;
+		for (int y = 0; y < side; ++y) {
+			for (int x = 0; x < side; ++x) {
+				int v = y * side + x;
+
+				if (x + 1 < side) {
+					sources[e] = v;
+					destinations[e++] = v + 1;
+				}
+				if (y + 1 < side) {
+					sources[e] = v;
+					destinations[e++] = v + side;
+				}
+			}
+		}
+
+		for (e = 0; e < m; ++e) {
+			double dx = xs[sources[e]] - xs[destinations[e]];
+			double dy = ys[sources[e]] - ys[destinations[e]];
+			double length = Math.sqrt(dx * dx + dy * dy);
+			weights[e] = (int) Math.ceil(length * (1 + 0.3 * random.nextDouble()));
+		}
+
+		return CsrGraph.fromEdges(n, sources, destinations, weights, xs, ys);
+	}
+
+	/**
+	 * 
+	 * Generates a graph where both endpoints of every edge are picked
+	 * uniformly at random
+	 * 
+	 */
+	private static CsrGraph random(int n, int m, Random random) {
+		int[] sources = new int[m];
+		int[] destinations = new int[m];
+		int[] weights = new int[m];
+
+		for (int e = 0; e < m; ++e) {
+			sources[e] = random.nextInt(n);
+			destinations[e] = random.nextInt(n);
+			weights[e] = 1 + random.nextInt(MAX_WEIGHT);
+		}
+
+		return CsrGraph.fromEdges(n, sources, destinations, weights, null, null);
+	}
+
+	/**
+	 * 
+	 * Generates a graph by preferential attachment: each new vertex links to
+	 * four existing vertices picked with a probability proportional to their
+	 * degree, which gives a power-law degree distribution
+	 * 
+	 */
+	private static CsrGraph powerLaw(int m, Random random) {
+		final int k = 4;
+		int n = Math.max(m / k, k + 1);
+		m = (n - k) * k;
+
+		int[] sources = new int[m];
+		int[] destinations = new int[m];
+		int[] weights = new int[m];
+
+		// Picking a random endpoint of the edges so far is the same as
+		// picking a vertex proportionally to its degree
+		int e = 0;
+		for (int v = k; v < n; ++v) {
+			for (int i = 0; i < k; ++i) {
+				int target;
+				if (e == 0) {
+					target = random.nextInt(k);
+				}
+				else {
+					int pick = random.nextInt(2 * e);
+					target = pick < e ? sources[pick] : destinations[pick - e];
+				}
+
+				sources[e] = v;
+				destinations[e] = target;
+				weights[e++] = 1 + random.nextInt(MAX_WEIGHT);
+			}
+		}
+
+		return CsrGraph.fromEdges(n, sources, destinations, weights, null, null);
+	}
+}
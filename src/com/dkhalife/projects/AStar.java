@@ -0,0 +1,160 @@
+package com.dkhalife.projects;
+
+/**
+ * 
+ * This class implements the A* search algorithm on a CSR graph. It works like
+ * Dijkstra's algorithm except that vertices are ordered by their distance plus
+ * an estimate of the distance left to the destination, which steers the search
+ * towards the destination.
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+public class AStar {
+
+	/**
+	 * 
+	 * This class only holds static methods
+	 * 
+	 */
+	private AStar() {
+	}
+
+	/**
+	 * 
+	 * Computes the shortest path from a source to a destination
+	 * 
+	 * @param g The graph
+	 * @param source The source vertex
+	 * @param destination The destination vertex
+	 * @param h An admissible heuristic
+	 * @return The shortest path tree rooted at the source, which is complete
+	 * along the path to the destination
+	 * 
+	 */
+	public static ShortestPathTree shortestPath(CsrGraph g, int source,
+			int destination, Heuristic h) {
+		int n = g.vertexCount();
+		SearchContext c = SearchContext.get(n);
+		int settled = search(g, source, destination, h, c);
+
+		return c.tree(n, source, settled);
+	}
+
+	/**
+	 * 
+	 * Computes the shortest path from a source to a destination using the
+	 * given heap
+	 * 
+	 * @param g The graph
+	 * @param source The source vertex
+	 * @param destination The destination vertex
+	 * @param h An admissible heuristic
+	 * @param Q An empty heap able to hold every vertex of the graph
+	 * @return The shortest path tree rooted at the source, which is complete
+	 * along the path to the destination
+	 * 
+	 */
+	public static ShortestPathTree shortestPath(CsrGraph g, int source,
+			int destination, Heuristic h, IndexedHeap Q) {
+		int n = g.vertexCount();
+		SearchContext c = new SearchContext(n, Q);
+		int settled = search(g, source, destination, h, c);
+
+		return c.tree(n, source, settled);
+	}
+
+	/**
+	 * 
+	 * Computes the shortest path from a source to a destination in a context,
+	 * without touching the rest of the graph
+	 * 
+	 * @param g The graph
+	 * @param source The source vertex
+	 * @param destination The destination vertex
+	 * @param h An admissible heuristic
+	 * @param c A context ready for a new search
+	 * @return The path
+	 * 
+	 */
+	public static ShortestPath shortestPath(CsrGraph g, int source,
+			int destination, Heuristic h, SearchContext c) {
+		int settled = search(g, source, destination, h, c);
+
+		return c.path(g, source, destination, settled);
+	}
+
+	/**
+	 * 
+	 * Runs the search itself
+	 * 
+	 * @param g The graph
+	 * @param source The source vertex
+	 * @param destination The destination vertex
+	 * @param h An admissible heuristic
+	 * @param c A context ready for a new search
+	 * @return The number of settled vertices
+	 * 
+	 */
+	private static int search(CsrGraph g, int source, int destination,
+			Heuristic h, SearchContext c) {
+		IndexedHeap Q = c.queue();
+
+		// Every vertex starts at an infinite distance, except the source
+		c.set(source, 0, -1);
+
+		Q.insert(source, key(0, h.estimate(source, destination)));
+
+		int settled = 0;
+		while (!Q.isEmpty()) {
+			// We'll take the one which seems closest to the destination
+			int u = Q.poll();
+			int d = c.distance(u);
+			++settled;
+
+			// If it's our destination, no more processing is needed
+			if (u == destination)
+				break;
+
+			// Relax every arc departing from this vertex
+			for (int a = g.firstArc(u), end = g.endArc(u); a < end; ++a) {
+				int v = g.target(a);
+				int alt = ShortestPathTree.extend(d, g.weight(a));
+
+				if (alt < c.distance(v)) {
+					// A vertex which already left the queue is put back in,
+					// which only happens when the heuristic isn't consistent
+					int key = key(alt, h.estimate(v, destination));
+					if (Q.contains(v)) {
+						Q.decreaseKey(v, key);
+					}
+					else {
+						Q.insert(v, key);
+					}
+
+					c.set(v, alt, g.edgeOf(a));
+				}
+			}
+		}
+
+		// Leave the heap empty for the next search
+		Q.clear();
+
+		return settled;
+	}
+
+	/**
+	 * 
+	 * Computes the key of a vertex without overflowing
+	 * 
+	 * @param distance The distance from the source
+	 * @param estimate The estimated distance to the destination
+	 * @return The key
+	 * 
+	 */
+	private static int key(int distance, int estimate) {
+		return (int) Math.min(Integer.MAX_VALUE, (long) distance + estimate);
+	}
+}
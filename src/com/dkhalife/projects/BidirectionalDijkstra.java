@@ -0,0 +1,220 @@
+package com.dkhalife.projects;
+
+import java.util.BitSet;
+
+/**
+ * 
+ * This class implements a bidirectional version of Dijkstra's algorithm for
+ * point to point queries. A forward search grows from the source while a
+ * backward search grows from the destination, and we stop as soon as the sum
+ * of the smallest keys of both queues reaches the length mu of the best path
+ * seen so far. On road-like graphs the two balls together cover about half the
+ * area a single search would.
+ * 
+ * Since the graphs are undirected, the backward search simply walks the same
+ * arcs as the forward one.
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+public class BidirectionalDijkstra {
+
+	/**
+	 * 
+	 * This class only holds static methods
+	 * 
+	 */
+	private BidirectionalDijkstra() {
+	}
+
+	/**
+	 * 
+	 * Computes the shortest path from a source to a destination
+	 * 
+	 * @param g The graph
+	 * @param source The source vertex
+	 * @param destination The destination vertex
+	 * @return The shortest path tree rooted at the source, which is complete
+	 * along the path to the destination
+	 * 
+	 */
+	public static ShortestPathTree shortestPath(CsrGraph g, int source,
+			int destination) {
+		int n = g.vertexCount();
+		SearchContext forward = SearchContext.get(n, 0);
+		int settled = search(g, source, destination, forward,
+				SearchContext.get(n, 1));
+
+		return forward.tree(n, source, settled);
+	}
+
+	/**
+	 * 
+	 * Computes the shortest path from a source to a destination using the
+	 * given heaps
+	 * 
+	 * @param g The graph
+	 * @param source The source vertex
+	 * @param destination The destination vertex
+	 * @param forward An empty heap able to hold every vertex of the graph
+	 * @param backward Another one
+	 * @return The shortest path tree rooted at the source, which is complete
+	 * along the path to the destination
+	 * 
+	 */
+	public static ShortestPathTree shortestPath(CsrGraph g, int source,
+			int destination, IndexedHeap forward, IndexedHeap backward) {
+		int n = g.vertexCount();
+		SearchContext c = new SearchContext(n, forward);
+		int settled = search(g, source, destination, c, new SearchContext(n,
+				backward));
+
+		return c.tree(n, source, settled);
+	}
+
+	/**
+	 * 
+	 * Computes the shortest path from a source to a destination in two
+	 * contexts, without touching the rest of the graph
+	 * 
+	 * @param g The graph
+	 * @param source The source vertex
+	 * @param destination The destination vertex
+	 * @param forward A context ready for a new search
+	 * @param backward Another one
+	 * @return The path
+	 * 
+	 */
+	public static ShortestPath shortestPath(CsrGraph g, int source,
+			int destination, SearchContext forward, SearchContext backward) {
+		int settled = search(g, source, destination, forward, backward);
+
+		return forward.path(g, source, destination, settled);
+	}
+
+	/**
+	 * 
+	 * Runs the search itself. Afterwards, the destination can be reached from
+	 * the source by following the parents of the forward context.
+	 * 
+	 * @param g The graph
+	 * @param source The source vertex
+	 * @param destination The destination vertex
+	 * @param forward A context ready for a new search
+	 * @param backward Another one
+	 * @return The number of settled vertices
+	 * 
+	 */
+	private static int search(CsrGraph g, int source, int destination,
+			SearchContext forward, SearchContext backward) {
+		// Each search has its own distances and parents
+		forward.set(source, 0, -1);
+		backward.set(destination, 0, -1);
+
+		IndexedHeap forwardQ = forward.queue();
+		IndexedHeap backwardQ = backward.queue();
+		forwardQ.insert(source, 0);
+		backwardQ.insert(destination, 0);
+
+		// The best path seen so far goes through the arc meetArc, from meetU
+		// (reached forward) to its other end (reached backward). A path as
+		// long as INFINITY wouldn't fit in a distance, so it's never taken.
+		long mu = source == destination ? 0 : ShortestPathTree.INFINITY;
+		int meetArc = -1;
+		int meetU = source;
+
+		int settled = 0;
+		while (!forwardQ.isEmpty() && !backwardQ.isEmpty()) {
+			// No path found from here on can be shorter than mu
+			if ((long) forwardQ.minKey() + backwardQ.minKey() >= mu)
+				break;
+
+			// We'll grow the search with the smallest radius
+			boolean isForward = forwardQ.minKey() <= backwardQ.minKey();
+			IndexedHeap Q = isForward ? forwardQ : backwardQ;
+			SearchContext own = isForward ? forward : backward;
+			SearchContext other = isForward ? backward : forward;
+
+			int u = Q.poll();
+			int d = own.distance(u);
+			++settled;
+
+			// Relax every arc departing from this vertex
+			for (int a = g.firstArc(u), end = g.endArc(u); a < end; ++a) {
+				int v = g.target(a);
+				int alt = ShortestPathTree.extend(d, g.weight(a));
+
+				if (alt < own.distance(v)) {
+					if (!own.reached(v)) {
+						Q.insert(v, alt);
+					}
+					else {
+						Q.decreaseKey(v, alt);
+					}
+
+					own.set(v, alt, g.edgeOf(a));
+				}
+
+				// If the other search reached v, we have a path
+				if (other.reached(v) && (long) alt + other.distance(v) < mu) {
+					mu = (long) alt + other.distance(v);
+					meetArc = a;
+					meetU = isForward ? u : v;
+				}
+			}
+		}
+
+		// Leave the heaps empty for the next search
+		forwardQ.clear();
+		backwardQ.clear();
+
+		if (meetArc != -1) {
+			join(g, meetArc, meetU, forward, backward);
+		}
+
+		return settled;
+	}
+
+	/**
+	 * 
+	 * Appends the backward half of the path to the forward tree, so that the
+	 * destination can be reached from the source by following the parents
+	 * 
+	 * @param g The graph
+	 * @param meetArc The arc joining both halves
+	 * @param meetU The end of the forward half
+	 * @param forward The context of the forward search
+	 * @param backward The context of the backward search
+	 * 
+	 */
+	private static void join(CsrGraph g, int meetArc, int meetU,
+			SearchContext forward, SearchContext backward) {
+		// With edges of weight zero, the backward half could cross the forward
+		// half, so we'll remember the vertices of the latter
+		BitSet onPath = new BitSet();
+		for (int v = meetU; v != -1; v = forward.parentEdge(v) == -1 ? -1
+				: g.opposite(forward.parentEdge(v), v)) {
+			onPath.set(v);
+		}
+
+		int e = g.edgeOf(meetArc);
+		int v = g.opposite(e, meetU);
+		int u = meetU;
+		while (true) {
+			// A vertex already on the path is reached at least as fast by it
+			if (!onPath.get(v)) {
+				forward.set(v, forward.distance(u) + g.edgeWeight(e), e);
+				onPath.set(v);
+			}
+
+			e = backward.parentEdge(v);
+			if (e == -1)
+				break;
+
+			u = v;
+			v = g.opposite(e, v);
+		}
+	}
+}
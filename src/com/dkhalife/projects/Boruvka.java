@@ -0,0 +1,223 @@
+package com.dkhalife.projects;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 
+ * This class implements Boruvka's minimal spanning tree algorithm on a fork/join
+ * pool. Each round, every component picks the lightest edge leaving it, all
+ * these edges are added to the forest and the components they link are merged.
+ * The number of components at least halves every round.
+ * 
+ * Edges are compared by weight, then by id, which makes the minimal spanning
+ * forest unique: it is exactly the one Kruskal's algorithm finds.
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+public class Boruvka {
+	// Marks a component which doesn't have a candidate edge yet
+	private static final long NONE = Long.MAX_VALUE;
+
+	// The smallest chunk of edges worth a task
+	private static final int GRAIN = 1 << 12;
+
+	/**
+	 * 
+	 * This class only holds static methods
+	 * 
+	 */
+	private Boruvka() {
+	}
+
+	/**
+	 * 
+	 * Computes the minimal spanning forest of the graph on the common pool
+	 * 
+	 * @param g The graph
+	 * @return The minimal spanning forest
+	 * 
+	 */
+	public static SpanningTree minimumSpanningTree(CsrGraph g) {
+		return minimumSpanningTree(g, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * 
+	 * Computes the minimal spanning forest of the graph
+	 * 
+	 * @param g The graph
+	 * @param pool The pool to run in
+	 * @return The minimal spanning forest
+	 * 
+	 */
+	public static SpanningTree minimumSpanningTree(final CsrGraph g,
+			ForkJoinPool pool) {
+		int n = g.vertexCount();
+		int m = g.edgeCount();
+
+		// The component each vertex belongs to, as of the start of the round
+		final int[] labels = new int[n];
+		for (int v = 0; v < n; ++v) {
+			labels[v] = v;
+		}
+
+		// The lightest edge leaving each component, packed as in Kruskal
+		final AtomicLongArray best = new AtomicLongArray(n);
+		for (int v = 0; v < n; ++v) {
+			best.set(v, NONE);
+		}
+
+		// The components are merged in a disjoint set shared by the threads
+		final ConcurrentDisjointSet ds = new ConcurrentDisjointSet(n);
+
+		// The roots of the components that still have edges
+		int[] roots = new int[n];
+		int rootCount = 0;
+		for (int v = 0; v < n; ++v) {
+			if (g.degree(v) > 0)
+				roots[rootCount++] = v;
+		}
+
+		// The edges which still link two different components
+		int[] alive = new int[m];
+		for (int e = 0; e < m; ++e) {
+			alive[e] = e;
+		}
+		int aliveCount = m;
+		int[] buffer = new int[m];
+
+		final int[] edges = new int[Math.max(rootCount - 1, 0)];
+		final AtomicInteger count = new AtomicInteger();
+
+		while (aliveCount > 0) {
+			// First, every chunk of edges drops the edges inside a component
+			// and offers the others to both components they link
+			final int chunks = Math.max(1, Math.min(8 * pool.getParallelism(),
+					aliveCount / GRAIN));
+			final int[] kept = new int[chunks];
+			final int[] a = alive;
+			final int total = aliveCount;
+			ParallelFor.run(pool, 0, chunks, 1, new ParallelFor.Body() {
+				public void run(int from, int to) {
+					for (int c = from; c < to; ++c) {
+						int lo = (int) ((long) total * c / chunks);
+						int hi = (int) ((long) total * (c + 1) / chunks);
+
+						int k = lo;
+						for (int i = lo; i < hi; ++i) {
+							int e = a[i];
+							int cu = labels[g.edgeSource(e)];
+							int cv = labels[g.edgeTarget(e)];
+							if (cu == cv)
+								continue;
+
+							a[k++] = e;
+
+							long key = Kruskal.pack(g.edgeWeight(e), e);
+							offer(best, cu, key);
+							offer(best, cv, key);
+						}
+						kept[c] = k - lo;
+					}
+				}
+			});
+
+			// Then, we'll gather the remaining edges for the next round
+			final int[] starts = new int[chunks];
+			int next = 0;
+			for (int c = 0; c < chunks; ++c) {
+				starts[c] = next;
+				next += kept[c];
+			}
+			if (next == 0)
+				break;
+
+			final int[] b = buffer;
+			ParallelFor.run(pool, 0, chunks, 1, new ParallelFor.Body() {
+				public void run(int from, int to) {
+					for (int c = from; c < to; ++c) {
+						int lo = (int) ((long) total * c / chunks);
+						System.arraycopy(a, lo, b, starts[c], kept[c]);
+					}
+				}
+			});
+			buffer = alive;
+			alive = b;
+			aliveCount = next;
+
+			// Now, we'll add the lightest edge of each component to the
+			// forest. Two components may have picked the same edge, the
+			// disjoint set makes sure only one of them adds it.
+			final int[] r = roots;
+			ParallelFor.run(pool, 0, rootCount,
+					ParallelFor.grain(pool, rootCount, GRAIN),
+					new ParallelFor.Body() {
+						public void run(int from, int to) {
+							for (int i = from; i < to; ++i) {
+								long key = best.get(r[i]);
+								if (key == NONE)
+									continue;
+								best.set(r[i], NONE);
+
+								int e = Kruskal.edgeOf(key);
+								if (ds.union(g.edgeSource(e), g.edgeTarget(e))) {
+									edges[count.getAndIncrement()] = e;
+								}
+							}
+						}
+					});
+
+			// Finally, we'll label every vertex with its new component
+			ParallelFor.run(pool, 0, n, ParallelFor.grain(pool, n, GRAIN),
+					new ParallelFor.Body() {
+						public void run(int from, int to) {
+							for (int v = from; v < to; ++v) {
+								labels[v] = ds.find(labels[v]);
+							}
+						}
+					});
+
+			int remaining = 0;
+			for (int i = 0; i < rootCount; ++i) {
+				if (labels[roots[i]] == roots[i])
+					roots[remaining++] = roots[i];
+			}
+			rootCount = remaining;
+		}
+
+		// The edges were added in no particular order, we'll sum their weights
+		// once at the end
+		int[] tree = Arrays.copyOf(edges, count.get());
+		long weight = 0;
+		for (int e : tree) {
+			weight += g.edgeWeight(e);
+		}
+
+		return new SpanningTree(tree, weight);
+	}
+
+	/**
+	 * 
+	 * Atomically lowers the candidate edge of a component
+	 * 
+	 * @param best The candidate edges
+	 * @param c The component
+	 * @param key The packed edge
+	 * 
+	 */
+	private static void offer(AtomicLongArray best, int c, long key) {
+		long current = best.get(c);
+		while (key < current) {
+			if (best.compareAndSet(c, current, key))
+				return;
+
+			current = best.get(c);
+		}
+	}
+}
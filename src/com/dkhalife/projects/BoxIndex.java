@@ -0,0 +1,232 @@
+package com.dkhalife.projects;
+
+import java.util.Arrays;
+
+/**
+ * 
+ * This class indexes rectangles by their position, to find the ones which
+ * overlap a region without looking at all of them. The panel keeps the area
+ * covered by each edge (its line and its weight) in one, so that drawing a
+ * part of the graph only visits the edges which reach it.
+ * 
+ * The rectangles are sorted into levels by their size: a level holds the
+ * rectangles no larger than twice the size of its cells, indexed by their
+ * center in a SpatialIndex. Looking for the ones overlapping a region then
+ * only visits the cells around it on each level, grown by the size of the
+ * rectangles that level holds, so a few long edges don't make every search
+ * look far around.
+ * 
+ * Rectangles are identified by dense ids, like the edges of the panel.
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+public class BoxIndex {
+	// The size of the cells of the first level, which the smallest
+	// rectangles fit in
+	public static final int DEFAULT_CELL = 64;
+
+	// The size of the cells of the first level
+	private final int cell;
+
+	// The index of each level, created when a rectangle first needs it
+	private SpatialIndex[] levels = new SpatialIndex[0];
+
+	// The corners of each rectangle and its level, or -1 if the id isn't
+	// indexed
+	private int[] x1s = new int[16];
+	private int[] y1s = new int[16];
+	private int[] x2s = new int[16];
+	private int[] y2s = new int[16];
+	private int[] levelOf = filled(16);
+
+	// The number of rectangles
+	private int count = 0;
+
+	/**
+	 * 
+	 * An index constructed without arguments uses cells of DEFAULT_CELL
+	 * 
+	 */
+	public BoxIndex() {
+		this(DEFAULT_CELL);
+	}
+
+	/**
+	 * 
+	 * An index can also be given the size of the cells of its first level
+	 * 
+	 * @param cell The size of a cell
+	 * 
+	 */
+	public BoxIndex(int cell) {
+		if (cell <= 0)
+			throw new IllegalArgumentException("Invalid cell size: " + cell);
+
+		this.cell = cell;
+	}
+
+	/**
+	 * 
+	 * Getter for the number of rectangles
+	 * 
+	 * @return The number of rectangles
+	 * 
+	 */
+	public int size() {
+		return count;
+	}
+
+	/**
+	 * 
+	 * Tells whether an id is indexed
+	 * 
+	 * @param id The id
+	 * @return Whether it is
+	 * 
+	 */
+	public boolean contains(int id) {
+		return id >= 0 && id < levelOf.length && levelOf[id] != -1;
+	}
+
+	/**
+	 * 
+	 * Adds a rectangle, or moves it if its id is already indexed
+	 * 
+	 * @param id The id of the rectangle
+	 * @param x1 The smallest X coordinate
+	 * @param y1 The smallest Y coordinate
+	 * @param x2 The largest X coordinate
+	 * @param y2 The largest Y coordinate
+	 * 
+	 */
+	public void add(int id, int x1, int y1, int x2, int y2) {
+		if (id < 0)
+			throw new IndexOutOfBoundsException("Invalid id: " + id);
+
+		if (contains(id)) {
+			remove(id);
+		}
+
+		if (id >= levelOf.length) {
+			int capacity = Math.max(id + 1, 2 * levelOf.length);
+			x1s = Arrays.copyOf(x1s, capacity);
+			y1s = Arrays.copyOf(y1s, capacity);
+			x2s = Arrays.copyOf(x2s, capacity);
+			y2s = Arrays.copyOf(y2s, capacity);
+			int length = levelOf.length;
+			levelOf = Arrays.copyOf(levelOf, capacity);
+			Arrays.fill(levelOf, length, capacity, -1);
+		}
+
+		// The level is the first one whose cells, doubled, fit the rectangle
+		long extent = Math.max((long) x2 - x1, (long) y2 - y1);
+		int level = 0;
+		while ((long) cell << (level + 1) < extent) {
+			++level;
+		}
+		if (level >= levels.length) {
+			levels = Arrays.copyOf(levels, level + 1);
+		}
+		if (levels[level] == null) {
+			levels[level] = new SpatialIndex(cell << level);
+		}
+
+		x1s[id] = x1;
+		y1s[id] = y1;
+		x2s[id] = x2;
+		y2s[id] = y2;
+		levelOf[id] = level;
+		++count;
+		levels[level].add(id, center(x1, x2), center(y1, y2));
+	}
+
+	/**
+	 * 
+	 * Removes a rectangle, if its id is indexed
+	 * 
+	 * @param id The id of the rectangle
+	 * 
+	 */
+	public void remove(int id) {
+		if (!contains(id))
+			return;
+
+		levels[levelOf[id]].remove(id);
+		levelOf[id] = -1;
+		--count;
+	}
+
+	/**
+	 * 
+	 * Removes every rectangle
+	 * 
+	 */
+	public void clear() {
+		levels = new SpatialIndex[0];
+		Arrays.fill(levelOf, -1);
+		count = 0;
+	}
+
+	/**
+	 * 
+	 * Finds the rectangles which overlap a region
+	 * 
+	 * @param x1 The smallest X coordinate
+	 * @param y1 The smallest Y coordinate
+	 * @param x2 The largest X coordinate
+	 * @param y2 The largest Y coordinate
+	 * @return The ids of the rectangles, in no particular order
+	 * 
+	 */
+	public int[] range(int x1, int y1, int x2, int y2) {
+		int[] result = new int[16];
+		int found = 0;
+
+		for (int level = 0; level < levels.length; ++level) {
+			if (levels[level] == null)
+				continue;
+
+			// The rectangles of the level reach at most this far from their
+			// center
+			int reach = cell << level;
+			int[] near = levels[level].range(x1 - reach, y1 - reach, x2
+					+ reach, y2 + reach);
+			if (found + near.length > result.length) {
+				result = Arrays.copyOf(result, Math.max(found + near.length,
+						2 * result.length));
+			}
+
+			for (int id : near) {
+				if (x1s[id] <= x2 && x2s[id] >= x1 && y1s[id] <= y2
+						&& y2s[id] >= y1) {
+					result[found++] = id;
+				}
+			}
+		}
+
+		return Arrays.copyOf(result, found);
+	}
+
+	/**
+	 * 
+	 * Finds the middle of two coordinates, rounding down
+	 * 
+	 */
+	private static int center(int a, int b) {
+		return (int) Math.floorDiv((long) a + b, 2);
+	}
+
+	/**
+	 * 
+	 * Creates an array filled with -1
+	 * 
+	 */
+	private static int[] filled(int length) {
+		int[] a = new int[length];
+		Arrays.fill(a, -1);
+		return a;
+	}
+}
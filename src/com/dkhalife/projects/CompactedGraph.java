@@ -0,0 +1,198 @@
+package com.dkhalife.projects;
+
+import java.util.BitSet;
+
+/**
+ * 
+ * This class removes a set of vertices and edges from a CSR graph in a single
+ * pass. The elements to remove are only marked (in a pair of bit sets) while
+ * they are chosen, then the surviving ones are packed into a new graph, and
+ * both the vertices and the edges get new dense ids. The edges of a removed
+ * vertex go away along with it.
+ * 
+ * The new ids keep the order of the old ones, so the arcs of each vertex stay
+ * sorted by edge id and the graph is copied as is, without being built again
+ * from an edge list. The whole operation is linear in the size of the graph,
+ * however many elements are removed.
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+public class CompactedGraph {
+	// The graph made of the surviving elements
+	private final CsrGraph graph;
+
+	// The new id of each old vertex and edge, or -1 if it was removed
+	private final int[] vertexMap;
+	private final int[] edgeMap;
+
+	// The old id of each new vertex and edge
+	private final int[] originalVertices;
+	private final int[] originalEdges;
+
+	/**
+	 * 
+	 * The constructor is private, the result is created by remove()
+	 * 
+	 */
+	private CompactedGraph(CsrGraph graph, int[] vertexMap, int[] edgeMap,
+			int[] originalVertices, int[] originalEdges) {
+		this.graph = graph;
+		this.vertexMap = vertexMap;
+		this.edgeMap = edgeMap;
+		this.originalVertices = originalVertices;
+		this.originalEdges = originalEdges;
+	}
+
+	/**
+	 * 
+	 * Removes vertices and edges from a graph
+	 * 
+	 * @param g The graph, which isn't modified
+	 * @param vertices The vertices to remove (or null)
+	 * @param edges The edges to remove (or null)
+	 * @return The compacted graph, along with the mapping of the ids
+	 * 
+	 */
+	public static CompactedGraph remove(CsrGraph g, BitSet vertices,
+			BitSet edges) {
+		int n = g.vertexCount();
+		int m = g.edgeCount();
+
+		// First, we'll number the surviving vertices
+		int[] vertexMap = new int[n];
+		int kept = 0;
+		for (int v = 0; v < n; ++v) {
+			vertexMap[v] = vertices != null && vertices.get(v) ? -1 : kept++;
+		}
+
+		int[] originalVertices = new int[kept];
+		for (int v = 0; v < n; ++v) {
+			if (vertexMap[v] != -1) {
+				originalVertices[vertexMap[v]] = v;
+			}
+		}
+
+		// Then the surviving edges, which are those still having both ends
+		int[] edgeMap = new int[m];
+		int keptEdges = 0;
+		for (int e = 0; e < m; ++e) {
+			boolean dead = (edges != null && edges.get(e))
+					|| vertexMap[g.edgeSource(e)] == -1
+					|| vertexMap[g.edgeTarget(e)] == -1;
+			edgeMap[e] = dead ? -1 : keptEdges++;
+		}
+
+		int[] originalEdges = new int[keptEdges];
+		int[] edgeSources = new int[keptEdges];
+		int[] edgeTargets = new int[keptEdges];
+		int[] edgeWeights = new int[keptEdges];
+		for (int e = 0; e < m; ++e) {
+			int f = edgeMap[e];
+			if (f != -1) {
+				originalEdges[f] = e;
+				edgeSources[f] = vertexMap[g.edgeSource(e)];
+				edgeTargets[f] = vertexMap[g.edgeTarget(e)];
+				edgeWeights[f] = g.edgeWeight(e);
+			}
+		}
+
+		// And finally the arcs, vertex by vertex, skipping the removed edges
+		int[] offsets = new int[kept + 1];
+		int[] targets = new int[2 * keptEdges];
+		int[] weights = new int[2 * keptEdges];
+		int[] arcEdges = new int[2 * keptEdges];
+		int arcs = 0;
+		for (int i = 0; i < kept; ++i) {
+			int v = originalVertices[i];
+			for (int a = g.firstArc(v), end = g.endArc(v); a < end; ++a) {
+				int f = edgeMap[g.edgeOf(a)];
+				if (f != -1) {
+					targets[arcs] = vertexMap[g.target(a)];
+					weights[arcs] = g.weight(a);
+					arcEdges[arcs++] = f;
+				}
+			}
+			offsets[i + 1] = arcs;
+		}
+
+		// The coordinates follow their vertices
+		int[] xs = null;
+		int[] ys = null;
+		if (g.hasCoordinates()) {
+			xs = new int[kept];
+			ys = new int[kept];
+			for (int i = 0; i < kept; ++i) {
+				xs[i] = g.x(originalVertices[i]);
+				ys[i] = g.y(originalVertices[i]);
+			}
+		}
+
+		CsrGraph compacted = CsrGraph.of(kept, offsets, targets, weights,
+				arcEdges, edgeSources, edgeTargets, edgeWeights, xs, ys);
+
+		return new CompactedGraph(compacted, vertexMap, edgeMap,
+				originalVertices, originalEdges);
+	}
+
+	/**
+	 * 
+	 * Getter for the compacted graph
+	 * 
+	 * @return the graph
+	 * 
+	 */
+	public CsrGraph getGraph() {
+		return graph;
+	}
+
+	/**
+	 * 
+	 * Maps an old vertex to its new id
+	 * 
+	 * @param v The old id
+	 * @return The new id, or -1 if the vertex was removed
+	 * 
+	 */
+	public int vertex(int v) {
+		return vertexMap[v];
+	}
+
+	/**
+	 * 
+	 * Maps an old edge to its new id
+	 * 
+	 * @param e The old id
+	 * @return The new id, or -1 if the edge was removed
+	 * 
+	 */
+	public int edge(int e) {
+		return edgeMap[e];
+	}
+
+	/**
+	 * 
+	 * Maps a new vertex back to its old id
+	 * 
+	 * @param v The new id
+	 * @return The old id
+	 * 
+	 */
+	public int originalVertex(int v) {
+		return originalVertices[v];
+	}
+
+	/**
+	 * 
+	 * Maps a new edge back to its old id
+	 * 
+	 * @param e The new id
+	 * @return The old id
+	 * 
+	 */
+	public int originalEdge(int e) {
+		return originalEdges[e];
+	}
+}
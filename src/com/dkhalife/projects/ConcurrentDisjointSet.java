@@ -0,0 +1,138 @@
+package com.dkhalife.projects;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 
+ * This class implements a lock-free Disjoint Set which can be shared between
+ * threads. Parents are updated with compare-and-set only: find uses path
+ * halving (a failed CAS simply means another thread already shortened the
+ * path) and union links roots by a randomized index, which keeps the trees
+ * shallow without having to maintain ranks.
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+public class ConcurrentDisjointSet {
+	// The parent of each element (roots are their own parent)
+	private final AtomicIntegerArray parents;
+
+	/**
+	 * 
+	 * A Disjoint Set is created by specifying the universe size
+	 * 
+	 * @param size The universe size (How many elements are there in total)
+	 * 
+	 */
+	public ConcurrentDisjointSet(int size) {
+		parents = new AtomicIntegerArray(size);
+		for (int i = 0; i < size; ++i) {
+			parents.set(i, i);
+		}
+	}
+
+	/**
+	 * 
+	 * This method is used to search an element's set (defined by its root)
+	 * 
+	 * @param x The element to look for
+	 * @return The root element of the element's set at some point during the
+	 * call
+	 * 
+	 */
+	public int find(int x) {
+		while (true) {
+			int p = parents.get(x);
+			if (p == x)
+				return x;
+
+			// Point x to its grandparent and move on to it
+			int gp = parents.get(p);
+			if (p != gp) {
+				parents.compareAndSet(x, p, gp);
+			}
+			x = gp;
+		}
+	}
+
+	/**
+	 * 
+	 * A union will join both elements' respective sets
+	 * 
+	 * @param el1 The first element
+	 * @param el2 The second element
+	 * @return true if the sets were disjoint and got joined by this call
+	 * 
+	 */
+	public boolean union(int el1, int el2) {
+		while (true) {
+			int root1 = find(el1);
+			int root2 = find(el2);
+			if (root1 == root2)
+				return false;
+
+			// Always link the root with the lowest priority under the other
+			// one, so that no cycle can ever be created
+			if (priority(root1) > priority(root2)) {
+				int t = root1;
+				root1 = root2;
+				root2 = t;
+			}
+
+			// This only fails if another thread linked root1 in the meantime
+			if (parents.compareAndSet(root1, root1, root2))
+				return true;
+
+			el1 = root1;
+			el2 = root2;
+		}
+	}
+
+	/**
+	 * 
+	 * Checks whether two elements are in the same set. This is safe to call
+	 * while other threads are joining sets: a false answer means the elements
+	 * were in different sets at some point during the call.
+	 * 
+	 * @param el1 The first element
+	 * @param el2 The second element
+	 * @return true if both elements are in the same set
+	 * 
+	 */
+	public boolean sameSet(int el1, int el2) {
+		while (true) {
+			int root1 = find(el1);
+			int root2 = find(el2);
+			if (root1 == root2)
+				return true;
+
+			// If root1 is still a root, both were in different sets when root2
+			// was found
+			if (parents.get(root1) == root1)
+				return false;
+
+			el1 = root1;
+			el2 = root2;
+		}
+	}
+
+	/**
+	 * 
+	 * Gives each element a pseudo random priority. The mixing function is a
+	 * bijection so no two elements share the same priority.
+	 * 
+	 * @param x The element
+	 * @return Its priority
+	 * 
+	 */
+	private static int priority(int x) {
+		x ^= x >>> 16;
+		x *= 0x85EBCA6B;
+		x ^= x >>> 13;
+		x *= 0xC2B2AE35;
+		x ^= x >>> 16;
+		return x;
+	}
+}
@@ -0,0 +1,600 @@
+package com.dkhalife.projects;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 
+ * This class implements a Contraction Hierarchy: the vertices of a graph are
+ * ranked and contracted one after the other, and shortcuts are added so that
+ * the distances between the remaining vertices are preserved. A shortest path
+ * can then be found by two searches which only climb towards higher ranks, one
+ * from each end, which settle a few hundred vertices even on huge road graphs.
+ * 
+ * Since the graphs are undirected, the arcs going down the hierarchy are
+ * simply the arcs going up walked backwards, so only the upward arcs are
+ * stored, in CSR form. Edge ids below the number of edges of the original
+ * graph are original edges, the others are shortcuts made of two edges.
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+public class ContractionHierarchy {
+	// The usual extension for these files
+	public static final String EXTENSION = "ch";
+
+	// The first four bytes of the file: "GRCH"
+	private static final int MAGIC = 0x48435247;
+
+	// The current version of the format
+	private static final int VERSION = 1;
+
+	// The size of the header
+	private static final int HEADER = 24;
+
+	// The number of vertices
+	private final int n;
+
+	// The number of edges of the original graph
+	private final int m;
+
+	// The rank of each vertex, in contraction order
+	private final int[] ranks;
+
+	// The upward arcs of vertex v are stored in [offsets[v], offsets[v + 1])
+	private final int[] offsets;
+	private final int[] targets;
+	private final int[] weights;
+	private final int[] arcEdges;
+
+	// The shortcuts, indexed by edge id minus m: the end touched by the first
+	// half, the vertex in the middle and both halves
+	private final int[] shortcutSources;
+	private final int[] shortcutMiddles;
+	private final int[] shortcutFirsts;
+	private final int[] shortcutSeconds;
+
+	// The scratch space of the queries which aren't running. A query takes
+	// one and gives it back once done, so there are never more of them than
+	// queries running at once, and the threads don't keep any once the
+	// hierarchy is dropped.
+	private final ArrayDeque<Query> queries = new ArrayDeque<Query>();
+
+	/**
+	 * 
+	 * A hierarchy is constructed from the arrays produced by the contraction
+	 * 
+	 */
+	ContractionHierarchy(int n, int m, int[] ranks, int[] offsets,
+			int[] targets, int[] weights, int[] arcEdges,
+			int[] shortcutSources, int[] shortcutMiddles,
+			int[] shortcutFirsts, int[] shortcutSeconds) {
+		this.n = n;
+		this.m = m;
+		this.ranks = ranks;
+		this.offsets = offsets;
+		this.targets = targets;
+		this.weights = weights;
+		this.arcEdges = arcEdges;
+		this.shortcutSources = shortcutSources;
+		this.shortcutMiddles = shortcutMiddles;
+		this.shortcutFirsts = shortcutFirsts;
+		this.shortcutSeconds = shortcutSeconds;
+	}
+
+	/**
+	 * 
+	 * Builds the hierarchy of a graph on the common pool
+	 * 
+	 * @param g The graph
+	 * @return The hierarchy
+	 * 
+	 */
+	public static ContractionHierarchy build(CsrGraph g) {
+		return build(g, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * 
+	 * Builds the hierarchy of a graph
+	 * 
+	 * @param g The graph
+	 * @param pool The pool to run in
+	 * @return The hierarchy
+	 * 
+	 */
+	public static ContractionHierarchy build(CsrGraph g, ForkJoinPool pool) {
+		return HierarchyBuilder.build(g, pool);
+	}
+
+	/**
+	 * 
+	 * Getter for the number of vertices
+	 * 
+	 * @return The number of vertices
+	 * 
+	 */
+	public int vertexCount() {
+		return n;
+	}
+
+	/**
+	 * 
+	 * Getter for the number of edges of the original graph
+	 * 
+	 * @return The number of edges
+	 * 
+	 */
+	public int edgeCount() {
+		return m;
+	}
+
+	/**
+	 * 
+	 * Getter for the number of shortcuts
+	 * 
+	 * @return The number of shortcuts
+	 * 
+	 */
+	public int shortcutCount() {
+		return shortcutSources.length;
+	}
+
+	/**
+	 * 
+	 * Getter for the rank of a vertex
+	 * 
+	 * @param v The vertex
+	 * @return Its position in the contraction order
+	 * 
+	 */
+	public int rank(int v) {
+		return ranks[v];
+	}
+
+	/**
+	 * 
+	 * Computes the shortest path from a source to a destination. This is safe
+	 * to call from many threads at once.
+	 * 
+	 * @param source The source vertex
+	 * @param destination The destination vertex
+	 * @return The path, made of edges of the original graph
+	 * 
+	 */
+	public ShortestPath shortestPath(int source, int destination) {
+		if (source < 0 || source >= n)
+			throw new IndexOutOfBoundsException("No such vertex: " + source);
+		if (destination < 0 || destination >= n)
+			throw new IndexOutOfBoundsException("No such vertex: "
+					+ destination);
+
+		Query q;
+		synchronized (queries) {
+			q = queries.poll();
+		}
+		if (q == null) {
+			q = new Query();
+		}
+
+		ShortestPath path = q.run(source, destination);
+		synchronized (queries) {
+			queries.push(q);
+		}
+
+		return path;
+	}
+
+	/**
+	 * 
+	 * Writes the hierarchy to a file, in the same spirit as GraphFile: a 24
+	 * bytes header (magic number, version, n, m, number of shortcuts, number
+	 * of arcs) followed by the arrays
+	 * 
+	 * @param path The file
+	 * @throws IOException If the file can't be written
+	 * 
+	 */
+	public void save(Path path) throws IOException {
+		try (FileChannel channel = FileChannel.open(path,
+				StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20).order(
+					ByteOrder.LITTLE_ENDIAN);
+
+			buffer.putInt(MAGIC).putInt(VERSION).putInt(n).putInt(m);
+			buffer.putInt(shortcutCount()).putInt(targets.length);
+			buffer.flip();
+			GraphFile.write(channel, buffer);
+
+			GraphFile.write(channel, buffer, ranks);
+			GraphFile.write(channel, buffer, offsets);
+			GraphFile.write(channel, buffer, targets);
+			GraphFile.write(channel, buffer, weights);
+			GraphFile.write(channel, buffer, arcEdges);
+			GraphFile.write(channel, buffer, shortcutSources);
+			GraphFile.write(channel, buffer, shortcutMiddles);
+			GraphFile.write(channel, buffer, shortcutFirsts);
+			GraphFile.write(channel, buffer, shortcutSeconds);
+		}
+	}
+
+	/**
+	 * 
+	 * Reads a hierarchy from a file
+	 * 
+	 * @param path The file
+	 * @return The hierarchy
+	 * @throws IOException If the file can't be read or isn't a hierarchy
+	 * 
+	 */
+	public static ContractionHierarchy load(Path path) throws IOException {
+		try (FileChannel channel = FileChannel.open(path,
+				StandardOpenOption.READ)) {
+			if (channel.size() < HEADER)
+				throw new IOException("Not a hierarchy file: " + path);
+
+			ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0,
+					HEADER).order(ByteOrder.LITTLE_ENDIAN);
+			if (header.getInt() != MAGIC)
+				throw new IOException("Not a hierarchy file: " + path);
+
+			int version = header.getInt();
+			if (version != VERSION)
+				throw new IOException("Unsupported hierarchy file version: "
+						+ version);
+
+			int n = header.getInt();
+			int m = header.getInt();
+			int k = header.getInt();
+			int arcs = header.getInt();
+
+			// Make sure the file is as long as the header says
+			long expected = HEADER + 4L * (2L * n + 1 + 3L * arcs + 4L * k);
+			if (n < 0 || m < 0 || k < 0 || arcs < 0
+					|| channel.size() != expected)
+				throw new IOException("Truncated hierarchy file: " + path);
+
+			long position = HEADER;
+			int[] ranks = GraphFile.read(channel, position, n);
+			position += 4L * n;
+			int[] offsets = GraphFile.read(channel, position, n + 1);
+			position += 4L * (n + 1);
+			int[] targets = GraphFile.read(channel, position, arcs);
+			position += 4L * arcs;
+			int[] weights = GraphFile.read(channel, position, arcs);
+			position += 4L * arcs;
+			int[] arcEdges = GraphFile.read(channel, position, arcs);
+			position += 4L * arcs;
+			int[] shortcutSources = GraphFile.read(channel, position, k);
+			position += 4L * k;
+			int[] shortcutMiddles = GraphFile.read(channel, position, k);
+			position += 4L * k;
+			int[] shortcutFirsts = GraphFile.read(channel, position, k);
+			position += 4L * k;
+			int[] shortcutSeconds = GraphFile.read(channel, position, k);
+
+			validate(path, n, m, ranks, offsets, targets, weights, arcEdges,
+					shortcutSources, shortcutMiddles, shortcutFirsts,
+					shortcutSeconds);
+
+			return new ContractionHierarchy(n, m, ranks, offsets, targets,
+					weights, arcEdges, shortcutSources, shortcutMiddles,
+					shortcutFirsts, shortcutSeconds);
+		}
+	}
+
+	/**
+	 * 
+	 * Makes sure the arrays read from a file describe a hierarchy, like
+	 * GraphFile does for graphs, so that a corrupted file is rejected here
+	 * rather than when a query runs into it. The ranks must order the
+	 * vertices, the offsets go up from 0 to the number of arcs, every arc
+	 * climb to a higher rank with a valid weight and an edge id, and every
+	 * shortcut stand for two edges created before it, around a vertex ranked
+	 * below the end it touches. Unpacking a path then always ends.
+	 * 
+	 * @throws IOException If they don't
+	 * 
+	 */
+	private static void validate(Path path, int n, int m, int[] ranks,
+			int[] offsets, int[] targets, int[] weights, int[] arcEdges,
+			int[] shortcutSources, int[] shortcutMiddles,
+			int[] shortcutFirsts, int[] shortcutSeconds) throws IOException {
+		int k = shortcutSources.length;
+		if ((long) m + k > Integer.MAX_VALUE)
+			throw new IOException("Corrupted hierarchy file: " + path
+					+ " (too many edges)");
+
+		boolean[] ranked = new boolean[n];
+		for (int v = 0; v < n; ++v) {
+			int r = ranks[v];
+			if (r < 0 || r >= n || ranked[r])
+				throw new IOException("Corrupted hierarchy file: " + path
+						+ " (invalid rank for vertex " + v + ")");
+			ranked[r] = true;
+		}
+
+		for (int s = 0; s < k; ++s) {
+			int source = shortcutSources[s];
+			int middle = shortcutMiddles[s];
+			if (source < 0 || source >= n || middle < 0 || middle >= n
+					|| ranks[middle] >= ranks[source])
+				throw new IOException("Corrupted hierarchy file: " + path
+						+ " (shortcut " + (m + s) + " has an invalid vertex)");
+
+			// The halves existed before the shortcut, so unpacking goes down
+			// to lower ids until only original edges are left
+			if (shortcutFirsts[s] < 0 || shortcutFirsts[s] >= m + s
+					|| shortcutSeconds[s] < 0 || shortcutSeconds[s] >= m + s)
+				throw new IOException("Corrupted hierarchy file: " + path
+						+ " (shortcut " + (m + s) + " has an invalid half)");
+		}
+
+		// All the offsets are checked before any arc is read through them
+		if (offsets[0] != 0 || offsets[n] != targets.length)
+			throw new IOException("Corrupted hierarchy file: " + path
+					+ " (invalid offsets)");
+		for (int v = 0; v < n; ++v) {
+			if (offsets[v] > offsets[v + 1])
+				throw new IOException("Corrupted hierarchy file: " + path
+						+ " (invalid offsets)");
+		}
+
+		for (int v = 0; v < n; ++v) {
+			for (int a = offsets[v]; a < offsets[v + 1]; ++a) {
+				int w = targets[a];
+				int e = arcEdges[a];
+				if (w < 0 || w >= n || e < 0 || e >= m + k)
+					throw new IOException("Corrupted hierarchy file: " + path
+							+ " (arc " + a + " has an invalid id)");
+
+				if (ranks[w] <= ranks[v])
+					throw new IOException("Corrupted hierarchy file: " + path
+							+ " (arc " + a + " doesn't go up)");
+
+				if (weights[a] < 0 || weights[a] > CsrGraph.MAX_WEIGHT)
+					throw new IOException("Corrupted hierarchy file: " + path
+							+ " (arc " + a + " has an invalid weight)");
+
+				// A shortcut is unpacked from the end it touches
+				if (e >= m && shortcutSources[e - m] != v
+						&& shortcutSources[e - m] != w)
+					throw new IOException("Corrupted hierarchy file: " + path
+							+ " (arc " + a + " doesn't match shortcut " + e
+							+ ")");
+			}
+		}
+	}
+
+	/**
+	 * 
+	 * This class holds the scratch space of a query, reused by the next ones
+	 * so that a query only costs as much as the vertices it touches
+	 * 
+	 */
+	private class Query {
+		// The forward (0) and backward (1) searches
+		private final int[][] distances = new int[2][n];
+		private final int[][] parents = new int[2][n];
+		private final int[][] parentEdges = new int[2][n];
+		private final DaryHeap[] heaps = { new DaryHeap(n), new DaryHeap(n) };
+
+		// The vertices reached by both searches
+		private final int[][] touched = new int[2][n];
+		private final int[] counts = new int[2];
+
+		// The edges being unpacked and the vertex each one starts from
+		private int[] stackEdges = new int[16];
+		private int[] stackFroms = new int[16];
+
+		/**
+		 * 
+		 * The distances start infinite
+		 * 
+		 */
+		Query() {
+			Arrays.fill(distances[0], ShortestPathTree.INFINITY);
+			Arrays.fill(distances[1], ShortestPathTree.INFINITY);
+		}
+
+		/**
+		 * 
+		 * Runs a query
+		 * 
+		 * @param source The source vertex
+		 * @param destination The destination vertex
+		 * @return The path
+		 * 
+		 */
+		ShortestPath run(int source, int destination) {
+			reach(0, source, 0, -1, -1);
+			reach(1, destination, 0, -1, -1);
+
+			// The best path found so far goes up to meet, then down. One as
+			// long as INFINITY wouldn't fit in a distance, so it's never
+			// taken.
+			long mu = ShortestPathTree.INFINITY;
+			int meet = -1;
+
+			int settled = 0;
+			while (true) {
+				// A search is over once its queue can't improve on mu
+				boolean forward = !heaps[0].isEmpty() && heaps[0].minKey() < mu;
+				boolean backward = !heaps[1].isEmpty()
+						&& heaps[1].minKey() < mu;
+				if (!forward && !backward)
+					break;
+
+				// We'll grow the search with the smallest radius
+				int side = forward
+						&& (!backward || heaps[0].minKey() <= heaps[1].minKey()) ? 0
+						: 1;
+
+				int u = heaps[side].poll();
+				int d = distances[side][u];
+				++settled;
+
+				// If the other search reached this vertex, we have a path
+				int other = distances[1 - side][u];
+				if (other != ShortestPathTree.INFINITY && (long) d + other < mu) {
+					mu = (long) d + other;
+					meet = u;
+				}
+
+				// Only climb towards higher ranks
+				for (int a = offsets[u]; a < offsets[u + 1]; ++a) {
+					int v = targets[a];
+					int alt = ShortestPathTree.extend(d, weights[a]);
+					if (alt < distances[side][v]) {
+						reach(side, v, alt, u, arcEdges[a]);
+					}
+				}
+			}
+
+			ShortestPath path;
+			if (meet == -1) {
+				path = new ShortestPath(source, destination,
+						ShortestPathTree.INFINITY, null, settled);
+			}
+			else {
+				path = new ShortestPath(source, destination, (int) mu,
+						unpack(meet), settled);
+			}
+
+			reset();
+			return path;
+		}
+
+		/**
+		 * 
+		 * Updates the distance of a vertex in one of the searches
+		 * 
+		 */
+		private void reach(int side, int v, int distance, int parent, int edge) {
+			if (distances[side][v] == ShortestPathTree.INFINITY) {
+				touched[side][counts[side]++] = v;
+				heaps[side].insert(v, distance);
+			}
+			else {
+				heaps[side].decreaseKey(v, distance);
+			}
+
+			distances[side][v] = distance;
+			parents[side][v] = parent;
+			parentEdges[side][v] = edge;
+		}
+
+		/**
+		 * 
+		 * Rebuilds the path going through a vertex, replacing the shortcuts by
+		 * the edges they stand for
+		 * 
+		 * @param meet The highest vertex of the path
+		 * @return The edges of the original graph, in order from the source
+		 * 
+		 */
+		private int[] unpack(int meet) {
+			int[] path = new int[16];
+			int length = 0;
+
+			// The upward half is pushed on the stack from the top, so that the
+			// edge leaving the source comes out first
+			int size = 0;
+			for (int v = meet; parents[0][v] != -1; v = parents[0][v]) {
+				size = push(size, parentEdges[0][v], parents[0][v]);
+			}
+
+			// The downward half is unpacked right after, we'll keep it aside
+			// in the order it must come out
+			int downward = 0;
+			for (int v = meet; parents[1][v] != -1; v = parents[1][v]) {
+				++downward;
+			}
+			int[] downEdges = new int[downward];
+			int[] downFroms = new int[downward];
+			int i = 0;
+			for (int v = meet; parents[1][v] != -1; v = parents[1][v]) {
+				downEdges[i] = parentEdges[1][v];
+				downFroms[i++] = v;
+			}
+
+			// Unpack the upward half, then each edge of the downward half
+			for (int j = 0; j <= downward; ++j) {
+				if (j > 0) {
+					size = push(size, downEdges[j - 1], downFroms[j - 1]);
+				}
+
+				while (size > 0) {
+					int e = stackEdges[--size];
+					int from = stackFroms[size];
+
+					if (e < m) {
+						if (length == path.length) {
+							path = Arrays.copyOf(path, 2 * length);
+						}
+						path[length++] = e;
+						continue;
+					}
+
+					// The half touching from comes out first, so it's pushed
+					// last
+					int s = e - m;
+					int middle = shortcutMiddles[s];
+					if (from == shortcutSources[s]) {
+						size = push(size, shortcutSeconds[s], middle);
+						size = push(size, shortcutFirsts[s], from);
+					}
+					else {
+						size = push(size, shortcutFirsts[s], middle);
+						size = push(size, shortcutSeconds[s], from);
+					}
+				}
+			}
+
+			return Arrays.copyOf(path, length);
+		}
+
+		/**
+		 * 
+		 * Pushes an edge on the unpacking stack
+		 * 
+		 * @return The new size of the stack
+		 * 
+		 */
+		private int push(int size, int edge, int from) {
+			if (size == stackEdges.length) {
+				stackEdges = Arrays.copyOf(stackEdges, 2 * size);
+				stackFroms = Arrays.copyOf(stackFroms, 2 * size);
+			}
+
+			stackEdges[size] = edge;
+			stackFroms[size] = from;
+			return size + 1;
+		}
+
+		/**
+		 * 
+		 * Puts the touched distances back to infinity for the next query
+		 * 
+		 */
+		private void reset() {
+			for (int side = 0; side < 2; ++side) {
+				for (int i = 0; i < counts[side]; ++i) {
+					distances[side][touched[side][i]] = ShortestPathTree.INFINITY;
+				}
+				counts[side] = 0;
+				heaps[side].clear();
+			}
+		}
+	}
+}
@@ -0,0 +1,445 @@
+package com.dkhalife.projects;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 
+ * This class implements an immutable, undirected graph stored in Compressed
+ * Sparse Row (CSR) form. Every undirected edge is stored as two arcs (one in
+ * each direction) so that walking the neighbors of a vertex is a sequential
+ * scan over primitive arrays instead of a walk through linked nodes.
+ * 
+ * Vertices are identified by a dense index in [0, vertexCount()) and edges by
+ * a dense id in [0, edgeCount()).
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+public class CsrGraph {
+	// The largest weight an edge can have, just below the distance of the
+	// vertices that can't be reached. The searches add weights without
+	// overflowing, a path longer than that is simply never taken.
+	public static final int MAX_WEIGHT = ShortestPathTree.INFINITY - 1;
+
+	// Below this number of edges, graphs are always built sequentially
+	private static final int PARALLEL_THRESHOLD = 1 << 16;
+
+	// The number of vertices
+	private final int n;
+
+	// The arcs of vertex v are stored in [offsets[v], offsets[v + 1])
+	private final int[] offsets;
+
+	// The vertex each arc leads to
+	private final int[] targets;
+
+	// The weight of each arc
+	private final int[] weights;
+
+	// The id of the undirected edge each arc belongs to
+	private final int[] arcEdges;
+
+	// Both endpoints and the weight of every edge, indexed by edge id
+	private final int[] edgeSources;
+	private final int[] edgeTargets;
+	private final int[] edgeWeights;
+
+	// The (optional) grid coordinates of the vertices
+	private final int[] xs;
+	private final int[] ys;
+
+	/**
+	 * 
+	 * The constructor is private, graphs are created through the factory
+	 * methods which take care of building the arrays
+	 * 
+	 */
+	private CsrGraph(int n, int[] offsets, int[] targets, int[] weights,
+			int[] arcEdges, int[] edgeSources, int[] edgeTargets,
+			int[] edgeWeights, int[] xs, int[] ys) {
+		this.n = n;
+		this.offsets = offsets;
+		this.targets = targets;
+		this.weights = weights;
+		this.arcEdges = arcEdges;
+		this.edgeSources = edgeSources;
+		this.edgeTargets = edgeTargets;
+		this.edgeWeights = edgeWeights;
+		this.xs = xs;
+		this.ys = ys;
+	}
+
+	/**
+	 * 
+	 * Builds a CSR graph out of an edge list. The arrays passed to this method
+	 * become owned by the graph and must not be modified afterwards.
+	 * 
+	 * @param n The number of vertices
+	 * @param sources The first endpoint of each edge
+	 * @param destinations The second endpoint of each edge
+	 * @param weights The weight of each edge
+	 * @param xs The X coordinate of each vertex (or null)
+	 * @param ys The Y coordinate of each vertex (or null)
+	 * @return The CSR representation of the graph
+	 * 
+	 */
+	public static CsrGraph fromEdges(int n, int[] sources, int[] destinations,
+			int[] weights, int[] xs, int[] ys) {
+		int m = sources.length;
+
+		// First pass, we'll count the degree of every vertex
+		int[] offsets = new int[n + 1];
+		for (int e = 0; e < m; ++e) {
+			++offsets[sources[e] + 1];
+			++offsets[destinations[e] + 1];
+		}
+
+		// Turn the degrees into offsets
+		for (int v = 0; v < n; ++v) {
+			offsets[v + 1] += offsets[v];
+		}
+
+		// Second pass, we'll place each arc in its slot
+		int[] cursor = new int[n];
+		System.arraycopy(offsets, 0, cursor, 0, n);
+
+		int[] targets = new int[2 * m];
+		int[] arcWeights = new int[2 * m];
+		int[] arcEdges = new int[2 * m];
+		for (int e = 0; e < m; ++e) {
+			int u = sources[e];
+			int v = destinations[e];
+
+			int a = cursor[u]++;
+			targets[a] = v;
+			arcWeights[a] = weights[e];
+			arcEdges[a] = e;
+
+			a = cursor[v]++;
+			targets[a] = u;
+			arcWeights[a] = weights[e];
+			arcEdges[a] = e;
+		}
+
+		return new CsrGraph(n, offsets, targets, arcWeights, arcEdges, sources,
+				destinations, weights, xs, ys);
+	}
+
+	/**
+	 * 
+	 * Builds a CSR graph out of an edge list in parallel. The graph is exactly
+	 * the one the sequential version would build, and the arrays passed to
+	 * this method become owned by the graph as well.
+	 * 
+	 * @param n The number of vertices
+	 * @param sources The first endpoint of each edge
+	 * @param destinations The second endpoint of each edge
+	 * @param weights The weight of each edge
+	 * @param xs The X coordinate of each vertex (or null)
+	 * @param ys The Y coordinate of each vertex (or null)
+	 * @param pool The pool to run in
+	 * @return The CSR representation of the graph
+	 * 
+	 */
+	public static CsrGraph fromEdges(final int n, final int[] sources,
+			final int[] destinations, final int[] weights, int[] xs, int[] ys,
+			ForkJoinPool pool) {
+		int m = sources.length;
+		if (m < PARALLEL_THRESHOLD || pool.getParallelism() == 1)
+			return fromEdges(n, sources, destinations, weights, xs, ys);
+
+		// First pass, we'll count the degree of every vertex
+		final AtomicIntegerArray degrees = new AtomicIntegerArray(n + 1);
+		int grain = ParallelFor.grain(pool, m, 4096);
+		ParallelFor.run(pool, 0, m, grain, new ParallelFor.Body() {
+			public void run(int from, int to) {
+				for (int e = from; e < to; ++e) {
+					degrees.incrementAndGet(sources[e] + 1);
+					degrees.incrementAndGet(destinations[e] + 1);
+				}
+			}
+		});
+
+		// Turn the degrees into offsets, the counters are then reused as the
+		// cursor of each vertex
+		final int[] offsets = new int[n + 1];
+		for (int v = 0; v < n; ++v) {
+			offsets[v + 1] = offsets[v] + degrees.get(v + 1);
+		}
+
+		final AtomicIntegerArray cursor = degrees;
+		for (int v = 0; v < n; ++v) {
+			cursor.set(v, offsets[v]);
+		}
+
+		// Second pass, we'll claim a slot for both arcs of each edge
+		final int[] arcEdges = new int[2 * m];
+		ParallelFor.run(pool, 0, m, grain, new ParallelFor.Body() {
+			public void run(int from, int to) {
+				for (int e = from; e < to; ++e) {
+					arcEdges[cursor.getAndIncrement(sources[e])] = e;
+					arcEdges[cursor.getAndIncrement(destinations[e])] = e;
+				}
+			}
+		});
+
+		// The slots were claimed in no particular order, sorting the arcs of
+		// each vertex by edge id gives the same layout as the sequential build.
+		// Then the targets and the weights simply follow from the edges.
+		final int[] targets = new int[2 * m];
+		final int[] arcWeights = new int[2 * m];
+		ParallelFor.run(pool, 0, n, ParallelFor.grain(pool, n, 1024),
+				new ParallelFor.Body() {
+					public void run(int from, int to) {
+						for (int v = from; v < to; ++v) {
+							Arrays.sort(arcEdges, offsets[v], offsets[v + 1]);
+
+							for (int a = offsets[v]; a < offsets[v + 1]; ++a) {
+								int e = arcEdges[a];
+								targets[a] = sources[e] == v ? destinations[e]
+										: sources[e];
+								arcWeights[a] = weights[e];
+							}
+						}
+					}
+				});
+
+		return new CsrGraph(n, offsets, targets, arcWeights, arcEdges, sources,
+				destinations, weights, xs, ys);
+	}
+
+	/**
+	 * 
+	 * Wraps arrays which already form a valid CSR graph, as read from a file,
+	 * without rebuilding anything
+	 * 
+	 */
+	static CsrGraph of(int n, int[] offsets, int[] targets, int[] weights,
+			int[] arcEdges, int[] edgeSources, int[] edgeTargets,
+			int[] edgeWeights, int[] xs, int[] ys) {
+		return new CsrGraph(n, offsets, targets, weights, arcEdges,
+				edgeSources, edgeTargets, edgeWeights, xs, ys);
+	}
+
+	/**
+	 * 
+	 * Getter for the number of vertices
+	 * 
+	 * @return The number of vertices
+	 * 
+	 */
+	public int vertexCount() {
+		return n;
+	}
+
+	/**
+	 * 
+	 * Getter for the number of (undirected) edges
+	 * 
+	 * @return The number of edges
+	 * 
+	 */
+	public int edgeCount() {
+		return edgeSources.length;
+	}
+
+	/**
+	 * 
+	 * Getter for the index of the first arc departing from a vertex
+	 * 
+	 * @param v The vertex
+	 * @return The index of its first arc
+	 * 
+	 */
+	public int firstArc(int v) {
+		return offsets[v];
+	}
+
+	/**
+	 * 
+	 * Getter for the index following the last arc departing from a vertex
+	 * 
+	 * @param v The vertex
+	 * @return The (exclusive) end of its arcs
+	 * 
+	 */
+	public int endArc(int v) {
+		return offsets[v + 1];
+	}
+
+	/**
+	 * 
+	 * Getter for the degree of a vertex
+	 * 
+	 * @param v The vertex
+	 * @return The number of arcs departing from it
+	 * 
+	 */
+	public int degree(int v) {
+		return offsets[v + 1] - offsets[v];
+	}
+
+	/**
+	 * 
+	 * Getter for the vertex an arc leads to
+	 * 
+	 * @param a The arc
+	 * @return The target of the arc
+	 * 
+	 */
+	public int target(int a) {
+		return targets[a];
+	}
+
+	/**
+	 * 
+	 * Getter for the weight of an arc
+	 * 
+	 * @param a The arc
+	 * @return The weight of the arc
+	 * 
+	 */
+	public int weight(int a) {
+		return weights[a];
+	}
+
+	/**
+	 * 
+	 * Getter for the edge an arc belongs to
+	 * 
+	 * @param a The arc
+	 * @return The id of the edge
+	 * 
+	 */
+	public int edgeOf(int a) {
+		return arcEdges[a];
+	}
+
+	/**
+	 * 
+	 * Getter for the first endpoint of an edge
+	 * 
+	 * @param e The edge id
+	 * @return The first endpoint
+	 * 
+	 */
+	public int edgeSource(int e) {
+		return edgeSources[e];
+	}
+
+	/**
+	 * 
+	 * Getter for the second endpoint of an edge
+	 * 
+	 * @param e The edge id
+	 * @return The second endpoint
+	 * 
+	 */
+	public int edgeTarget(int e) {
+		return edgeTargets[e];
+	}
+
+	/**
+	 * 
+	 * Getter for the weight of an edge
+	 * 
+	 * @param e The edge id
+	 * @return The weight of the edge
+	 * 
+	 */
+	public int edgeWeight(int e) {
+		return edgeWeights[e];
+	}
+
+	/**
+	 * 
+	 * Since edges are not oriented, this method returns the endpoint of an edge
+	 * which is not the given vertex
+	 * 
+	 * @param e The edge id
+	 * @param v One of its endpoints
+	 * @return The other endpoint
+	 * 
+	 */
+	public int opposite(int e, int v) {
+		int u = edgeSources[e];
+		return u == v ? edgeTargets[e] : u;
+	}
+
+	/**
+	 * 
+	 * Checks whether the vertices of this graph carry coordinates
+	 * 
+	 * @return true if the coordinates are available
+	 * 
+	 */
+	public boolean hasCoordinates() {
+		return xs != null && ys != null;
+	}
+
+	/**
+	 * 
+	 * Getter for the X coordinate of a vertex
+	 * 
+	 * @param v The vertex
+	 * @return The X coordinate
+	 * 
+	 */
+	public int x(int v) {
+		return xs[v];
+	}
+
+	/**
+	 * 
+	 * Getter for the Y coordinate of a vertex
+	 * 
+	 * @param v The vertex
+	 * @return The Y coordinate
+	 * 
+	 */
+	public int y(int v) {
+		return ys[v];
+	}
+
+	// The raw arrays, for the classes which store or transform whole graphs
+
+	int[] offsets() {
+		return offsets;
+	}
+
+	int[] targets() {
+		return targets;
+	}
+
+	int[] weights() {
+		return weights;
+	}
+
+	int[] arcEdges() {
+		return arcEdges;
+	}
+
+	int[] edgeSources() {
+		return edgeSources;
+	}
+
+	int[] edgeTargets() {
+		return edgeTargets;
+	}
+
+	int[] edgeWeights() {
+		return edgeWeights;
+	}
+
+	int[] xs() {
+		return xs;
+	}
+
+	int[] ys() {
+		return ys;
+	}
+}
@@ -0,0 +1,192 @@
+package com.dkhalife.projects;
+
+import java.util.Arrays;
+
+/**
+ * 
+ * This class implements an indexed d-ary min heap. The positions of the items
+ * are tracked so that decreasing a key is a simple sift up in O(log n).
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+public class DaryHeap implements IndexedHeap {
+	// The default arity, which keeps the tree shallow while a node's children
+	// still fit in a cache line
+	public static final int DEFAULT_ARITY = 4;
+
+	// The number of children per node
+	private final int d;
+
+	// The items, in heap order
+	private final int[] heap;
+
+	// The position of each item in the heap (or -1)
+	private final int[] positions;
+
+	// The key of each item
+	private final int[] keys;
+
+	// The number of items in the heap
+	private int size = 0;
+
+	/**
+	 * 
+	 * A heap is constructed with the default arity and the number of items it
+	 * can hold
+	 * 
+	 * @param capacity The number of items
+	 * 
+	 */
+	public DaryHeap(int capacity) {
+		this(capacity, DEFAULT_ARITY);
+	}
+
+	/**
+	 * 
+	 * A heap is constructed with the number of items it can hold and the
+	 * number of children per node
+	 * 
+	 * @param capacity The number of items
+	 * @param arity The number of children per node (at least 2)
+	 * 
+	 */
+	public DaryHeap(int capacity, int arity) {
+		if (arity < 2)
+			throw new IllegalArgumentException("The arity must be at least 2");
+
+		d = arity;
+		heap = new int[capacity];
+		keys = new int[capacity];
+		positions = new int[capacity];
+		Arrays.fill(positions, -1);
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean contains(int item) {
+		return positions[item] != -1;
+	}
+
+	public int key(int item) {
+		return keys[item];
+	}
+
+	public void insert(int item, int key) {
+		keys[item] = key;
+		siftUp(item, size++);
+	}
+
+	public void decreaseKey(int item, int key) {
+		if (positions[item] == -1)
+			throw new IllegalArgumentException("Not in the heap: " + item);
+		if (key > keys[item])
+			throw new IllegalArgumentException("Greater key for " + item + ": "
+					+ key + " > " + keys[item]);
+
+		keys[item] = key;
+		siftUp(item, positions[item]);
+	}
+
+	public int minKey() {
+		return keys[heap[0]];
+	}
+
+	public int poll() {
+		int min = heap[0];
+		positions[min] = -1;
+
+		// Move the last item to the root and let it sink
+		int last = heap[--size];
+		if (size > 0) {
+			siftDown(last, 0);
+		}
+
+		return min;
+	}
+
+	public void clear() {
+		for (int i = 0; i < size; ++i) {
+			positions[heap[i]] = -1;
+		}
+		size = 0;
+	}
+
+	/**
+	 * 
+	 * Moves an item up from a position until its parent has a smaller key
+	 * 
+	 * @param item The item to place
+	 * @param i The position to start from
+	 * 
+	 */
+	private void siftUp(int item, int i) {
+		int key = keys[item];
+
+		while (i > 0) {
+			int parent = (i - 1) / d;
+			int p = heap[parent];
+			if (keys[p] <= key)
+				break;
+
+			// Move the parent down one level
+			heap[i] = p;
+			positions[p] = i;
+			i = parent;
+		}
+
+		heap[i] = item;
+		positions[item] = i;
+	}
+
+	/**
+	 * 
+	 * Moves an item down from a position until all its children have a
+	 * greater key
+	 * 
+	 * @param item The item to place
+	 * @param i The position to start from
+	 * 
+	 */
+	private void siftDown(int item, int i) {
+		int key = keys[item];
+
+		while (true) {
+			int first = i * d + 1;
+			if (first >= size)
+				break;
+
+			// Find the child with the smallest key
+			int last = Math.min(first + d, size);
+			int best = first;
+			int bestKey = keys[heap[first]];
+			for (int c = first + 1; c < last; ++c) {
+				int k = keys[heap[c]];
+				if (k < bestKey) {
+					best = c;
+					bestKey = k;
+				}
+			}
+
+			if (bestKey >= key)
+				break;
+
+			// Move the child up one level
+			int child = heap[best];
+			heap[i] = child;
+			positions[child] = i;
+			i = best;
+		}
+
+		heap[i] = item;
+		positions[item] = i;
+	}
+}
@@ -0,0 +1,516 @@
+package com.dkhalife.projects;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * 
+ * This class implements the delta-stepping algorithm, a parallel version of
+ * Dijkstra's algorithm for one-to-all queries. The vertices are kept in buckets
+ * of width delta according to their tentative distance, and the smallest
+ * bucket is emptied in phases: every vertex of the bucket relaxes its light
+ * arcs (lighter than delta) in parallel, which may refill the bucket, until it
+ * stays empty. Its heavy arcs can't lead back into the bucket, so they are
+ * relaxed only once at the end, also in parallel.
+ * 
+ * Distances are lowered with an atomic minimum, so the same vertex can be
+ * relaxed by several threads at once. The parents are picked once the
+ * distances are known, which keeps the result the same whatever the order the
+ * threads ran in.
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+public class DeltaStepping {
+	// Below this number of vertices, a phase isn't split any further
+	private static final int GRAIN = 256;
+
+	// The largest number of buckets in use at once
+	private static final int MAX_BUCKETS = 1 << 16;
+
+	// The number of light arcs per vertex the automatic delta aims for
+	private static final int LIGHT_ARCS = 2;
+
+	// The number of weights looked at to pick the automatic delta
+	private static final int SAMPLES = 4096;
+
+	// The graph
+	private final CsrGraph g;
+
+	// The width of the buckets
+	private final int delta;
+
+	// The pool to run in
+	private final ForkJoinPool pool;
+
+	// The tentative distance to each vertex
+	private final AtomicIntegerArray distances;
+
+	// The last phase each vertex was queued for, so it is queued only once
+	private final AtomicIntegerArray queued;
+
+	// The last bucket in which each vertex was scanned
+	private final int[] scanned;
+
+	// The buckets, used as a ring since the pending distances are never
+	// further apart than the heaviest edge
+	private IntList[] buckets;
+	private int pending = 0;
+
+	// The current phase
+	private int phase = 0;
+
+	/**
+	 * 
+	 * A search is constructed with the graph and the width of the buckets
+	 * 
+	 */
+	private DeltaStepping(CsrGraph g, int delta, ForkJoinPool pool) {
+		this.g = g;
+		this.pool = pool;
+		int n = g.vertexCount();
+
+		// We'll widen the buckets if the heaviest edge would need too many
+		int heaviest = 0;
+		for (int e = 0; e < g.edgeCount(); ++e) {
+			heaviest = Math.max(heaviest, g.edgeWeight(e));
+		}
+		delta = Math.max(delta, (heaviest + MAX_BUCKETS - 3)
+				/ (MAX_BUCKETS - 2));
+		this.delta = delta;
+
+		int size = Integer.highestOneBit(heaviest / delta + 2);
+		if (size < heaviest / delta + 2) {
+			size <<= 1;
+		}
+		buckets = new IntList[size];
+		for (int i = 0; i < size; ++i) {
+			buckets[i] = new IntList();
+		}
+
+		distances = new AtomicIntegerArray(n);
+		queued = new AtomicIntegerArray(n);
+		scanned = new int[n];
+		Arrays.fill(scanned, -1);
+		for (int v = 0; v < n; ++v) {
+			distances.lazySet(v, ShortestPathTree.INFINITY);
+		}
+	}
+
+	/**
+	 * 
+	 * Computes the shortest paths from a source to every vertex on the common
+	 * pool, with an automatic delta
+	 * 
+	 * @param g The graph
+	 * @param source The source vertex
+	 * @return The shortest path tree rooted at the source
+	 * 
+	 */
+	public static ShortestPathTree shortestPaths(CsrGraph g, int source) {
+		return shortestPaths(g, source, delta(g), ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * 
+	 * Computes the shortest paths from a source to every vertex
+	 * 
+	 * @param g The graph
+	 * @param source The source vertex
+	 * @param delta The width of the buckets
+	 * @param pool The pool to run in
+	 * @return The shortest path tree rooted at the source. The distances are
+	 * the ones Dijkstra's algorithm finds, and ties between parents go to the
+	 * edge with the smallest id.
+	 * 
+	 */
+	public static ShortestPathTree shortestPaths(CsrGraph g, int source,
+			int delta, ForkJoinPool pool) {
+		if (delta < 1)
+			throw new IllegalArgumentException("Invalid delta: " + delta);
+
+		return new DeltaStepping(g, delta, pool).run(source);
+	}
+
+	/**
+	 * 
+	 * Picks a delta from the weights of the graph. A delta around the heaviest
+	 * weight divided by the degree keeps the number of light arcs per vertex,
+	 * and so the number of relaxations wasted on vertices which aren't final
+	 * yet, constant. Since the weights aren't always uniform, we'll take the
+	 * weight below which a vertex has about LIGHT_ARCS arcs instead.
+	 * 
+	 * @param g The graph
+	 * @return The delta
+	 * 
+	 */
+	public static int delta(CsrGraph g) {
+		int m = g.edgeCount();
+		if (m == 0)
+			return 1;
+
+		// An evenly spread sample is enough to find the quantile
+		int count = Math.min(m, SAMPLES);
+		int[] weights = new int[count];
+		for (int i = 0; i < count; ++i) {
+			weights[i] = g.edgeWeight((int) ((long) i * m / count));
+		}
+		Arrays.sort(weights);
+
+		double degree = 2.0 * m / g.vertexCount();
+		double fraction = Math.min(1.0, LIGHT_ARCS / degree);
+		int index = Math.min(count - 1, (int) (fraction * count));
+
+		return Math.max(1, weights[index]);
+	}
+
+	/**
+	 * 
+	 * Runs the search
+	 * 
+	 * @param source The source vertex
+	 * @return The shortest path tree rooted at the source
+	 * 
+	 */
+	private ShortestPathTree run(int source) {
+		distances.set(source, 0);
+		buckets[0].add(source);
+		pending = 1;
+
+		int settled = 0;
+		for (int bucket = 0; pending > 0; ++bucket) {
+			int slot = bucket & (buckets.length - 1);
+			IntList content = buckets[slot];
+			if (content.size == 0)
+				continue;
+
+			buckets[slot] = new IntList();
+			pending -= content.size;
+
+			// The bucket holds stale entries for vertices which moved to a
+			// smaller bucket since, we'll skip those
+			IntList frontier = gather(content, bucket);
+			IntList scans = new IntList();
+			while (frontier.size > 0) {
+				IntList later = new IntList();
+				frontier = relaxLight(frontier, bucket, scans, later);
+				distribute(later, bucket);
+			}
+
+			// Every vertex of the bucket is final now
+			distribute(relaxHeavy(scans), bucket);
+			settled += scans.size;
+		}
+
+		return new ShortestPathTree(source, finalDistances(),
+				parentEdges(source), settled);
+	}
+
+	/**
+	 * 
+	 * Lists the vertices of a bucket which really belong to it, each once
+	 * 
+	 * @param content The content of the bucket
+	 * @param bucket The index of the bucket
+	 * @return The first frontier of the bucket
+	 * 
+	 */
+	private IntList gather(final IntList content, final int bucket) {
+		final IntList frontier = new IntList();
+		final int stamp = ++phase;
+		ParallelFor.run(pool, 0, content.size, GRAIN, new ParallelFor.Body() {
+			public void run(int from, int to) {
+				IntList local = new IntList();
+				for (int i = from; i < to; ++i) {
+					int v = content.items[i];
+					if (distances.get(v) / delta == bucket
+							&& queued.getAndSet(v, stamp) != stamp) {
+						local.add(v);
+					}
+				}
+				frontier.addAll(local);
+			}
+		});
+
+		return frontier;
+	}
+
+	/**
+	 * 
+	 * Relaxes the light arcs of a frontier in parallel
+	 * 
+	 * @param frontier The vertices to scan
+	 * @param bucket The index of the current bucket
+	 * @param scans The vertices scanned in this bucket so far
+	 * @param later The vertices which moved to a later bucket
+	 * @return The vertices which moved to the current bucket
+	 * 
+	 */
+	private IntList relaxLight(final IntList frontier, final int bucket,
+			final IntList scans, final IntList later) {
+		final IntList next = new IntList();
+		final int stamp = ++phase;
+		ParallelFor.run(pool, 0, frontier.size, GRAIN, new ParallelFor.Body() {
+			public void run(int from, int to) {
+				IntList localNext = new IntList();
+				IntList localLater = new IntList();
+				IntList localScans = new IntList();
+				for (int i = from; i < to; ++i) {
+					int u = frontier.items[i];
+
+					// A vertex can be scanned again if its distance drops
+					// while in the bucket, but its heavy arcs wait for the end
+					if (scanned[u] != bucket) {
+						scanned[u] = bucket;
+						localScans.add(u);
+					}
+
+					int d = distances.get(u);
+					for (int a = g.firstArc(u), end = g.endArc(u); a < end; ++a) {
+						int w = g.weight(a);
+						if (w >= delta)
+							continue;
+
+						int v = g.target(a);
+						int alt = ShortestPathTree.extend(d, w);
+						if (!lower(v, alt))
+							continue;
+
+						if (alt / delta != bucket) {
+							localLater.add(v);
+						}
+						else if (queued.getAndSet(v, stamp) != stamp) {
+							localNext.add(v);
+						}
+					}
+				}
+
+				next.addAll(localNext);
+				later.addAll(localLater);
+				scans.addAll(localScans);
+			}
+		});
+
+		return next;
+	}
+
+	/**
+	 * 
+	 * Relaxes the heavy arcs of the vertices of a bucket in parallel
+	 * 
+	 * @param scans The vertices of the bucket
+	 * @return The vertices which moved to a later bucket
+	 * 
+	 */
+	private IntList relaxHeavy(final IntList scans) {
+		final IntList later = new IntList();
+		ParallelFor.run(pool, 0, scans.size, GRAIN, new ParallelFor.Body() {
+			public void run(int from, int to) {
+				IntList local = new IntList();
+				for (int i = from; i < to; ++i) {
+					int u = scans.items[i];
+					int d = distances.get(u);
+					for (int a = g.firstArc(u), end = g.endArc(u); a < end; ++a) {
+						int w = g.weight(a);
+						if (w >= delta && lower(g.target(a),
+								ShortestPathTree.extend(d, w))) {
+							local.add(g.target(a));
+						}
+					}
+				}
+				later.addAll(local);
+			}
+		});
+
+		return later;
+	}
+
+	/**
+	 * 
+	 * Lowers the distance to a vertex if the new one is smaller
+	 * 
+	 * @param v The vertex
+	 * @param alt The new distance
+	 * @return Whether the distance was lowered
+	 * 
+	 */
+	private boolean lower(int v, int alt) {
+		int current = distances.get(v);
+		while (alt < current) {
+			if (distances.compareAndSet(v, current, alt))
+				return true;
+
+			current = distances.get(v);
+		}
+
+		return false;
+	}
+
+	/**
+	 * 
+	 * Puts the vertices which moved into the buckets of their distances. The
+	 * ones which came back to the current bucket were already queued.
+	 * 
+	 * @param later The vertices
+	 * @param bucket The index of the current bucket
+	 * 
+	 */
+	private void distribute(IntList later, int bucket) {
+		for (int i = 0; i < later.size; ++i) {
+			int v = later.items[i];
+			int b = distances.get(v) / delta;
+			if (b > bucket) {
+				buckets[b & (buckets.length - 1)].add(v);
+				++pending;
+			}
+		}
+	}
+
+	/**
+	 * 
+	 * Copies the final distances into a plain array
+	 * 
+	 * @return The distances
+	 * 
+	 */
+	private int[] finalDistances() {
+		int[] d = new int[distances.length()];
+		for (int v = 0; v < d.length; ++v) {
+			d[v] = distances.get(v);
+		}
+
+		return d;
+	}
+
+	/**
+	 * 
+	 * Picks the parent of every vertex from the final distances: the edge with
+	 * the smallest id among the tight ones. With edges of weight zero, tight
+	 * edges can form cycles, so the vertices only reached through those are
+	 * hooked to the tree afterwards, starting from the ones already in it.
+	 * 
+	 * @param source The source vertex
+	 * @return The edge used to reach each vertex
+	 * 
+	 */
+	private int[] parentEdges(final int source) {
+		final int n = g.vertexCount();
+		final int[] parentEdges = new int[n];
+		final IntList orphans = new IntList();
+		ParallelFor.run(pool, 0, n, ParallelFor.grain(pool, n, 4096),
+				new ParallelFor.Body() {
+					public void run(int from, int to) {
+						IntList local = new IntList();
+						for (int v = from; v < to; ++v) {
+							parentEdges[v] = -1;
+							int d = distances.get(v);
+							if (v == source || d == ShortestPathTree.INFINITY)
+								continue;
+
+							for (int a = g.firstArc(v), end = g.endArc(v); a < end; ++a) {
+								int w = g.weight(a);
+								if (w > 0
+										&& (long) distances.get(g.target(a)) + w == d
+										&& (parentEdges[v] == -1 || g.edgeOf(a) < parentEdges[v])) {
+									parentEdges[v] = g.edgeOf(a);
+								}
+							}
+
+							if (parentEdges[v] == -1) {
+								local.add(v);
+							}
+						}
+						orphans.addAll(local);
+					}
+				});
+
+		// Each orphan is at the same distance as a neighbor through an edge of
+		// weight zero, we'll walk these edges from the vertices in the tree
+		boolean[] isOrphan = new boolean[n];
+		for (int i = 0; i < orphans.size; ++i) {
+			isOrphan[orphans.items[i]] = true;
+		}
+
+		IntList queue = new IntList();
+		for (int i = 0; i < orphans.size; ++i) {
+			int v = orphans.items[i];
+			for (int a = g.firstArc(v), end = g.endArc(v); a < end; ++a) {
+				int u = g.target(a);
+				if (g.weight(a) == 0 && !isOrphan[u]
+						&& distances.get(u) == distances.get(v)
+						&& (parentEdges[v] == -1 || g.edgeOf(a) < parentEdges[v])) {
+					parentEdges[v] = g.edgeOf(a);
+				}
+			}
+
+			if (parentEdges[v] != -1) {
+				queue.add(v);
+			}
+		}
+		for (int i = 0; i < queue.size; ++i) {
+			isOrphan[queue.items[i]] = false;
+		}
+
+		for (int i = 0; i < queue.size; ++i) {
+			int u = queue.items[i];
+			for (int a = g.firstArc(u), end = g.endArc(u); a < end; ++a) {
+				int v = g.target(a);
+				if (g.weight(a) == 0 && isOrphan[v]) {
+					isOrphan[v] = false;
+					parentEdges[v] = g.edgeOf(a);
+					queue.add(v);
+				}
+			}
+		}
+
+		return parentEdges;
+	}
+
+	/**
+	 * 
+	 * This class is a growable list of ints, filled by a single thread and
+	 * then merged into a shared one
+	 * 
+	 */
+	private static class IntList {
+		// The items
+		private int[] items = new int[16];
+
+		// The number of items
+		private int size = 0;
+
+		/**
+		 * 
+		 * Appends an item
+		 * 
+		 * @param v The item
+		 * 
+		 */
+		void add(int v) {
+			if (size == items.length) {
+				items = Arrays.copyOf(items, 2 * size);
+			}
+			items[size++] = v;
+		}
+
+		/**
+		 * 
+		 * Appends the items of another list, which may be done by several
+		 * threads at once
+		 * 
+		 * @param other The other list
+		 * 
+		 */
+		synchronized void addAll(IntList other) {
+			if (size + other.size > items.length) {
+				items = Arrays.copyOf(items,
+						Math.max(2 * items.length, size + other.size));
+			}
+			System.arraycopy(other.items, 0, items, size, other.size);
+			size += other.size;
+		}
+	}
+}
@@ -0,0 +1,152 @@
+package com.dkhalife.projects;
+
+/**
+ * 
+ * This class implements Dijkstra's shortest path algorithm on a CSR graph
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+public class Dijkstra {
+
+	/**
+	 * 
+	 * This class only holds static methods
+	 * 
+	 */
+	private Dijkstra() {
+	}
+
+	/**
+	 * 
+	 * Computes the shortest paths from a source to every vertex of the graph
+	 * 
+	 * @param g The graph
+	 * @param source The source vertex
+	 * @return The shortest path tree rooted at the source
+	 * 
+	 */
+	public static ShortestPathTree shortestPaths(CsrGraph g, int source) {
+		return shortestPath(g, source, -1);
+	}
+
+	/**
+	 * 
+	 * Computes the shortest path from a source to a destination. The search
+	 * stops as soon as the destination is settled.
+	 * 
+	 * @param g The graph
+	 * @param source The source vertex
+	 * @param destination The destination vertex (or -1 to settle everything)
+	 * @return The shortest path tree rooted at the source
+	 * 
+	 */
+	public static ShortestPathTree shortestPath(CsrGraph g, int source,
+			int destination) {
+		int n = g.vertexCount();
+		SearchContext c = SearchContext.get(n);
+		int settled = search(g, source, destination, c);
+
+		return c.tree(n, source, settled);
+	}
+
+	/**
+	 * 
+	 * Computes the shortest path from a source to a destination using the
+	 * given heap. The search stops as soon as the destination is settled.
+	 * 
+	 * @param g The graph
+	 * @param source The source vertex
+	 * @param destination The destination vertex (or -1 to settle everything)
+	 * @param Q An empty heap able to hold every vertex of the graph
+	 * @return The shortest path tree rooted at the source
+	 * 
+	 */
+	public static ShortestPathTree shortestPath(CsrGraph g, int source,
+			int destination, IndexedHeap Q) {
+		int n = g.vertexCount();
+		SearchContext c = new SearchContext(n, Q);
+		int settled = search(g, source, destination, c);
+
+		return c.tree(n, source, settled);
+	}
+
+	/**
+	 * 
+	 * Computes the shortest path from a source to a destination in a context,
+	 * without touching the rest of the graph. The search stops as soon as the
+	 * destination is settled.
+	 * 
+	 * @param g The graph
+	 * @param source The source vertex
+	 * @param destination The destination vertex
+	 * @param c A context ready for a new search
+	 * @return The path
+	 * 
+	 */
+	public static ShortestPath shortestPath(CsrGraph g, int source,
+			int destination, SearchContext c) {
+		int settled = search(g, source, destination, c);
+
+		return c.path(g, source, destination, settled);
+	}
+
+	/**
+	 * 
+	 * Runs the search itself
+	 * 
+	 * @param g The graph
+	 * @param source The source vertex
+	 * @param destination The destination vertex (or -1 to settle everything)
+	 * @param c A context ready for a new search
+	 * @return The number of settled vertices
+	 * 
+	 */
+	static int search(CsrGraph g, int source, int destination, SearchContext c) {
+		IndexedHeap Q = c.queue();
+
+		// Every vertex starts at an infinite distance, except the source
+		c.set(source, 0, -1);
+
+		// Only the vertices we reach are inserted into the queue
+		Q.insert(source, 0);
+
+		int settled = 0;
+		while (!Q.isEmpty()) {
+			// We'll take the one with the smallest distance
+			int u = Q.poll();
+			int d = c.distance(u);
+			++settled;
+
+			// If it's our destination, no more processing is needed
+			if (u == destination)
+				break;
+
+			// Relax every arc departing from this vertex
+			for (int a = g.firstArc(u), end = g.endArc(u); a < end; ++a) {
+				int v = g.target(a);
+				int alt = ShortestPathTree.extend(d, g.weight(a));
+
+				if (alt < c.distance(v)) {
+					// Since the distance was modified, we'll update the
+					// position of the vertex in the queue (or add it)
+					if (!c.reached(v)) {
+						Q.insert(v, alt);
+					}
+					else {
+						Q.decreaseKey(v, alt);
+					}
+
+					c.set(v, alt, g.edgeOf(a));
+				}
+			}
+		}
+
+		// Leave the heap empty for the next search
+		Q.clear();
+
+		return settled;
+	}
+}
@@ -1,6 +1,6 @@
 package com.dkhalife.projects;
 /**
- * This class implements a Disjoint Set using path compression and union by
+ * This class implements a Disjoint Set using path halving and union by
  * depth
  * 
  * @author Thierry Lavoie
@@ -59,13 +59,17 @@ public class DisjointSet {
 	 * 
 	 */
 	public int find(int x) {
-		if (s[x] < 0) {
-			return x;
-		}
-		else {
-			s[x] = find(s[x]);
-			return s[x];
+		// Walk up to the root while pointing each visited element to its
+		// grandparent (path halving), which doesn't need any recursion
+		while (s[x] >= 0) {
+			int p = s[x];
+			if (s[p] >= 0) {
+				s[x] = s[p];
+			}
+			x = s[x];
 		}
+
+		return x;
 	}
 
 	private int[] s;
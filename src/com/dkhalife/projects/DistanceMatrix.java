@@ -0,0 +1,569 @@
+package com.dkhalife.projects;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 
+ * This class holds the distances between a list of sources and a list of
+ * targets, as a flat array of ints, row by row. It runs one search per source
+ * in parallel, each thread reusing its own search context, and each search
+ * stops as soon as every target is settled. Small dense graphs use a blocked
+ * Floyd-Warshall instead, which computes all the pairs at once.
+ * 
+ * Matrices too large for memory can be streamed to a file a block of rows at a
+ * time. The file starts with a 24 bytes header: the magic number, the version,
+ * the number of rows and the number of columns (as ints, followed by two
+ * reserved ints). Then come the sources, the targets and the distances, row by
+ * row, all little-endian.
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+public class DistanceMatrix {
+	// The usual extension for these files
+	public static final String EXTENSION = "dm";
+
+	// The first four bytes of the file: "GRDM"
+	private static final int MAGIC = 0x4D445247;
+
+	// The current version of the format
+	private static final int VERSION = 1;
+
+	// The size of the header
+	private static final int HEADER = 24;
+
+	// The largest number of distances computed before a block is written
+	private static final int BLOCK = 1 << 24;
+
+	// The largest graph Floyd-Warshall is considered for
+	private static final int FLOYD_LIMIT = 1024;
+
+	// How much cheaper a step of Floyd-Warshall is than a step of a search
+	private static final int FLOYD_SPEEDUP = 3;
+
+	// The side of the tiles of Floyd-Warshall
+	private static final int TILE = 64;
+
+	// Floyd-Warshall uses this instead of INFINITY so that sums don't overflow
+	private static final int UNREACHABLE = Integer.MAX_VALUE / 2;
+
+	// The sources, one per row
+	private final int[] sources;
+
+	// The targets, one per column
+	private final int[] targets;
+
+	// The distances, row by row
+	private final int[] distances;
+
+	/**
+	 * 
+	 * A matrix is constructed with its rows, its columns and its values
+	 * 
+	 */
+	private DistanceMatrix(int[] sources, int[] targets, int[] distances) {
+		this.sources = sources;
+		this.targets = targets;
+		this.distances = distances;
+	}
+
+	/**
+	 * 
+	 * Computes the distances between every source and every target
+	 * 
+	 * @param g The graph
+	 * @param sources The sources
+	 * @param targets The targets
+	 * @param pool The pool to run in
+	 * @return The matrix
+	 * 
+	 */
+	public static DistanceMatrix compute(CsrGraph g, int[] sources,
+			int[] targets, ForkJoinPool pool) {
+		long size = (long) sources.length * targets.length;
+		if (size > Integer.MAX_VALUE)
+			throw new IllegalArgumentException("The matrix has " + size
+					+ " distances, it has to be streamed to a file");
+
+		int[] distances = new int[(int) size];
+		new Batch(g, sources, targets, pool).fill(0, sources.length,
+				distances);
+
+		return new DistanceMatrix(sources.clone(), targets.clone(), distances);
+	}
+
+	/**
+	 * 
+	 * Computes the distances between every source and every target and writes
+	 * them to a file, holding only a block of rows in memory at once
+	 * 
+	 * @param g The graph
+	 * @param sources The sources
+	 * @param targets The targets
+	 * @param pool The pool to run in
+	 * @param path The file
+	 * @throws IOException If the file can't be written
+	 * 
+	 */
+	public static void stream(CsrGraph g, int[] sources, int[] targets,
+			ForkJoinPool pool, Path path) throws IOException {
+		Batch batch = new Batch(g, sources, targets, pool);
+		int rows = Math.max(1, BLOCK / Math.max(1, targets.length));
+
+		try (FileChannel channel = FileChannel.open(path,
+				StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			ByteBuffer buffer = writeHeader(channel, sources, targets);
+
+			for (int from = 0; from < sources.length; from += rows) {
+				int to = Math.min(sources.length, from + rows);
+				int[] block = new int[(to - from) * targets.length];
+				batch.fill(from, to, block);
+				GraphFile.write(channel, buffer, block);
+			}
+		}
+	}
+
+	/**
+	 * 
+	 * Getter for the number of rows
+	 * 
+	 * @return The number of sources
+	 * 
+	 */
+	public int rowCount() {
+		return sources.length;
+	}
+
+	/**
+	 * 
+	 * Getter for the number of columns
+	 * 
+	 * @return The number of targets
+	 * 
+	 */
+	public int columnCount() {
+		return targets.length;
+	}
+
+	/**
+	 * 
+	 * Getter for the source of a row
+	 * 
+	 * @param i The row
+	 * @return The source
+	 * 
+	 */
+	public int source(int i) {
+		return sources[i];
+	}
+
+	/**
+	 * 
+	 * Getter for the target of a column
+	 * 
+	 * @param j The column
+	 * @return The target
+	 * 
+	 */
+	public int target(int j) {
+		return targets[j];
+	}
+
+	/**
+	 * 
+	 * Getter for a distance
+	 * 
+	 * @param i The row
+	 * @param j The column
+	 * @return The distance from the source of the row to the target of the
+	 * column, or INFINITY if it can't be reached
+	 * 
+	 */
+	public int distance(int i, int j) {
+		return distances[i * targets.length + j];
+	}
+
+	/**
+	 * 
+	 * Writes the matrix to a file
+	 * 
+	 * @param path The file
+	 * @throws IOException If the file can't be written
+	 * 
+	 */
+	public void save(Path path) throws IOException {
+		try (FileChannel channel = FileChannel.open(path,
+				StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			ByteBuffer buffer = writeHeader(channel, sources, targets);
+			GraphFile.write(channel, buffer, distances);
+		}
+	}
+
+	/**
+	 * 
+	 * Reads a matrix from a file
+	 * 
+	 * @param path The file
+	 * @return The matrix
+	 * @throws IOException If the file can't be read, isn't a matrix file or
+	 * doesn't fit in memory
+	 * 
+	 */
+	public static DistanceMatrix load(Path path) throws IOException {
+		try (FileChannel channel = FileChannel.open(path,
+				StandardOpenOption.READ)) {
+			if (channel.size() < HEADER)
+				throw new IOException("Not a distance matrix file: " + path);
+
+			ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0,
+					HEADER).order(ByteOrder.LITTLE_ENDIAN);
+			if (header.getInt() != MAGIC)
+				throw new IOException("Not a distance matrix file: " + path);
+
+			int version = header.getInt();
+			if (version != VERSION)
+				throw new IOException(
+						"Unsupported distance matrix file version: " + version);
+
+			int rows = header.getInt();
+			int columns = header.getInt();
+
+			// Make sure the file is as long as the header says
+			long size = (long) rows * columns;
+			long expected = HEADER + 4L * (rows + columns + size);
+			if (rows < 0 || columns < 0 || channel.size() != expected)
+				throw new IOException("Truncated distance matrix file: " + path);
+			if (size > Integer.MAX_VALUE)
+				throw new IOException("The matrix has " + size
+						+ " distances, it has to be mapped instead: " + path);
+
+			long position = HEADER;
+			int[] sources = GraphFile.read(channel, position, rows);
+			position += 4L * rows;
+			int[] targets = GraphFile.read(channel, position, columns);
+			position += 4L * columns;
+			int[] distances = GraphFile.read(channel, position, (int) size);
+
+			return new DistanceMatrix(sources, targets, distances);
+		}
+	}
+
+	/**
+	 * 
+	 * Writes the header, the sources and the targets of a file
+	 * 
+	 * @param channel The file
+	 * @param sources The sources
+	 * @param targets The targets
+	 * @return The buffer to write the rest of the file with
+	 * 
+	 */
+	private static ByteBuffer writeHeader(FileChannel channel, int[] sources,
+			int[] targets) throws IOException {
+		ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20).order(
+				ByteOrder.LITTLE_ENDIAN);
+
+		buffer.putInt(MAGIC).putInt(VERSION).putInt(sources.length)
+				.putInt(targets.length).putInt(0).putInt(0);
+		buffer.flip();
+		GraphFile.write(channel, buffer);
+
+		GraphFile.write(channel, buffer, sources);
+		GraphFile.write(channel, buffer, targets);
+
+		return buffer;
+	}
+
+	/**
+	 * 
+	 * This class computes the rows of a matrix, with either method
+	 * 
+	 */
+	private static class Batch {
+		// The graph
+		private final CsrGraph g;
+
+		// The rows and the columns
+		private final int[] sources;
+		private final int[] targets;
+
+		// The pool to run in
+		private final ForkJoinPool pool;
+
+		// Whether each vertex is a target, and how many distinct targets there
+		// are, so that a search knows when to stop
+		private final boolean[] isTarget;
+		private final int targetCount;
+
+		// The distances between all the pairs of vertices, if Floyd-Warshall
+		// is used
+		private int[] all;
+
+		// The contexts of the searches, which go away with the batch
+		private final SearchContext.Pool contexts;
+
+		/**
+		 * 
+		 * A batch is constructed with the graph, the rows and the columns
+		 * 
+		 */
+		Batch(CsrGraph g, int[] sources, int[] targets, ForkJoinPool pool) {
+			this.g = g;
+			this.sources = sources;
+			this.targets = targets;
+			this.pool = pool;
+
+			int n = g.vertexCount();
+			contexts = new SearchContext.Pool(n);
+			for (int v : sources) {
+				checkVertex(n, v);
+			}
+
+			isTarget = new boolean[n];
+			int count = 0;
+			for (int v : targets) {
+				checkVertex(n, v);
+				if (!isTarget[v]) {
+					isTarget[v] = true;
+					++count;
+				}
+			}
+			targetCount = count;
+		}
+
+		/**
+		 * 
+		 * Computes some rows of the matrix
+		 * 
+		 * @param from The first row
+		 * @param to The end of the rows (exclusive)
+		 * @param block Where to put the rows, one after the other
+		 * 
+		 */
+		void fill(final int from, int to, final int[] block) {
+			final int columns = targets.length;
+			if (columns == 0)
+				return;
+
+			if (all == null && useFloyd()) {
+				all = floydWarshall(g, pool);
+			}
+
+			if (all != null) {
+				int n = g.vertexCount();
+				for (int i = from; i < to; ++i) {
+					int row = sources[i] * n;
+					for (int j = 0; j < columns; ++j) {
+						block[(i - from) * columns + j] = all[row + targets[j]];
+					}
+				}
+				return;
+			}
+
+			ParallelFor.run(pool, from, to, 1, new ParallelFor.Body() {
+				public void run(int first, int end) {
+					for (int i = first; i < end; ++i) {
+						search(sources[i], block, (i - from) * columns);
+					}
+				}
+			});
+		}
+
+		/**
+		 * 
+		 * Decides whether Floyd-Warshall is cheaper than a search per source.
+		 * It takes n^3 steps where the searches take about (2m + n log n)
+		 * each, but its steps are much cheaper.
+		 * 
+		 * @return Whether it is
+		 * 
+		 */
+		private boolean useFloyd() {
+			long n = g.vertexCount();
+			if (n == 0 || n > FLOYD_LIMIT)
+				return false;
+
+			long log = 64 - Long.numberOfLeadingZeros(n);
+			long searches = sources.length * (2L * g.edgeCount() + n * log);
+
+			return n * n * n <= FLOYD_SPEEDUP * searches;
+		}
+
+		/**
+		 * 
+		 * Runs Dijkstra's algorithm from a source until every target is
+		 * settled, and copies their distances. The search runs in a context of
+		 * the batch, so it leaves nothing to reset behind.
+		 * 
+		 * @param source The source
+		 * @param row Where to put the distances
+		 * @param offset The position of the first one
+		 * 
+		 */
+		private void search(int source, int[] row, int offset) {
+			SearchContext c = contexts.take();
+			IndexedHeap Q = c.queue();
+			c.set(source, 0, -1);
+			Q.insert(source, 0);
+
+			int remaining = targetCount;
+			while (!Q.isEmpty()) {
+				int u = Q.poll();
+				int d = c.distance(u);
+
+				// Once all the targets are settled, we're done
+				if (isTarget[u] && --remaining == 0)
+					break;
+
+				for (int a = g.firstArc(u), end = g.endArc(u); a < end; ++a) {
+					int v = g.target(a);
+					int alt = ShortestPathTree.extend(d, g.weight(a));
+
+					if (alt < c.distance(v)) {
+						if (!c.reached(v)) {
+							Q.insert(v, alt);
+						}
+						else {
+							Q.decreaseKey(v, alt);
+						}
+
+						c.set(v, alt, -1);
+					}
+				}
+			}
+			Q.clear();
+
+			for (int j = 0; j < targets.length; ++j) {
+				row[offset + j] = c.distance(targets[j]);
+			}
+
+			contexts.give(c);
+		}
+	}
+
+	/**
+	 * 
+	 * Computes the distances between all the pairs of vertices with a blocked
+	 * Floyd-Warshall. The matrix is cut into tiles which fit in the cache, and
+	 * for each diagonal tile, the tile itself is updated first, then the tiles
+	 * in its row and column, then all the others, in parallel at each step.
+	 * 
+	 * @param g The graph
+	 * @param pool The pool to run in
+	 * @return The distances, row by row
+	 * 
+	 */
+	private static int[] floydWarshall(CsrGraph g, ForkJoinPool pool) {
+		final int n = g.vertexCount();
+		final int[] d = new int[n * n];
+		Arrays.fill(d, UNREACHABLE);
+		for (int v = 0; v < n; ++v) {
+			d[v * n + v] = 0;
+			for (int a = g.firstArc(v), end = g.endArc(v); a < end; ++a) {
+				int i = v * n + g.target(a);
+				d[i] = Math.min(d[i], g.weight(a));
+			}
+		}
+
+		final int tiles = (n + TILE - 1) / TILE;
+		for (int t = 0; t < tiles; ++t) {
+			final int k = t;
+			relaxTile(d, n, k, k, k);
+
+			ParallelFor.run(pool, 0, 2 * tiles, 1, new ParallelFor.Body() {
+				public void run(int from, int to) {
+					for (int i = from; i < to; ++i) {
+						int other = i % tiles;
+						if (other == k)
+							continue;
+
+						if (i < tiles) {
+							relaxTile(d, n, k, other, k);
+						}
+						else {
+							relaxTile(d, n, other, k, k);
+						}
+					}
+				}
+			});
+
+			ParallelFor.run(pool, 0, tiles * tiles, 1, new ParallelFor.Body() {
+				public void run(int from, int to) {
+					for (int i = from; i < to; ++i) {
+						int row = i / tiles;
+						int column = i % tiles;
+						if (row != k && column != k) {
+							relaxTile(d, n, row, column, k);
+						}
+					}
+				}
+			});
+		}
+
+		for (int i = 0; i < d.length; ++i) {
+			if (d[i] >= UNREACHABLE) {
+				d[i] = ShortestPathTree.INFINITY;
+			}
+		}
+
+		return d;
+	}
+
+	/**
+	 * 
+	 * Relaxes a tile through the vertices of another one
+	 * 
+	 * @param d The distances
+	 * @param n The number of vertices
+	 * @param row The row of the tile
+	 * @param column The column of the tile
+	 * @param through The tile holding the intermediate vertices
+	 * 
+	 */
+	private static void relaxTile(int[] d, int n, int row, int column,
+			int through) {
+		int rowEnd = Math.min(n, (row + 1) * TILE);
+		int columnStart = column * TILE;
+		int columnEnd = Math.min(n, columnStart + TILE);
+		int throughEnd = Math.min(n, (through + 1) * TILE);
+
+		for (int k = through * TILE; k < throughEnd; ++k) {
+			int kRow = k * n;
+			for (int i = row * TILE; i < rowEnd; ++i) {
+				int iRow = i * n;
+				int dik = d[iRow + k];
+				if (dik >= UNREACHABLE)
+					continue;
+
+				// Without a branch, this loop can be vectorized
+				for (int j = columnStart; j < columnEnd; ++j) {
+					d[iRow + j] = Math.min(d[iRow + j], dik + d[kRow + j]);
+				}
+			}
+		}
+	}
+
+	/**
+	 * 
+	 * Makes sure a vertex belongs to a graph
+	 * 
+	 * @param n The number of vertices
+	 * @param v The vertex
+	 * 
+	 */
+	private static void checkVertex(int n, int v) {
+		if (v < 0 || v >= n)
+			throw new IndexOutOfBoundsException("No such vertex: " + v);
+	}
+}
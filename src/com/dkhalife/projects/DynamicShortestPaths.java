@@ -0,0 +1,599 @@
+package com.dkhalife.projects;
+
+import java.util.Arrays;
+
+/**
+ * 
+ * This class maintains the shortest paths from a source while the edges of the
+ * graph change, in the manner of Ramalingam and Reps. Instead of searching the
+ * whole graph again, each change only visits the vertices whose distance it
+ * affects, along with their neighbors.
+ * 
+ * When an edge gets lighter (or is inserted), a search starts from the end it
+ * improves and stops wherever the distances don't improve anymore. When a
+ * tree edge gets heavier (or is removed), the vertices below it are examined
+ * in order of distance: those which have another neighbor at the right
+ * distance simply change parent, and only the others lose their distance,
+ * which is then recomputed from their unaffected neighbors. Changes to edges
+ * outside of the tree cost nothing at all.
+ * 
+ * The graph is copied into growable adjacency lists, so the CSR graph it comes
+ * from isn't modified. Vertices are identified by their index, edges by their
+ * ends; loops are ignored and parallel edges are merged into the lightest one.
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+public class DynamicShortestPaths {
+	// The source of the paths
+	private final int source;
+
+	// The number of vertices
+	private int n;
+
+	// The neighbors of each vertex, along with the weight of the edge leading
+	// to them
+	private int[][] neighbors;
+	private int[][] neighborWeights;
+	private int[] degrees;
+
+	// The distance to each vertex, and the vertex before it on its path
+	private int[] distances;
+	private int[] parents;
+
+	// The queue of the searches
+	private IndexedHeap Q;
+
+	// The update in which each vertex was last found affected, or changed
+	private int[] affected;
+	private int[] changed;
+	private int epoch = 0;
+
+	// The number of vertices whose distance changed during the last update
+	private int changedCount = 0;
+
+	/**
+	 * 
+	 * The paths are constructed by running Dijkstra's algorithm once
+	 * 
+	 * @param g The graph
+	 * @param source The source vertex
+	 * 
+	 */
+	public DynamicShortestPaths(CsrGraph g, int source) {
+		this(g, Dijkstra.shortestPaths(g, source));
+	}
+
+	/**
+	 * 
+	 * The paths can also be constructed from a tree computed beforehand
+	 * 
+	 * @param g The graph
+	 * @param tree The shortest path tree of every vertex of the graph
+	 * 
+	 */
+	public DynamicShortestPaths(CsrGraph g, ShortestPathTree tree) {
+		source = tree.getSource();
+		n = g.vertexCount();
+		allocate(Math.max(n, 1));
+
+		int[] positions = new int[n];
+		int[] stamps = new int[n];
+		Arrays.fill(stamps, -1);
+		for (int v = 0; v < n; ++v) {
+			int capacity = Math.max(g.degree(v), 1);
+			neighbors[v] = new int[capacity];
+			neighborWeights[v] = new int[capacity];
+
+			for (int a = g.firstArc(v), end = g.endArc(v); a < end; ++a) {
+				int u = g.target(a);
+				if (u == v)
+					continue;
+
+				if (stamps[u] == v) {
+					// A parallel edge, we'll keep the lightest
+					int i = positions[u];
+					neighborWeights[v][i] = Math.min(neighborWeights[v][i],
+							g.weight(a));
+				}
+				else {
+					stamps[u] = v;
+					positions[u] = degrees[v];
+					neighbors[v][degrees[v]] = u;
+					neighborWeights[v][degrees[v]++] = g.weight(a);
+				}
+			}
+
+			distances[v] = tree.distance(v);
+			int e = tree.parentEdge(v);
+			parents[v] = e == -1 ? -1 : g.opposite(e, v);
+		}
+	}
+
+	/**
+	 * 
+	 * Getter for the source
+	 * 
+	 * @return the source
+	 * 
+	 */
+	public int getSource() {
+		return source;
+	}
+
+	/**
+	 * 
+	 * Getter for the number of vertices
+	 * 
+	 * @return The number of vertices
+	 * 
+	 */
+	public int vertexCount() {
+		return n;
+	}
+
+	/**
+	 * 
+	 * Getter for the distance to a vertex
+	 * 
+	 * @param v The vertex
+	 * @return The distance, or INFINITY if it can't be reached
+	 * 
+	 */
+	public int distance(int v) {
+		return distances[v];
+	}
+
+	/**
+	 * 
+	 * Getter for the vertex before another one on its path
+	 * 
+	 * @param v The vertex
+	 * @return The parent, or -1 for the source and unreachable vertices
+	 * 
+	 */
+	public int parent(int v) {
+		return parents[v];
+	}
+
+	/**
+	 * 
+	 * Getter for the number of vertices whose distance changed during the last
+	 * update, which is what the update cost
+	 * 
+	 * @return The number of vertices
+	 * 
+	 */
+	public int getChanged() {
+		return changedCount;
+	}
+
+	/**
+	 * 
+	 * Walks back from a vertex to the source to rebuild the path
+	 * 
+	 * @param target The vertex to reach
+	 * @return The vertices of the path, in order from the source, or null if
+	 * the vertex can't be reached
+	 * 
+	 */
+	public int[] pathTo(int target) {
+		if (distances[target] == ShortestPathTree.INFINITY)
+			return null;
+
+		int length = 1;
+		for (int v = target; parents[v] != -1; v = parents[v]) {
+			++length;
+		}
+
+		int[] path = new int[length];
+		for (int v = target; v != -1; v = parents[v]) {
+			path[--length] = v;
+		}
+
+		return path;
+	}
+
+	/**
+	 * 
+	 * Getter for the weight of the edge between two vertices
+	 * 
+	 * @param u The first vertex
+	 * @param v The second vertex
+	 * @return The weight, or -1 if they aren't neighbors
+	 * 
+	 */
+	public int weight(int u, int v) {
+		int i = indexOf(u, v);
+		return i == -1 ? -1 : neighborWeights[u][i];
+	}
+
+	/**
+	 * 
+	 * Inserts an edge, or changes its weight if it exists, and repairs the
+	 * paths. Vertices which don't exist yet are added.
+	 * 
+	 * @param u The first vertex
+	 * @param v The second vertex
+	 * @param weight The new weight
+	 * 
+	 */
+	public void setWeight(int u, int v, int weight) {
+		if (u < 0 || v < 0)
+			throw new IndexOutOfBoundsException("No such vertex: "
+					+ Math.min(u, v));
+		if (weight < 0 || weight > CsrGraph.MAX_WEIGHT)
+			throw new IllegalArgumentException("Invalid weight: " + weight);
+
+		ensureVertices(Math.max(u, v) + 1);
+		begin();
+		if (u == v)
+			return;
+
+		int old = weight(u, v);
+		setNeighbor(u, v, weight);
+		setNeighbor(v, u, weight);
+
+		if (old == -1 || weight < old) {
+			decrease(u, v, weight);
+		}
+		else if (weight > old) {
+			increase(u, v);
+		}
+	}
+
+	/**
+	 * 
+	 * Removes an edge, if it exists, and repairs the paths
+	 * 
+	 * @param u The first vertex
+	 * @param v The second vertex
+	 * 
+	 */
+	public void removeEdge(int u, int v) {
+		begin();
+		if (u >= n || v >= n || indexOf(u, v) == -1)
+			return;
+
+		removeNeighbor(u, v);
+		removeNeighbor(v, u);
+		increase(u, v);
+	}
+
+	/**
+	 * 
+	 * Makes room for more vertices, the new ones can't be reached until edges
+	 * lead to them
+	 * 
+	 * @param count The number of vertices
+	 * 
+	 */
+	public void ensureVertices(int count) {
+		if (count <= n)
+			return;
+
+		if (count > distances.length) {
+			int capacity = Math.max(count, 2 * distances.length);
+			neighbors = Arrays.copyOf(neighbors, capacity);
+			neighborWeights = Arrays.copyOf(neighborWeights, capacity);
+			degrees = Arrays.copyOf(degrees, capacity);
+			distances = Arrays.copyOf(distances, capacity);
+			parents = Arrays.copyOf(parents, capacity);
+			affected = Arrays.copyOf(affected, capacity);
+			changed = Arrays.copyOf(changed, capacity);
+			Q = new DaryHeap(capacity);
+		}
+
+		for (int v = n; v < count; ++v) {
+			neighbors[v] = new int[1];
+			neighborWeights[v] = new int[1];
+			degrees[v] = 0;
+			distances[v] = ShortestPathTree.INFINITY;
+			parents[v] = -1;
+		}
+		n = count;
+	}
+
+	/**
+	 * 
+	 * Handles an edge which got lighter: the end it improves, if any, and
+	 * everything downstream get their new distances
+	 * 
+	 * @param u The first end
+	 * @param v The second end
+	 * @param weight The new weight
+	 * 
+	 */
+	private void decrease(int u, int v, int weight) {
+		// At most one of the ends can be improved through the other
+		int throughU = ShortestPathTree.extend(distances[u], weight);
+		int throughV = ShortestPathTree.extend(distances[v], weight);
+		if (throughU < distances[v]) {
+			improve(v, throughU, u);
+		}
+		else if (throughV < distances[u]) {
+			improve(u, throughV, v);
+		}
+		else {
+			return;
+		}
+
+		propagate();
+	}
+
+	/**
+	 * 
+	 * Handles an edge which got heavier or was removed. Only a tree edge
+	 * matters, and then only the subtree below it.
+	 * 
+	 * @param u The first end
+	 * @param v The second end
+	 * 
+	 */
+	private void increase(int u, int v) {
+		int child;
+		if (parents[v] == u) {
+			child = v;
+		}
+		else if (parents[u] == v) {
+			child = u;
+		}
+		else {
+			return;
+		}
+
+		// First, we'll find the affected vertices. They are examined in order
+		// of distance, so that the neighbors which could support a vertex are
+		// settled before it is.
+		int[] list = new int[16];
+		int count = 0;
+		Q.insert(child, distances[child]);
+		while (!Q.isEmpty()) {
+			int x = Q.poll();
+
+			int p = support(x);
+			if (p != -1) {
+				// Another neighbor gives the same distance
+				parents[x] = p;
+				continue;
+			}
+
+			affected[x] = epoch;
+			if (count == list.length) {
+				list = Arrays.copyOf(list, 2 * count);
+			}
+			list[count++] = x;
+
+			// Its children lost their parent, so they have to be examined
+			for (int j = 0; j < degrees[x]; ++j) {
+				int z = neighbors[x][j];
+				if (parents[z] == x && !Q.contains(z)) {
+					Q.insert(z, distances[z]);
+				}
+			}
+		}
+
+		// Then, each affected vertex starts from its best unaffected neighbor
+		for (int i = 0; i < count; ++i) {
+			distances[list[i]] = ShortestPathTree.INFINITY;
+			parents[list[i]] = -1;
+		}
+		for (int i = 0; i < count; ++i) {
+			int x = list[i];
+			touch(x);
+
+			for (int j = 0; j < degrees[x]; ++j) {
+				int y = neighbors[x][j];
+				if (affected[y] == epoch
+						|| distances[y] == ShortestPathTree.INFINITY)
+					continue;
+
+				int alt = ShortestPathTree.extend(distances[y],
+						neighborWeights[x][j]);
+				if (alt < distances[x]) {
+					improve(x, alt, y);
+				}
+			}
+		}
+
+		// And the distances spread between the affected vertices
+		propagate();
+	}
+
+	/**
+	 * 
+	 * Looks for a neighbor which still gives a vertex its current distance
+	 * 
+	 * @param x The vertex
+	 * @return The neighbor, or -1 if there is none
+	 * 
+	 */
+	private int support(int x) {
+		int d = distances[x];
+		for (int j = 0; j < degrees[x]; ++j) {
+			int y = neighbors[x][j];
+			if (distances[y] == ShortestPathTree.INFINITY
+					|| (long) distances[y] + neighborWeights[x][j] != d
+					|| !isSettled(y, x))
+				continue;
+
+			return y;
+		}
+
+		return -1;
+	}
+
+	/**
+	 * 
+	 * Tells whether a neighbor's distance can be trusted while examining a
+	 * vertex. A neighbor which is affected, or still waiting to be examined,
+	 * can't be. With edges of weight zero, a neighbor at the same distance
+	 * could also be below the vertex in the tree, so we'll walk up from it
+	 * while the distance stays the same.
+	 * 
+	 * @param y The neighbor
+	 * @param x The vertex being examined
+	 * @return Whether it can be trusted
+	 * 
+	 */
+	private boolean isSettled(int y, int x) {
+		int d = distances[x];
+		for (int z = y; z != -1; z = parents[z]) {
+			if (z == x || affected[z] == epoch || Q.contains(z))
+				return false;
+			if (distances[z] != d)
+				return true;
+		}
+
+		return true;
+	}
+
+	/**
+	 * 
+	 * Runs Dijkstra's algorithm from the vertices in the queue, which only
+	 * goes as far as distances improve
+	 * 
+	 */
+	private void propagate() {
+		while (!Q.isEmpty()) {
+			int x = Q.poll();
+			int d = distances[x];
+
+			for (int j = 0; j < degrees[x]; ++j) {
+				int z = neighbors[x][j];
+				int alt = ShortestPathTree.extend(d,
+						neighborWeights[x][j]);
+				if (alt < distances[z]) {
+					improve(z, alt, x);
+				}
+			}
+		}
+	}
+
+	/**
+	 * 
+	 * Gives a vertex a shorter distance and queues it
+	 * 
+	 * @param x The vertex
+	 * @param d The distance
+	 * @param p The vertex before it on its path
+	 * 
+	 */
+	private void improve(int x, int d, int p) {
+		if (Q.contains(x)) {
+			Q.decreaseKey(x, d);
+		}
+		else {
+			Q.insert(x, d);
+		}
+
+		distances[x] = d;
+		parents[x] = p;
+		touch(x);
+	}
+
+	/**
+	 * 
+	 * Counts a vertex as changed by the current update
+	 * 
+	 * @param x The vertex
+	 * 
+	 */
+	private void touch(int x) {
+		if (changed[x] != epoch) {
+			changed[x] = epoch;
+			++changedCount;
+		}
+	}
+
+	/**
+	 * 
+	 * Starts a new update
+	 * 
+	 */
+	private void begin() {
+		// When the epochs run out, the stamps have to be cleared for real
+		if (++epoch == 0) {
+			Arrays.fill(affected, 0);
+			Arrays.fill(changed, 0);
+			epoch = 1;
+		}
+		changedCount = 0;
+	}
+
+	/**
+	 * 
+	 * Allocates the arrays for a number of vertices
+	 * 
+	 * @param capacity The number of vertices
+	 * 
+	 */
+	private void allocate(int capacity) {
+		neighbors = new int[capacity][];
+		neighborWeights = new int[capacity][];
+		degrees = new int[capacity];
+		distances = new int[capacity];
+		parents = new int[capacity];
+		affected = new int[capacity];
+		changed = new int[capacity];
+		Q = new DaryHeap(capacity);
+	}
+
+	/**
+	 * 
+	 * Sets the weight of the edge from a vertex to another one, inserting it
+	 * if needed
+	 * 
+	 */
+	private void setNeighbor(int u, int w, int weight) {
+		int i = indexOf(u, w);
+		if (i == -1) {
+			if (degrees[u] == neighbors[u].length) {
+				int capacity = 2 * degrees[u];
+				neighbors[u] = Arrays.copyOf(neighbors[u], capacity);
+				neighborWeights[u] = Arrays.copyOf(neighborWeights[u], capacity);
+			}
+			i = degrees[u]++;
+			neighbors[u][i] = w;
+		}
+
+		neighborWeights[u][i] = weight;
+	}
+
+	/**
+	 * 
+	 * Removes a vertex from the neighbors of another one
+	 * 
+	 */
+	private void removeNeighbor(int u, int v) {
+		int last = --degrees[u];
+		for (int j = 0; j <= last; ++j) {
+			if (neighbors[u][j] == v) {
+				neighbors[u][j] = neighbors[u][last];
+				neighborWeights[u][j] = neighborWeights[u][last];
+				return;
+			}
+		}
+	}
+
+	/**
+	 * 
+	 * Finds the position of a neighbor of a vertex
+	 * 
+	 * @return The position, or -1 if they aren't neighbors
+	 * 
+	 */
+	private int indexOf(int u, int w) {
+		if (u >= n)
+			return -1;
+
+		for (int j = 0; j < degrees[u]; ++j) {
+			if (neighbors[u][j] == w)
+				return j;
+		}
+
+		return -1;
+	}
+}
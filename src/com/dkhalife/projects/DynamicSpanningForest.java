@@ -0,0 +1,1216 @@
+package com.dkhalife.projects;
+
+import java.util.Arrays;
+
+/**
+ * 
+ * This class maintains a minimal spanning forest while edges are inserted,
+ * removed or change weight, without computing the forest again.
+ * 
+ * The forest is kept in a link-cut tree, where every edge is a node of its
+ * own sitting between its two ends, so the heaviest edge on the path between
+ * two vertices is found in logarithmic (amortized) time. An edge which joins
+ * two trees is simply linked. Otherwise, it closes a cycle, and it replaces
+ * the heaviest edge of that cycle if it is lighter.
+ * 
+ * When a tree edge is removed (or gets heavier), the lightest edge joining
+ * the two trees left is found with the levels of Holm, de Lichtenberg and
+ * Thorup. Every edge has a level, and the tree edges of level i or more make
+ * up the forest of level i, whose trees have at most n / 2^i vertices. Each
+ * of these forests is kept as Euler tours (see EulerTourForest), where the
+ * edges outside the forest hang from the vertices of their level. From the
+ * level of the removed edge down, the smaller side has its tree edges moved
+ * up a level, then its other edges are tried from the lightest: those which
+ * don't leave it move up too, and the first one which does is the best
+ * candidate of that level. Most cuts leave a small tree on one side though,
+ * so both sides are first explored together for O(log^2 n) steps, which
+ * settles them directly when one runs out.
+ * 
+ * Only deletions keep the levels in the order Holm, de Lichtenberg and
+ * Thorup rely on. Insertions put their edges on level 0, so the lower levels
+ * are searched too, for lighter candidates only, and when one is found below
+ * the highest candidate the edges crossing in between are moved down to its
+ * level. Since edges move down as well as up, their amortized bound doesn't
+ * hold here: in the worst case, an update tries every edge outside the
+ * forest on each of the log n levels, and collecting the ends of a side is
+ * linear in its size, so it costs O(m log^2 n). The levels still keep the
+ * edges tried by most updates few, but no better bound is claimed.
+ * 
+ * Vertices are identified by their index, edges by their ends; loops are
+ * ignored and parallel edges are merged into the lightest one.
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+public class DynamicSpanningForest {
+	// The value of the nodes which stand for vertices, lighter than any edge
+	private static final int NO_WEIGHT = -1;
+
+	// The number of neighbors, times log^2 n, looked at while exploring both
+	// sides of a cut before going through the levels instead
+	private static final int EXPLORE_BUDGET = 4;
+
+	// The number of vertices
+	private int n = 0;
+
+	// The neighbors of each vertex, along with the edge leading to them
+	private int[][] neighbors = new int[0][];
+	private int[][] neighborEdges = new int[0][];
+	private int[] degrees = new int[0];
+
+	// The ends and the weight of each edge, and whether it is in the forest
+	private int[] sources = new int[0];
+	private int[] targets = new int[0];
+	private int[] weights = new int[0];
+	private boolean[] inForest = new boolean[0];
+
+	// The number of edges, and the edges which were removed and can be reused
+	private int m = 0;
+	private int edgeSlots = 0;
+	private int[] freeEdges = new int[0];
+	private int freeCount = 0;
+
+	// The number of edges in the forest, and their total weight
+	private int forestSize = 0;
+	private long weight = 0;
+
+	// The node of the link-cut tree standing for each vertex and each edge
+	private int[] vertexNodes = new int[0];
+	private int[] edgeNodes = new int[0];
+
+	// The nodes of the link-cut tree: their children and parent in the splay
+	// trees, whether their children must be swapped, the weight they hold, the
+	// node of their subtree holding the heaviest weight, and the edge they
+	// stand for (or -1)
+	private int[] left = new int[0];
+	private int[] right = new int[0];
+	private int[] parent = new int[0];
+	private boolean[] flipped = new boolean[0];
+	private int[] values = new int[0];
+	private int[] heaviest = new int[0];
+	private int[] nodeEdges = new int[0];
+	private int nodeCount = 0;
+
+	// The path from a node to the root of its splay tree
+	private int[] stack = new int[16];
+
+	// The vertices reached from each side of a removed edge, and the update in
+	// which they were
+	private int[] sideA = new int[0];
+	private int[] sideB = new int[0];
+	private int[] stampsA = new int[0];
+	private int[] stampsB = new int[0];
+	private int epoch = 0;
+
+	// The level of each edge
+	private int[] levels = new int[0];
+
+	// The Euler tours of the forests of every level
+	private final EulerTourForest tours = new EulerTourForest();
+
+	// The node of each vertex in the tour of each level, or -1 as long as it
+	// has no tree edge at that level
+	private int[][] tourVertices = new int[0][];
+
+	// The first arc of each tree edge in the tour of each level up to its own
+	private int[][] tourArcs = new int[0][];
+
+	// The ends of each edge outside the forest, at its source then at its
+	// target, in the tour of its level
+	private int[] tourEnds = new int[0];
+
+	// The edges found while moving edges down
+	private int[] found = new int[16];
+
+	/**
+	 * 
+	 * A forest constructed without arguments has no vertex
+	 * 
+	 */
+	public DynamicSpanningForest() {
+	}
+
+	/**
+	 * 
+	 * A forest can also be constructed from a graph, in which case Kruskal's
+	 * algorithm builds it once
+	 * 
+	 * @param g The graph
+	 * 
+	 */
+	public DynamicSpanningForest(CsrGraph g) {
+		this(g, Kruskal.minimumSpanningTree(g));
+	}
+
+	/**
+	 * 
+	 * Or from a graph and a minimal spanning forest which was already
+	 * computed for it. The tree of a single component will do too, the other
+	 * components are then spanned by adding their edges one by one.
+	 * 
+	 * @param g The graph
+	 * @param tree The minimal spanning forest or tree
+	 * 
+	 */
+	public DynamicSpanningForest(CsrGraph g, SpanningTree tree) {
+		int count = g.vertexCount();
+		ensureVertices(count);
+
+		// First, we'll copy the edges, keeping the lightest of parallel ones
+		int[] positions = new int[count];
+		int[] stamps = new int[count];
+		Arrays.fill(stamps, -1);
+		for (int v = 0; v < count; ++v) {
+			for (int a = g.firstArc(v), end = g.endArc(v); a < end; ++a) {
+				int u = g.target(a);
+				if (u <= v)
+					continue;
+
+				if (stamps[u] == v) {
+					int e = positions[u];
+					weights[e] = Math.min(weights[e], g.weight(a));
+				}
+				else {
+					stamps[u] = v;
+					positions[u] = addEdge(v, u, g.weight(a));
+				}
+			}
+		}
+
+		// Then, the edges of the tree are linked. A minimal one picks the
+		// lightest of parallel edges too, so the weights match.
+		for (int e : tree.getEdges()) {
+			enter(find(g.edgeSource(e), g.edgeTarget(e)), 0);
+		}
+
+		// And the others are offered
+		for (int e = 0; e < edgeSlots; ++e) {
+			if (!inForest[e]) {
+				offer(e);
+			}
+		}
+	}
+
+	/**
+	 * 
+	 * Getter for the number of vertices
+	 * 
+	 * @return The number of vertices
+	 * 
+	 */
+	public int vertexCount() {
+		return n;
+	}
+
+	/**
+	 * 
+	 * Getter for the number of edges
+	 * 
+	 * @return The number of edges
+	 * 
+	 */
+	public int edgeCount() {
+		return m;
+	}
+
+	/**
+	 * 
+	 * Getter for the number of edges in the forest
+	 * 
+	 * @return The number of edges
+	 * 
+	 */
+	public int forestSize() {
+		return forestSize;
+	}
+
+	/**
+	 * 
+	 * Getter for the total weight of the forest
+	 * 
+	 * @return the weight
+	 * 
+	 */
+	public long getWeight() {
+		return weight;
+	}
+
+	/**
+	 * 
+	 * Getter for the weight of the edge between two vertices
+	 * 
+	 * @param u The first vertex
+	 * @param v The second vertex
+	 * @return The weight, or -1 if they aren't neighbors
+	 * 
+	 */
+	public int weight(int u, int v) {
+		int e = find(u, v);
+		return e == -1 ? -1 : weights[e];
+	}
+
+	/**
+	 * 
+	 * Tells whether the edge between two vertices is in the forest
+	 * 
+	 * @param u The first vertex
+	 * @param v The second vertex
+	 * @return Whether it is
+	 * 
+	 */
+	public boolean inForest(int u, int v) {
+		int e = find(u, v);
+		return e != -1 && inForest[e];
+	}
+
+	/**
+	 * 
+	 * Tells whether two vertices are in the same tree of the forest
+	 * 
+	 * @param u The first vertex
+	 * @param v The second vertex
+	 * @return Whether they are
+	 * 
+	 */
+	public boolean connected(int u, int v) {
+		if (u == v)
+			return true;
+		if (u >= n || v >= n)
+			return false;
+
+		return findRoot(vertexNodes[u]) == findRoot(vertexNodes[v]);
+	}
+
+	/**
+	 * 
+	 * Getter for the edges of the forest
+	 * 
+	 * @return The ends of each edge, one after the other
+	 * 
+	 */
+	public int[] forestEdges() {
+		int[] edges = new int[2 * forestSize];
+		int count = 0;
+		for (int e = 0; e < edgeSlots; ++e) {
+			if (inForest[e]) {
+				edges[count++] = sources[e];
+				edges[count++] = targets[e];
+			}
+		}
+
+		return edges;
+	}
+
+	/**
+	 * 
+	 * Inserts an edge, or changes its weight if it exists, and repairs the
+	 * forest. Vertices which don't exist yet are added.
+	 * 
+	 * @param u The first vertex
+	 * @param v The second vertex
+	 * @param w The new weight
+	 * 
+	 */
+	public void setWeight(int u, int v, int w) {
+		if (u < 0 || v < 0)
+			throw new IndexOutOfBoundsException("No such vertex: "
+					+ Math.min(u, v));
+		if (w < 0)
+			throw new IllegalArgumentException("Invalid weight: " + w);
+
+		ensureVertices(Math.max(u, v) + 1);
+		if (u == v)
+			return;
+
+		int e = find(u, v);
+		if (e == -1) {
+			e = addEdge(u, v, w);
+			offer(e);
+		}
+		else if (!inForest[e]) {
+			// Only a lighter edge could enter the forest
+			int old = weights[e];
+			weights[e] = w;
+			if (w < old) {
+				unpark(e);
+				offer(e);
+			}
+			else {
+				tours.reweigh(tourEnds[2 * e], w);
+				tours.reweigh(tourEnds[2 * e + 1], w);
+			}
+		}
+		else if (w <= weights[e]) {
+			// A tree edge getting lighter stays in the tree
+			weight -= weights[e] - w;
+			weights[e] = w;
+			int x = edgeNodes[e];
+			access(x);
+			values[x] = w;
+			update(x);
+		}
+		else {
+			// A tree edge getting heavier may have to be replaced, so we'll
+			// cut it and look for the best way to reconnect both sides, which
+			// may well be the same edge
+			int level = levels[e];
+			leave(e);
+			weights[e] = w;
+			values[edgeNodes[e]] = w;
+			replace(e, u, v, level, true);
+		}
+	}
+
+	/**
+	 * 
+	 * Removes an edge, if it exists, and repairs the forest
+	 * 
+	 * @param u The first vertex
+	 * @param v The second vertex
+	 * 
+	 */
+	public void removeEdge(int u, int v) {
+		int e = find(u, v);
+		if (e == -1)
+			return;
+
+		boolean tree = inForest[e];
+		int level = levels[e];
+		if (tree) {
+			leave(e);
+		}
+		else {
+			unpark(e);
+		}
+
+		removeNeighbor(u, e);
+		removeNeighbor(v, e);
+		--m;
+		freeEdges[freeCount++] = e;
+
+		if (tree) {
+			replace(e, u, v, level, false);
+		}
+	}
+
+	/**
+	 * 
+	 * Makes room for more vertices, the new ones have no edge
+	 * 
+	 * @param count The number of vertices
+	 * 
+	 */
+	public void ensureVertices(int count) {
+		if (count <= n)
+			return;
+
+		if (count > degrees.length) {
+			int capacity = Math.max(count, 2 * degrees.length);
+			neighbors = Arrays.copyOf(neighbors, capacity);
+			neighborEdges = Arrays.copyOf(neighborEdges, capacity);
+			degrees = Arrays.copyOf(degrees, capacity);
+			vertexNodes = Arrays.copyOf(vertexNodes, capacity);
+			tourVertices = Arrays.copyOf(tourVertices, capacity);
+			sideA = Arrays.copyOf(sideA, capacity);
+			sideB = Arrays.copyOf(sideB, capacity);
+			stampsA = Arrays.copyOf(stampsA, capacity);
+			stampsB = Arrays.copyOf(stampsB, capacity);
+		}
+
+		for (int v = n; v < count; ++v) {
+			neighbors[v] = new int[1];
+			neighborEdges[v] = new int[1];
+			degrees[v] = 0;
+			vertexNodes[v] = newNode(NO_WEIGHT, -1);
+			tourVertices[v] = new int[] { -1 };
+		}
+		n = count;
+	}
+
+	/**
+	 * 
+	 * Lets an edge which isn't in the forest enter it if it joins two trees,
+	 * or if it is lighter than the heaviest edge of the cycle it closes.
+	 * Otherwise, it stays out on level 0.
+	 * 
+	 * @param e The edge
+	 * 
+	 */
+	private void offer(int e) {
+		int x = vertexNodes[sources[e]];
+		int y = vertexNodes[targets[e]];
+		if (findRoot(x) != findRoot(y)) {
+			enter(e, 0);
+			return;
+		}
+
+		makeRoot(x);
+		access(y);
+		int worst = nodeEdges[heaviest[y]];
+		if (weights[worst] > weights[e]) {
+			swap(worst, e);
+		}
+		else {
+			park(e, 0);
+		}
+	}
+
+	/**
+	 * 
+	 * Replaces a tree edge with a lighter one which closes a cycle through it
+	 * 
+	 * @param f The tree edge
+	 * @param e The lighter edge
+	 * 
+	 */
+	private void swap(int f, int e) {
+		// The new edge can take the place of the old one at the highest level
+		// where its ends are already connected. When that is the level of the
+		// old one, nothing else changes.
+		int level = levels[f];
+		int at = level;
+		while (at > 0 && !connected(sources[e], targets[e], at)) {
+			--at;
+		}
+
+		leave(f);
+		if (at == level) {
+			enter(e, at);
+			park(f, at);
+		}
+		else {
+			// Otherwise, it is the lightest edge joining both sides, and the
+			// search will move what crosses above it down
+			park(e, at);
+			replace(f, sources[f], targets[f], level, true);
+		}
+	}
+
+	/**
+	 * 
+	 * Looks for the lightest edge joining the two trees left after a tree
+	 * edge was cut, and links it
+	 * 
+	 * @param f The tree edge
+	 * @param u A vertex of the first tree
+	 * @param v A vertex of the second tree
+	 * @param level The level the tree edge had
+	 * @param candidate Whether the tree edge itself can join them again
+	 * 
+	 */
+	private void replace(int f, int u, int v, int level, boolean candidate) {
+		if (reconnect(f, u, v, level, candidate))
+			return;
+
+		int best = candidate ? f : -1;
+		int top = candidate ? level : -1;
+		for (int k = level; k >= 0; --k) {
+			// A vertex without a node on a level is alone there, and nothing
+			// crosses from it
+			int x = tourVertex(u, k, false);
+			int y = tourVertex(v, k, false);
+			if (x == -1 || y == -1)
+				continue;
+
+			int small = tours.size(x) <= tours.size(y) ? x : y;
+
+			// The edges of the smaller side are tried from the lightest, and
+			// those which stay inside move up a level
+			boolean raised = false;
+			for (int z = tours.lightest(small); z != -1; z = tours.lightest(small)) {
+				int e = tours.owner(z);
+				if (best != -1 && key(e) >= key(best))
+					break;
+
+				int other = z == tourEnds[2 * e] ? targets[e] : sources[e];
+				if (connected(tours.owner(small), other, k)) {
+					// The side has at most half the vertices, so its tree
+					// edges can move up first. They only have to once some
+					// edge does.
+					if (!raised) {
+						for (int a = tours.marked(small); a != -1; a = tours
+								.marked(small)) {
+							raise(tours.owner(a), k);
+						}
+						raised = true;
+					}
+
+					unpark(e);
+					park(e, k + 1);
+				}
+				else {
+					best = e;
+					top = Math.max(top, k);
+					break;
+				}
+			}
+		}
+
+		if (best == -1)
+			return;
+
+		if (best == f) {
+			enter(f, level);
+			return;
+		}
+
+		// Whatever crosses above the level of the best edge has to come down
+		// to it, since both sides are joined on that level only
+		int at = levels[best];
+		unpark(best);
+		if (at < top) {
+			lower(u, v, at, top);
+		}
+		enter(best, at);
+		if (candidate) {
+			park(f, at);
+		}
+	}
+
+	/**
+	 * 
+	 * Looks for the lightest edge joining the two trees left after a tree
+	 * edge was cut by exploring both trees at the same pace, as long as the
+	 * smaller one is small. Random cuts mostly leave a handful of vertices on
+	 * one side, which this finds much faster than going through the levels.
+	 * 
+	 * @param f The tree edge
+	 * @param u A vertex of the first tree
+	 * @param v A vertex of the second tree
+	 * @param level The level the tree edge had
+	 * @param candidate Whether the tree edge itself can join them again
+	 * @return Whether the smaller tree was explored within the budget
+	 * 
+	 */
+	private boolean reconnect(int f, int u, int v, int level, boolean candidate) {
+		if (++epoch == 0) {
+			Arrays.fill(stampsA, 0);
+			Arrays.fill(stampsB, 0);
+			epoch = 1;
+		}
+
+		// We'll explore both trees one vertex at a time, until the smaller one
+		// is exhausted or too many neighbors were looked at
+		int bits = 32 - Integer.numberOfLeadingZeros(n);
+		int budget = EXPLORE_BUDGET * bits * bits;
+		int sizeA = 1, sizeB = 1, headA = 0, headB = 0;
+		sideA[0] = u;
+		sideB[0] = v;
+		stampsA[u] = epoch;
+		stampsB[v] = epoch;
+		while (headA < sizeA && headB < sizeB) {
+			budget -= degrees[sideA[headA]] + degrees[sideB[headB]];
+			if (budget < 0)
+				return false;
+
+			sizeA = explore(sideA[headA++], sideA, sizeA, stampsA);
+			sizeB = explore(sideB[headB++], sideB, sizeB, stampsB);
+		}
+
+		int[] side = headA == sizeA ? sideA : sideB;
+		int[] stamps = headA == sizeA ? stampsA : stampsB;
+		int size = headA == sizeA ? sizeA : sizeB;
+
+		// Every edge leaving the smaller tree reaches the other one
+		int best = -1;
+		for (int i = 0; i < size; ++i) {
+			int x = side[i];
+			for (int j = 0; j < degrees[x]; ++j) {
+				int e = neighborEdges[x][j];
+				if (!inForest[e] && stamps[neighbors[x][j]] != epoch
+						&& (best == -1 || key(e) < key(best))) {
+					best = e;
+				}
+			}
+		}
+
+		if (best == -1)
+			return true;
+
+		if (best == f) {
+			enter(f, level);
+			return true;
+		}
+
+		// The other crossing edges above the level of the best one come down
+		// to it, since both sides are joined on that level only
+		int at = levels[best];
+		for (int i = 0; i < size; ++i) {
+			int x = side[i];
+			for (int j = 0; j < degrees[x]; ++j) {
+				int e = neighborEdges[x][j];
+				if (!inForest[e] && e != f && levels[e] > at
+						&& stamps[neighbors[x][j]] != epoch) {
+					unpark(e);
+					park(e, at);
+				}
+			}
+		}
+
+		unpark(best);
+		enter(best, at);
+		if (candidate) {
+			park(f, at);
+		}
+		return true;
+	}
+
+	/**
+	 * 
+	 * Adds the neighbors of a vertex in the forest to a side being explored
+	 * 
+	 * @param x The vertex
+	 * @param side The vertices of the side
+	 * @param size The number of vertices in the side
+	 * @param stamps The stamps of the side
+	 * @return The new number of vertices in the side
+	 * 
+	 */
+	private int explore(int x, int[] side, int size, int[] stamps) {
+		for (int j = 0; j < degrees[x]; ++j) {
+			int y = neighbors[x][j];
+			if (inForest[neighborEdges[x][j]] && stamps[y] != epoch) {
+				stamps[y] = epoch;
+				side[size++] = y;
+			}
+		}
+
+		return size;
+	}
+
+	/**
+	 * 
+	 * Moves the edges outside the forest which cross between two trees down
+	 * to a level, on every level above it up to a given one
+	 * 
+	 * @param u A vertex of the first tree
+	 * @param v A vertex of the second tree
+	 * @param at The level to move them to
+	 * @param top The highest level they may be on
+	 * 
+	 */
+	private void lower(int u, int v, int at, int top) {
+		for (int k = at + 1; k <= top; ++k) {
+			int x = tourVertex(u, k, false);
+			int y = tourVertex(v, k, false);
+			if (x == -1 || y == -1)
+				continue;
+
+			int side = tours.endCount(x) <= tours.endCount(y) ? x : y;
+
+			int count = tours.endCount(side);
+			if (count > found.length) {
+				found = new int[Math.max(count, 2 * found.length)];
+			}
+			count = tours.collectEnds(side, found);
+
+			// The edges staying inside the side are seen twice, the ones
+			// crossing only once
+			for (int i = 0; i < count; ++i) {
+				int e = found[i];
+				if (!connected(sources[e], targets[e], k)) {
+					unpark(e);
+					park(e, at);
+				}
+			}
+		}
+	}
+
+	/**
+	 * 
+	 * Tells whether two vertices are connected on a level
+	 * 
+	 */
+	private boolean connected(int u, int v, int level) {
+		int x = tourVertex(u, level, false);
+		int y = tourVertex(v, level, false);
+		return x != -1 && y != -1 && tours.connected(x, y);
+	}
+
+	/**
+	 * 
+	 * Finds the node of a vertex in the tour of a level
+	 * 
+	 * @param v The vertex
+	 * @param level The level
+	 * @param create Whether to create it if the vertex has none yet
+	 * @return The node, or -1
+	 * 
+	 */
+	private int tourVertex(int v, int level, boolean create) {
+		int[] nodes = tourVertices[v];
+		if (level < nodes.length && nodes[level] != -1)
+			return nodes[level];
+		if (!create)
+			return -1;
+
+		if (level >= nodes.length) {
+			int length = nodes.length;
+			nodes = tourVertices[v] = Arrays.copyOf(nodes, level + 1);
+			Arrays.fill(nodes, length, level + 1, -1);
+		}
+
+		return nodes[level] = tours.vertex(v);
+	}
+
+	/**
+	 * 
+	 * Frees the node of a vertex on a level once nothing hangs from it, so
+	 * that the tours only hold the vertices they connect
+	 * 
+	 */
+	private void release(int v, int level) {
+		if (tours.release(tourVertices[v][level])) {
+			tourVertices[v][level] = -1;
+		}
+	}
+
+	/**
+	 * 
+	 * Adds an edge to the forest, on every level up to its own
+	 * 
+	 * @param e The edge
+	 * @param level Its level
+	 * 
+	 */
+	private void enter(int e, int level) {
+		link(e);
+
+		levels[e] = level;
+		for (int k = 0; k <= level; ++k) {
+			linkTour(e, k);
+		}
+		tours.mark(tourArcs[e][level], true);
+	}
+
+	/**
+	 * 
+	 * Removes an edge from the forest, on every level
+	 * 
+	 * @param e The edge
+	 * 
+	 */
+	private void leave(int e) {
+		cut(e);
+
+		for (int k = 0; k <= levels[e]; ++k) {
+			tours.cut(tourArcs[e][k]);
+			release(sources[e], k);
+			release(targets[e], k);
+		}
+	}
+
+	/**
+	 * 
+	 * Moves a tree edge up a level
+	 * 
+	 * @param e The edge
+	 * @param level Its level
+	 * 
+	 */
+	private void raise(int e, int level) {
+		tours.mark(tourArcs[e][level], false);
+		levels[e] = level + 1;
+		linkTour(e, level + 1);
+		tours.mark(tourArcs[e][level + 1], true);
+	}
+
+	/**
+	 * 
+	 * Links a tree edge in the tour of a level
+	 * 
+	 */
+	private void linkTour(int e, int level) {
+		if (tourArcs[e] == null || level >= tourArcs[e].length) {
+			tourArcs[e] = tourArcs[e] == null ? new int[2] : Arrays.copyOf(
+					tourArcs[e], 2 * tourArcs[e].length);
+		}
+
+		tourArcs[e][level] = tours.link(tourVertex(sources[e], level, true),
+				tourVertex(targets[e], level, true), e);
+	}
+
+	/**
+	 * 
+	 * Hangs an edge outside the forest from its ends, on a level
+	 * 
+	 * @param e The edge
+	 * @param level The level
+	 * 
+	 */
+	private void park(int e, int level) {
+		levels[e] = level;
+		tourEnds[2 * e] = tours.addEnd(tourVertex(sources[e], level, true), e,
+				weights[e]);
+		tourEnds[2 * e + 1] = tours.addEnd(
+				tourVertex(targets[e], level, true), e, weights[e]);
+	}
+
+	/**
+	 * 
+	 * Takes an edge outside the forest off its ends
+	 * 
+	 * @param e The edge
+	 * 
+	 */
+	private void unpark(int e) {
+		tours.removeEnd(tourEnds[2 * e]);
+		tours.removeEnd(tourEnds[2 * e + 1]);
+		release(sources[e], levels[e]);
+		release(targets[e], levels[e]);
+	}
+
+	/**
+	 * 
+	 * Orders the edges by weight, then by index so that no two are equal
+	 * 
+	 */
+	private long key(int e) {
+		return (long) weights[e] << 32 | e;
+	}
+
+	/**
+	 * 
+	 * Adds an edge to the forest in the link-cut tree
+	 * 
+	 * @param e The edge
+	 * 
+	 */
+	private void link(int e) {
+		int x = edgeNodes[e];
+		values[x] = weights[e];
+		update(x);
+
+		makeRoot(vertexNodes[sources[e]]);
+		parent[vertexNodes[sources[e]]] = x;
+		parent[x] = vertexNodes[targets[e]];
+
+		inForest[e] = true;
+		++forestSize;
+		weight += weights[e];
+	}
+
+	/**
+	 * 
+	 * Removes an edge from the forest in the link-cut tree
+	 * 
+	 * @param e The edge
+	 * 
+	 */
+	private void cut(int e) {
+		int x = edgeNodes[e];
+		cut(vertexNodes[sources[e]], x);
+		cut(x, vertexNodes[targets[e]]);
+
+		inForest[e] = false;
+		--forestSize;
+		weight -= weights[e];
+	}
+
+	/**
+	 * 
+	 * Adds an edge to the graph, without offering it to the forest
+	 * 
+	 * @return The edge
+	 * 
+	 */
+	private int addEdge(int u, int v, int w) {
+		int e;
+		if (freeCount > 0) {
+			e = freeEdges[--freeCount];
+		}
+		else {
+			if (edgeSlots == sources.length) {
+				int capacity = Math.max(16, 2 * edgeSlots);
+				sources = Arrays.copyOf(sources, capacity);
+				targets = Arrays.copyOf(targets, capacity);
+				weights = Arrays.copyOf(weights, capacity);
+				inForest = Arrays.copyOf(inForest, capacity);
+				edgeNodes = Arrays.copyOf(edgeNodes, capacity);
+				freeEdges = Arrays.copyOf(freeEdges, capacity);
+				levels = Arrays.copyOf(levels, capacity);
+				tourArcs = Arrays.copyOf(tourArcs, capacity);
+				tourEnds = Arrays.copyOf(tourEnds, 2 * capacity);
+			}
+			e = edgeSlots++;
+			edgeNodes[e] = newNode(w, e);
+		}
+
+		sources[e] = u;
+		targets[e] = v;
+		weights[e] = w;
+		inForest[e] = false;
+		++m;
+
+		addNeighbor(u, v, e);
+		addNeighbor(v, u, e);
+		return e;
+	}
+
+	/**
+	 * 
+	 * Finds the edge between two vertices, looking through the neighbors of
+	 * the one with the fewest
+	 * 
+	 * @return The edge, or -1 if there is none
+	 * 
+	 */
+	private int find(int u, int v) {
+		if (u >= n || v >= n || u == v)
+			return -1;
+
+		if (degrees[v] < degrees[u]) {
+			int t = u;
+			u = v;
+			v = t;
+		}
+
+		for (int j = 0; j < degrees[u]; ++j) {
+			if (neighbors[u][j] == v)
+				return neighborEdges[u][j];
+		}
+
+		return -1;
+	}
+
+	/**
+	 * 
+	 * Adds a neighbor to a vertex
+	 * 
+	 */
+	private void addNeighbor(int u, int v, int e) {
+		if (degrees[u] == neighbors[u].length) {
+			int capacity = 2 * degrees[u];
+			neighbors[u] = Arrays.copyOf(neighbors[u], capacity);
+			neighborEdges[u] = Arrays.copyOf(neighborEdges[u], capacity);
+		}
+
+		neighbors[u][degrees[u]] = v;
+		neighborEdges[u][degrees[u]++] = e;
+	}
+
+	/**
+	 * 
+	 * Removes an edge from the neighbors of a vertex
+	 * 
+	 */
+	private void removeNeighbor(int u, int e) {
+		int last = --degrees[u];
+		for (int j = 0; j <= last; ++j) {
+			if (neighborEdges[u][j] == e) {
+				neighbors[u][j] = neighbors[u][last];
+				neighborEdges[u][j] = neighborEdges[u][last];
+				return;
+			}
+		}
+	}
+
+	/**
+	 * 
+	 * Creates a node of the link-cut tree, on its own
+	 * 
+	 * @param value The weight it holds
+	 * @param e The edge it stands for, or -1 for a vertex
+	 * @return The node
+	 * 
+	 */
+	private int newNode(int value, int e) {
+		if (nodeCount == values.length) {
+			int capacity = Math.max(16, 2 * nodeCount);
+			left = Arrays.copyOf(left, capacity);
+			right = Arrays.copyOf(right, capacity);
+			parent = Arrays.copyOf(parent, capacity);
+			flipped = Arrays.copyOf(flipped, capacity);
+			values = Arrays.copyOf(values, capacity);
+			heaviest = Arrays.copyOf(heaviest, capacity);
+			nodeEdges = Arrays.copyOf(nodeEdges, capacity);
+		}
+
+		int x = nodeCount++;
+		left[x] = right[x] = parent[x] = -1;
+		flipped[x] = false;
+		values[x] = value;
+		heaviest[x] = x;
+		nodeEdges[x] = e;
+		return x;
+	}
+
+	/**
+	 * 
+	 * Tells whether a node is the root of its splay tree, in which case its
+	 * parent (if any) is the next node of the path above it
+	 * 
+	 */
+	private boolean isRoot(int x) {
+		int p = parent[x];
+		return p == -1 || (left[p] != x && right[p] != x);
+	}
+
+	/**
+	 * 
+	 * Recomputes the heaviest node of the subtree of a node
+	 * 
+	 */
+	private void update(int x) {
+		int h = x;
+		if (left[x] != -1 && values[heaviest[left[x]]] > values[h]) {
+			h = heaviest[left[x]];
+		}
+		if (right[x] != -1 && values[heaviest[right[x]]] > values[h]) {
+			h = heaviest[right[x]];
+		}
+		heaviest[x] = h;
+	}
+
+	/**
+	 * 
+	 * Swaps the children of a node if needed, passing the flip down
+	 * 
+	 */
+	private void push(int x) {
+		if (flipped[x]) {
+			int t = left[x];
+			left[x] = right[x];
+			right[x] = t;
+			if (left[x] != -1) {
+				flipped[left[x]] ^= true;
+			}
+			if (right[x] != -1) {
+				flipped[right[x]] ^= true;
+			}
+			flipped[x] = false;
+		}
+	}
+
+	/**
+	 * 
+	 * Rotates a node above its parent
+	 * 
+	 */
+	private void rotate(int x) {
+		int p = parent[x];
+		int g = parent[p];
+		boolean root = isRoot(p);
+
+		if (left[p] == x) {
+			left[p] = right[x];
+			if (left[p] != -1) {
+				parent[left[p]] = p;
+			}
+			right[x] = p;
+		}
+		else {
+			right[p] = left[x];
+			if (right[p] != -1) {
+				parent[right[p]] = p;
+			}
+			left[x] = p;
+		}
+
+		parent[p] = x;
+		parent[x] = g;
+		if (!root) {
+			if (left[g] == p) {
+				left[g] = x;
+			}
+			else {
+				right[g] = x;
+			}
+		}
+
+		update(p);
+		update(x);
+	}
+
+	/**
+	 * 
+	 * Brings a node to the root of its splay tree
+	 * 
+	 */
+	private void splay(int x) {
+		// The pending flips above the node have to be passed down first
+		int k = 0;
+		for (int y = x;; y = parent[y]) {
+			if (k == stack.length) {
+				stack = Arrays.copyOf(stack, 2 * k);
+			}
+			stack[k++] = y;
+			if (isRoot(y))
+				break;
+		}
+		while (k > 0) {
+			push(stack[--k]);
+		}
+
+		while (!isRoot(x)) {
+			int p = parent[x];
+			if (!isRoot(p)) {
+				int g = parent[p];
+				rotate((left[g] == p) == (left[p] == x) ? p : x);
+			}
+			rotate(x);
+		}
+	}
+
+	/**
+	 * 
+	 * Makes the path from the root of its tree to a node preferred, the node
+	 * ends up at the root of its splay tree with nothing on its right
+	 * 
+	 */
+	private void access(int x) {
+		int last = -1;
+		for (int y = x; y != -1; y = parent[y]) {
+			splay(y);
+			right[y] = last;
+			update(y);
+			last = y;
+		}
+
+		splay(x);
+	}
+
+	/**
+	 * 
+	 * Makes a node the root of its tree
+	 * 
+	 */
+	private void makeRoot(int x) {
+		access(x);
+		flipped[x] ^= true;
+	}
+
+	/**
+	 * 
+	 * Finds the root of the tree of a node
+	 * 
+	 */
+	private int findRoot(int x) {
+		access(x);
+		push(x);
+		while (left[x] != -1) {
+			x = left[x];
+			push(x);
+		}
+
+		splay(x);
+		return x;
+	}
+
+	/**
+	 * 
+	 * Cuts the link between two adjacent nodes
+	 * 
+	 */
+	private void cut(int x, int y) {
+		makeRoot(x);
+		access(y);
+
+		// The path is now made of x and y only, with x on the left
+		left[y] = -1;
+		parent[x] = -1;
+		update(y);
+	}
+}
@@ -144,6 +144,20 @@ public class Edge implements Comparable<Edge>, Serializable {
 		return false;
 	}
 
+	/**
+	 * 
+	 * The hashCode implementation is consistent with equals, it doesn't
+	 * depend on the order of the vertices either
+	 * 
+	 */
+	@Override
+	public int hashCode() {
+		int h1 = v1 == null ? 0 : v1.hashCode();
+		int h2 = v2 == null ? 0 : v2.hashCode();
+
+		return 31 * Math.min(h1, h2) + Math.max(h1, h2);
+	}
+
 	/**
 	 * 
 	 * The compareTo implementation compares two Edges with respect to their
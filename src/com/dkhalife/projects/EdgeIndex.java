@@ -0,0 +1,244 @@
+package com.dkhalife.projects;
+
+import java.util.Arrays;
+
+/**
+ * 
+ * This class maps the edges of an undirected graph, identified by the ids of
+ * their two vertices, to an int (typically their position in a list). The
+ * pair is packed in a long, smallest id first, so both orders find the same
+ * edge, and the longs are kept in an open addressing hash table with linear
+ * probing. Nothing is boxed, so looking an edge up, changing what it maps to
+ * or removing it all take constant time, however many edges there are.
+ * 
+ * Removed edges don't leave anything behind: the entries after them are
+ * shifted back, so the table never fills up with dead slots.
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+public class EdgeIndex {
+	// The key of the empty slots, no pair of valid ids packs to it
+	private static final long EMPTY = -1L;
+
+	// The keys and the values of the table
+	private long[] keys;
+	private int[] values;
+
+	// The number of edges
+	private int size = 0;
+
+	/**
+	 * 
+	 * An index constructed without arguments starts small
+	 * 
+	 */
+	public EdgeIndex() {
+		this(16);
+	}
+
+	/**
+	 * 
+	 * An index can also be sized for the number of edges it will hold
+	 * 
+	 * @param expected The number of edges
+	 * 
+	 */
+	public EdgeIndex(int expected) {
+		int capacity = 16;
+		while (capacity < 2 * expected) {
+			capacity <<= 1;
+		}
+
+		allocate(capacity);
+	}
+
+	/**
+	 * 
+	 * Packs the ids of the two vertices of an edge, in any order
+	 * 
+	 * @param u The id of the first vertex
+	 * @param v The id of the second vertex
+	 * @return The key of the edge
+	 * 
+	 */
+	public static long key(int u, int v) {
+		if (u < 0 || v < 0)
+			throw new IndexOutOfBoundsException("Invalid vertex: "
+					+ Math.min(u, v));
+
+		return ((long) Math.min(u, v) << 32) | Math.max(u, v);
+	}
+
+	/**
+	 * 
+	 * Getter for the number of edges
+	 * 
+	 * @return The number of edges
+	 * 
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * 
+	 * Tells whether there is an edge between two vertices
+	 * 
+	 * @param u The id of the first vertex
+	 * @param v The id of the second vertex
+	 * @return Whether there is
+	 * 
+	 */
+	public boolean contains(int u, int v) {
+		return get(u, v) != -1;
+	}
+
+	/**
+	 * 
+	 * Looks an edge up
+	 * 
+	 * @param u The id of the first vertex
+	 * @param v The id of the second vertex
+	 * @return What the edge maps to, or -1 if there is no such edge
+	 * 
+	 */
+	public int get(int u, int v) {
+		int s = find(key(u, v));
+		return keys[s] == EMPTY ? -1 : values[s];
+	}
+
+	/**
+	 * 
+	 * Maps an edge to a value, adding it if needed
+	 * 
+	 * @param u The id of the first vertex
+	 * @param v The id of the second vertex
+	 * @param value The value, which must not be negative
+	 * @return What the edge mapped to before, or -1 if it was just added
+	 * 
+	 */
+	public int put(int u, int v, int value) {
+		if (value < 0)
+			throw new IllegalArgumentException("Invalid value: " + value);
+
+		long key = key(u, v);
+		int s = find(key);
+		if (keys[s] != EMPTY) {
+			int previous = values[s];
+			values[s] = value;
+			return previous;
+		}
+
+		// Keep the table at most half full
+		if (2 * (size + 1) > keys.length) {
+			rehash(2 * keys.length);
+			s = find(key);
+		}
+
+		keys[s] = key;
+		values[s] = value;
+		++size;
+		return -1;
+	}
+
+	/**
+	 * 
+	 * Removes an edge
+	 * 
+	 * @param u The id of the first vertex
+	 * @param v The id of the second vertex
+	 * @return What the edge mapped to, or -1 if there was no such edge
+	 * 
+	 */
+	public int remove(int u, int v) {
+		int s = find(key(u, v));
+		if (keys[s] == EMPTY)
+			return -1;
+
+		int previous = values[s];
+		--size;
+
+		// The entries after the hole are moved back into it unless they are
+		// already between their home slot and the hole
+		int mask = keys.length - 1;
+		int hole = s;
+		for (int i = (s + 1) & mask; keys[i] != EMPTY; i = (i + 1) & mask) {
+			int home = hash(keys[i], mask);
+			if (((i - home) & mask) >= ((i - hole) & mask)) {
+				keys[hole] = keys[i];
+				values[hole] = values[i];
+				hole = i;
+			}
+		}
+		keys[hole] = EMPTY;
+
+		return previous;
+	}
+
+	/**
+	 * 
+	 * Removes every edge
+	 * 
+	 */
+	public void clear() {
+		Arrays.fill(keys, EMPTY);
+		size = 0;
+	}
+
+	/**
+	 * 
+	 * Finds the slot of a key, or the empty slot where it would go
+	 * 
+	 */
+	private int find(long key) {
+		int mask = keys.length - 1;
+		int s = hash(key, mask);
+		while (keys[s] != EMPTY && keys[s] != key) {
+			s = (s + 1) & mask;
+		}
+
+		return s;
+	}
+
+	/**
+	 * 
+	 * Scrambles a key into the first slot to probe
+	 * 
+	 */
+	private static int hash(long key, int mask) {
+		return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+	}
+
+	/**
+	 * 
+	 * Moves every entry to a table of another size
+	 * 
+	 */
+	private void rehash(int capacity) {
+		long[] oldKeys = keys;
+		int[] oldValues = values;
+
+		allocate(capacity);
+		for (int i = 0; i < oldKeys.length; ++i) {
+			if (oldKeys[i] != EMPTY) {
+				int s = find(oldKeys[i]);
+				keys[s] = oldKeys[i];
+				values[s] = oldValues[i];
+			}
+		}
+	}
+
+	/**
+	 * 
+	 * Allocates an empty table
+	 * 
+	 */
+	private void allocate(int capacity) {
+		keys = new long[capacity];
+		values = new int[capacity];
+		Arrays.fill(keys, EMPTY);
+	}
+}
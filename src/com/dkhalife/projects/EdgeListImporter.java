@@ -0,0 +1,448 @@
+package com.dkhalife.projects;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 
+ * This class imports large graphs from text edge lists. The file is memory
+ * mapped and split into chunks which end on a line boundary. The edges of
+ * every chunk are first counted in parallel, which tells where they go in the
+ * edge list of the whole file, then every chunk is parsed in parallel straight
+ * from the mapped bytes into its part of the edge list.
+ * No String, Vertex or Edge is ever created along the way.
+ * 
+ * Three formats are supported:
+ * 
+ * DIMACS: "c" lines are comments, the "p sp n m" line gives the number of
+ * vertices and each "a u v w" line is an edge. Vertices are numbered from 1.
+ * 
+ * SNAP: lines starting with "#" are comments and each other line holds the
+ * endpoints of an edge separated by blanks, optionally followed by a weight.
+ * Vertices are numbered from 0.
+ * 
+ * CSV: same as SNAP except that the values are separated by commas, a header
+ * line is skipped.
+ * 
+ * Edges without a weight get a weight of 1, and every line of the file
+ * becomes an undirected edge.
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+public class EdgeListImporter {
+	// The supported formats
+	public static final int DIMACS = 0;
+	public static final int SNAP = 1;
+	public static final int CSV = 2;
+
+	// The weight given to edges which don't have one
+	private static final int DEFAULT_WEIGHT = 1;
+
+	// The largest chunk parsed by a single task
+	private static final long MAX_CHUNK = 1 << 26;
+
+	// The smallest chunk worth a task
+	private static final long MIN_CHUNK = 1 << 20;
+
+	// The number of bytes looked at when searching for the end of a line
+	private static final int WINDOW = 1 << 12;
+
+	/**
+	 * 
+	 * This class only holds static methods
+	 * 
+	 */
+	private EdgeListImporter() {
+	}
+
+	/**
+	 * 
+	 * Guesses the format of a file from its extension: ".gr" files are DIMACS,
+	 * ".csv" files are CSV and anything else is SNAP
+	 * 
+	 * @param path The file
+	 * @return The format
+	 * 
+	 */
+	public static int formatOf(Path path) {
+		String name = path.getFileName().toString().toLowerCase();
+		if (name.endsWith(".gr"))
+			return DIMACS;
+		if (name.endsWith(".csv"))
+			return CSV;
+		return SNAP;
+	}
+
+	/**
+	 * 
+	 * Imports a graph on the common pool, guessing its format from the
+	 * extension of the file
+	 * 
+	 * @param path The file
+	 * @return The graph
+	 * @throws IOException If the file can't be read or is malformed
+	 * 
+	 */
+	public static CsrGraph load(Path path) throws IOException {
+		return load(path, formatOf(path), ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * 
+	 * Imports a graph
+	 * 
+	 * @param path The file
+	 * @param format The format of the file (DIMACS, SNAP or CSV)
+	 * @param pool The pool to run in
+	 * @return The graph
+	 * @throws IOException If the file can't be read or is malformed
+	 * 
+	 */
+	public static CsrGraph load(Path path, final int format, ForkJoinPool pool)
+			throws IOException {
+		if (format != DIMACS && format != SNAP && format != CSV)
+			throw new IllegalArgumentException("Unknown format: " + format);
+
+		try (final FileChannel channel = FileChannel.open(path,
+				StandardOpenOption.READ)) {
+			// First, we'll split the file into chunks of whole lines
+			final long[] bounds = split(channel, pool.getParallelism());
+			final Chunk[] chunks = new Chunk[bounds.length - 1];
+
+			// Then count the edges of every chunk on its own, without parsing
+			// them yet
+			ParallelFor.run(pool, 0, chunks.length, 1, new ParallelFor.Body() {
+				public void run(int from, int to) {
+					for (int i = from; i < to; ++i) {
+						try {
+							chunks[i] = new Chunk(channel, bounds[i],
+									bounds[i + 1]);
+							chunks[i].count(format);
+						} catch (IOException e) {
+							throw new UncheckedIOException(e);
+						}
+					}
+				}
+			});
+
+			// Now we know where the edges of each chunk go in the edge list
+			final long[] starts = new long[chunks.length + 1];
+			for (int i = 0; i < chunks.length; ++i) {
+				starts[i + 1] = starts[i] + chunks[i].size;
+			}
+
+			// Every edge is stored as two arcs, which must fit in an array
+			long m = starts[chunks.length];
+			if (m > Integer.MAX_VALUE / 2)
+				throw new IOException("Too many edges: " + m);
+
+			// So every chunk can parse its edges straight into their place,
+			// the edge list is never copied
+			final int[] sources = new int[(int) m];
+			final int[] destinations = new int[(int) m];
+			final int[] weights = new int[(int) m];
+			ParallelFor.run(pool, 0, chunks.length, 1, new ParallelFor.Body() {
+				public void run(int from, int to) {
+					for (int i = from; i < to; ++i) {
+						try {
+							chunks[i].parse(format, sources, destinations,
+									weights, (int) starts[i]);
+						} catch (IOException e) {
+							throw new UncheckedIOException(e);
+						}
+					}
+				}
+			});
+
+			int n = 0;
+			for (Chunk c : chunks) {
+				n = Math.max(n, c.vertices);
+			}
+
+			return CsrGraph.fromEdges(n, sources, destinations, weights, null,
+					null, pool);
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+	/**
+	 * 
+	 * Splits a file into chunks which all start at the beginning of a line.
+	 * There are a few chunks per thread so that the load stays balanced.
+	 * 
+	 * @param channel The file
+	 * @param parallelism The number of threads
+	 * @return The bounds of the chunks, chunk i is [bounds[i], bounds[i + 1])
+	 * @throws IOException If the file can't be read
+	 * 
+	 */
+	private static long[] split(FileChannel channel, int parallelism)
+			throws IOException {
+		long size = channel.size();
+
+		long count = Math.max(4L * parallelism, (size + MAX_CHUNK - 1)
+				/ MAX_CHUNK);
+		count = Math.max(1, Math.min(count, (size + MIN_CHUNK - 1) / MIN_CHUNK));
+
+		long[] bounds = new long[(int) count + 1];
+		for (int i = 1; i < count; ++i) {
+			// A very long line could push a bound past the next one
+			bounds[i] = Math.max(bounds[i - 1],
+					lineStart(channel, size * i / count, size));
+		}
+		bounds[(int) count] = size;
+
+		return bounds;
+	}
+
+	/**
+	 * 
+	 * Finds the first line which starts at or after a position
+	 * 
+	 * @param channel The file
+	 * @param position The position
+	 * @param size The size of the file
+	 * @return The position of the line
+	 * @throws IOException If the file can't be read
+	 * 
+	 */
+	private static long lineStart(FileChannel channel, long position, long size)
+			throws IOException {
+		// If the previous byte ends a line, we're already at the start of one
+		long p = position - 1;
+		while (p < size) {
+			int length = (int) Math.min(WINDOW, size - p);
+			MappedByteBuffer window = channel.map(
+					FileChannel.MapMode.READ_ONLY, p, length);
+
+			for (int i = 0; i < length; ++i) {
+				if (window.get(i) == '\n')
+					return p + i + 1;
+			}
+			p += length;
+		}
+
+		return size;
+	}
+
+	/**
+	 * 
+	 * This class parses a chunk of the file. Its edges are counted first, then
+	 * parsed into their place in the edge list of the whole file.
+	 * 
+	 */
+	private static class Chunk {
+		// The mapped bytes of the chunk
+		private final MappedByteBuffer buffer;
+
+		// The position of the chunk in the file
+		private final long offset;
+
+		// The parsing position in the buffer
+		private int position;
+
+		// The edge list the edges are written to (null while they are only
+		// counted) and the position of the first edge of the chunk in it
+		private int[] sources;
+		private int[] destinations;
+		private int[] weights;
+		private int start;
+
+		// The number of edges found so far
+		private int size;
+
+		// The number of vertices needed by these edges
+		private int vertices;
+
+		/**
+		 * 
+		 * A chunk is constructed by mapping its bytes
+		 * 
+		 */
+		Chunk(FileChannel channel, long from, long to) throws IOException {
+			buffer = channel.map(FileChannel.MapMode.READ_ONLY, from, to - from);
+			offset = from;
+		}
+
+		/**
+		 * 
+		 * Counts the edges of the chunk, which are the lines starting like an
+		 * edge. Their numbers are only read by parse().
+		 * 
+		 */
+		void count(int format) throws IOException {
+			position = 0;
+			size = 0;
+			scan(format);
+		}
+
+		/**
+		 * 
+		 * Parses the edges of the chunk into the edge list, which must have
+		 * room for as many edges as count() found
+		 * 
+		 */
+		void parse(int format, int[] sources, int[] destinations,
+				int[] weights, int start) throws IOException {
+			this.sources = sources;
+			this.destinations = destinations;
+			this.weights = weights;
+			this.start = start;
+
+			int counted = size;
+			position = 0;
+			size = 0;
+			scan(format);
+
+			if (size != counted)
+				throw new IOException("The file changed while it was read");
+		}
+
+		/**
+		 * 
+		 * Goes through every line of the chunk
+		 * 
+		 */
+		private void scan(int format) throws IOException {
+			int limit = buffer.limit();
+			while (position < limit) {
+				byte b = buffer.get(position);
+
+				// Skip the blanks which start a line (or make it empty)
+				if (b == ' ' || b == '\t' || b == '\r' || b == '\n') {
+					++position;
+					continue;
+				}
+
+				if (format == DIMACS) {
+					if (b == 'a') {
+						++position;
+						edge(1);
+					}
+					else if (b == 'p') {
+						// Skip the problem type to get to the number of
+						// vertices
+						++position;
+						while (position < limit && !isDigit(buffer.get(position))
+								&& !isEnd(buffer.get(position))) {
+							++position;
+						}
+						vertices = Math.max(vertices, next());
+					}
+				}
+				else if (isDigit(b)) {
+					edge(0);
+				}
+
+				// Whatever is left on the line is ignored (comments, headers)
+				while (position < limit && buffer.get(position) != '\n') {
+					++position;
+				}
+			}
+		}
+
+		/**
+		 * 
+		 * Parses the endpoints and the weight of an edge
+		 * 
+		 * @param base The number of the first vertex in the file
+		 * 
+		 */
+		private void edge(int base) throws IOException {
+			if (sources == null) {
+				++size;
+				return;
+			}
+
+			int u = next() - base;
+			int v = next() - base;
+			if (u < 0 || v < 0)
+				throw malformed();
+
+			int weight = next();
+			if (weight == -1) {
+				weight = DEFAULT_WEIGHT;
+			}
+			else if (weight > CsrGraph.MAX_WEIGHT)
+				throw new IOException("Invalid weight at byte "
+						+ (offset + position) + ": " + weight);
+
+			int i = start + size++;
+			sources[i] = u;
+			destinations[i] = v;
+			weights[i] = weight;
+			vertices = Math.max(vertices, Math.max(u, v) + 1);
+		}
+
+		/**
+		 * 
+		 * Parses the next number on the line
+		 * 
+		 * @return The number, or -1 if the line has no more numbers
+		 * 
+		 */
+		private int next() throws IOException {
+			int limit = buffer.limit();
+
+			// Skip the separators
+			while (position < limit) {
+				byte b = buffer.get(position);
+				if (b != ' ' && b != '\t' && b != ',')
+					break;
+				++position;
+			}
+
+			if (position == limit || isEnd(buffer.get(position)))
+				return -1;
+
+			if (!isDigit(buffer.get(position)))
+				throw malformed();
+
+			long value = 0;
+			while (position < limit && isDigit(buffer.get(position))) {
+				value = 10 * value + (buffer.get(position++) - '0');
+				if (value > Integer.MAX_VALUE)
+					throw malformed();
+			}
+
+			return (int) value;
+		}
+
+		/**
+		 * 
+		 * Creates the exception thrown for a line which can't be parsed
+		 * 
+		 */
+		private IOException malformed() {
+			return new IOException("Malformed line at byte "
+					+ (offset + position));
+		}
+	}
+
+	/**
+	 * 
+	 * Checks whether a byte is a decimal digit
+	 * 
+	 */
+	private static boolean isDigit(byte b) {
+		return b >= '0' && b <= '9';
+	}
+
+	/**
+	 * 
+	 * Checks whether a byte ends a line
+	 * 
+	 */
+	private static boolean isEnd(byte b) {
+		return b == '\n' || b == '\r';
+	}
+}
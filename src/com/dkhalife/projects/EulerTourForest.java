@@ -0,0 +1,586 @@
+package com.dkhalife.projects;
+
+import java.util.Arrays;
+
+/**
+ * 
+ * This class keeps a forest as the Euler tours of its trees, each tour being
+ * a sequence held in a splay tree. Linking two trees, cutting an edge,
+ * telling whether two vertices are in the same tree and measuring a tree all
+ * take logarithmic (amortized) time, whatever the shape of the trees.
+ * 
+ * A tour is made of three kinds of nodes: one per vertex, two arcs per edge
+ * (one each way), and the ends of the edges which aren't in the forest but
+ * have to be found from it. The ends of a vertex always follow its node, so
+ * they move along with it when tours are cut and joined. Every subtree knows
+ * how many vertices and ends it holds, whether it holds a marked arc, and its
+ * lightest end, so the lightest end or a marked arc of a whole tree is found
+ * in one descent.
+ * 
+ * Many forests can share the same nodes, DynamicSpanningForest keeps one per
+ * level this way. Nodes are identified by their index, and what they stand
+ * for is up to the caller.
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+class EulerTourForest {
+	// The kinds of nodes, and the flags next to them: whether the node is a
+	// marked arc, and whether its subtree holds one
+	private static final int VERTEX = 0;
+	private static final int ARC = 1;
+	private static final int END = 2;
+	private static final int KIND = 3;
+	private static final int MARKED = 4;
+	private static final int HOLDS_MARKED = 8;
+
+	// What each node holds, side by side so that a node is read from a
+	// single cache line while splaying: its children and parent in its splay
+	// tree, what it stands for, its kind and flags, the number of vertices
+	// and ends in its subtree, the lightest end of its subtree, and the other
+	// arc of an arc or the weight of an end
+	private static final int LEFT = 0;
+	private static final int RIGHT = 1;
+	private static final int PARENT = 2;
+	private static final int OWNER = 3;
+	private static final int FLAGS = 4;
+	private static final int SIZE = 5;
+	private static final int ENDS = 6;
+	private static final int LIGHTEST = 7;
+	private static final int EXTRA = 8;
+	private static final int FIELDS = 9;
+	private int[] nodes = new int[0];
+
+	// The number of nodes ever created, and the ones which were freed since
+	private int nodeCount = 0;
+	private int[] freeNodes = new int[0];
+	private int freeCount = 0;
+
+	// The nodes left to visit while collecting ends
+	private int[] stack = new int[16];
+
+	/**
+	 * 
+	 * Creates a vertex alone in its tree
+	 * 
+	 * @param v What the vertex stands for
+	 * @return The node of the vertex
+	 * 
+	 */
+	public int vertex(int v) {
+		return newNode(VERTEX, v, 0);
+	}
+
+	/**
+	 * 
+	 * Frees a vertex if nothing hangs from it anymore
+	 * 
+	 * @param x The node of the vertex
+	 * @return Whether it was alone in its tree, and is gone
+	 * 
+	 */
+	public boolean release(int x) {
+		splay(x);
+		if (nodes[x * FIELDS + LEFT] != -1 || nodes[x * FIELDS + RIGHT] != -1)
+			return false;
+
+		freeNode(x);
+		return true;
+	}
+
+	/**
+	 * 
+	 * Getter for what a node stands for
+	 * 
+	 * @param x The node
+	 * @return What it stands for
+	 * 
+	 */
+	public int owner(int x) {
+		return nodes[x * FIELDS + OWNER];
+	}
+
+	/**
+	 * 
+	 * Tells whether two nodes are in the same tree
+	 * 
+	 * @param x The first node
+	 * @param y The second node
+	 * @return Whether they are
+	 * 
+	 */
+	public boolean connected(int x, int y) {
+		boolean same = root(x) == root(y);
+
+		// Splaying the nodes pays for the walks up
+		splay(x);
+		splay(y);
+		return same;
+	}
+
+	/**
+	 * 
+	 * Getter for the number of vertices in the tree of a node
+	 * 
+	 * @param x The node
+	 * @return The number of vertices
+	 * 
+	 */
+	public int size(int x) {
+		splay(x);
+		return nodes[x * FIELDS + SIZE];
+	}
+
+	/**
+	 * 
+	 * Getter for the number of ends in the tree of a node
+	 * 
+	 * @param x The node
+	 * @return The number of ends
+	 * 
+	 */
+	public int endCount(int x) {
+		splay(x);
+		return nodes[x * FIELDS + ENDS];
+	}
+
+	/**
+	 * 
+	 * Links the trees of two vertices with an edge
+	 * 
+	 * @param x The node of the first vertex
+	 * @param y The node of the second vertex, in another tree
+	 * @param e What the edge stands for
+	 * @return The arc from the first vertex to the second one
+	 * 
+	 */
+	public int link(int x, int y, int e) {
+		int a = newNode(ARC, e, 0);
+		int b = newNode(ARC, e, a);
+		nodes[a * FIELDS + EXTRA] = b;
+
+		// Both tours start at their vertex, and the edge is walked both ways
+		// between them
+		reroot(x);
+		reroot(y);
+		attach(b, LEFT, y);
+		update(b);
+		attach(a, LEFT, x);
+		attach(a, RIGHT, b);
+		update(a);
+		return a;
+	}
+
+	/**
+	 * 
+	 * Cuts an edge, leaving two trees
+	 * 
+	 * @param a One of the arcs of the edge
+	 * 
+	 */
+	public void cut(int a) {
+		int b = nodes[a * FIELDS + EXTRA];
+
+		splay(a);
+		int before = detach(a, LEFT);
+		int after = detach(a, RIGHT);
+
+		// The tour of one side lies between the arcs, the rest is the tour of
+		// the other side
+		splay(b);
+		if (before != -1 && root(before) == b) {
+			join(detach(b, LEFT), after);
+			detach(b, RIGHT);
+		}
+		else {
+			detach(b, LEFT);
+			join(before, detach(b, RIGHT));
+		}
+
+		freeNode(a);
+		freeNode(b);
+	}
+
+	/**
+	 * 
+	 * Marks or unmarks an arc
+	 * 
+	 * @param a The arc
+	 * @param mark Whether it should be marked
+	 * 
+	 */
+	public void mark(int a, boolean mark) {
+		splay(a);
+		if (mark) {
+			nodes[a * FIELDS + FLAGS] |= MARKED;
+		}
+		else {
+			nodes[a * FIELDS + FLAGS] &= ~MARKED;
+		}
+		update(a);
+	}
+
+	/**
+	 * 
+	 * Finds a marked arc in the tree of a node
+	 * 
+	 * @param x The node
+	 * @return The arc, or -1 if there is none
+	 * 
+	 */
+	public int marked(int x) {
+		splay(x);
+		if ((nodes[x * FIELDS + FLAGS] & HOLDS_MARKED) == 0)
+			return -1;
+
+		for (;;) {
+			int l = nodes[x * FIELDS + LEFT];
+			if (l != -1 && (nodes[l * FIELDS + FLAGS] & HOLDS_MARKED) != 0) {
+				x = l;
+			}
+			else if ((nodes[x * FIELDS + FLAGS] & MARKED) != 0) {
+				break;
+			}
+			else {
+				x = nodes[x * FIELDS + RIGHT];
+			}
+		}
+
+		splay(x);
+		return x;
+	}
+
+	/**
+	 * 
+	 * Adds an end right after a vertex. Ends are ordered by weight, then by
+	 * what they stand for.
+	 * 
+	 * @param x The node of the vertex
+	 * @param e What the end stands for
+	 * @param weight The weight of the end
+	 * @return The end
+	 * 
+	 */
+	public int addEnd(int x, int e, int weight) {
+		int y = newNode(END, e, weight);
+
+		splay(x);
+		attach(y, RIGHT, detach(x, RIGHT));
+		update(y);
+		attach(x, RIGHT, y);
+		update(x);
+		return y;
+	}
+
+	/**
+	 * 
+	 * Removes an end
+	 * 
+	 * @param y The end
+	 * 
+	 */
+	public void removeEnd(int y) {
+		splay(y);
+		join(detach(y, LEFT), detach(y, RIGHT));
+		freeNode(y);
+	}
+
+	/**
+	 * 
+	 * Changes the weight of an end
+	 * 
+	 * @param y The end
+	 * @param weight The new weight
+	 * 
+	 */
+	public void reweigh(int y, int weight) {
+		splay(y);
+		nodes[y * FIELDS + EXTRA] = weight;
+		update(y);
+	}
+
+	/**
+	 * 
+	 * Finds the lightest end in the tree of a node
+	 * 
+	 * @param x The node
+	 * @return The end, or -1 if there is none
+	 * 
+	 */
+	public int lightest(int x) {
+		splay(x);
+		int y = nodes[x * FIELDS + LIGHTEST];
+		if (y != -1) {
+			splay(y);
+		}
+
+		return y;
+	}
+
+	/**
+	 * 
+	 * Collects what the ends in the tree of a node stand for
+	 * 
+	 * @param x The node
+	 * @param owners Where to write them, with room for endCount of them
+	 * @return The number of ends
+	 * 
+	 */
+	public int collectEnds(int x, int[] owners) {
+		splay(x);
+
+		int count = 0;
+		int k = 0;
+		stack[k++] = x;
+		while (k > 0) {
+			int y = stack[--k];
+			if ((nodes[y * FIELDS + FLAGS] & KIND) == END) {
+				owners[count++] = nodes[y * FIELDS + OWNER];
+			}
+
+			if (k + 2 > stack.length) {
+				stack = Arrays.copyOf(stack, 2 * stack.length);
+			}
+			int l = nodes[y * FIELDS + LEFT];
+			int r = nodes[y * FIELDS + RIGHT];
+			if (l != -1 && nodes[l * FIELDS + ENDS] > 0) {
+				stack[k++] = l;
+			}
+			if (r != -1 && nodes[r * FIELDS + ENDS] > 0) {
+				stack[k++] = r;
+			}
+		}
+
+		return count;
+	}
+
+	/**
+	 * 
+	 * Makes the tour of the tree of a vertex start at that vertex, which ends
+	 * up at the root of its splay tree
+	 * 
+	 */
+	private void reroot(int x) {
+		splay(x);
+		int l = detach(x, LEFT);
+		if (l != -1) {
+			attach(x, RIGHT, join(detach(x, RIGHT), l));
+			update(x);
+		}
+	}
+
+	/**
+	 * 
+	 * Concatenates two tours
+	 * 
+	 * @param a The root of the first tour, or -1
+	 * @param b The root of the second tour, or -1
+	 * @return The root of the tour
+	 * 
+	 */
+	private int join(int a, int b) {
+		if (a == -1)
+			return b;
+		if (b == -1)
+			return a;
+
+		for (int r = nodes[a * FIELDS + RIGHT]; r != -1; r = nodes[a * FIELDS
+				+ RIGHT]) {
+			a = r;
+		}
+
+		splay(a);
+		attach(a, RIGHT, b);
+		update(a);
+		return a;
+	}
+
+	/**
+	 * 
+	 * Splits the left or right subtree off the root of a splay tree
+	 * 
+	 * @return The root of that subtree, or -1
+	 * 
+	 */
+	private int detach(int x, int side) {
+		int c = nodes[x * FIELDS + side];
+		if (c != -1) {
+			nodes[x * FIELDS + side] = -1;
+			nodes[c * FIELDS + PARENT] = -1;
+			update(x);
+		}
+
+		return c;
+	}
+
+	/**
+	 * 
+	 * Makes a node (or nothing) the left or right child of another, without
+	 * updating the parent
+	 * 
+	 */
+	private void attach(int x, int side, int c) {
+		nodes[x * FIELDS + side] = c;
+		if (c != -1) {
+			nodes[c * FIELDS + PARENT] = x;
+		}
+	}
+
+	/**
+	 * 
+	 * Finds the root of the splay tree of a node
+	 * 
+	 */
+	private int root(int x) {
+		for (int p = nodes[x * FIELDS + PARENT]; p != -1; p = nodes[x * FIELDS
+				+ PARENT]) {
+			x = p;
+		}
+
+		return x;
+	}
+
+	/**
+	 * 
+	 * Picks the lighter of two ends, either of which may be missing
+	 * 
+	 */
+	private int lighter(int y, int z) {
+		if (y == -1)
+			return z;
+		if (z == -1)
+			return y;
+
+		int wy = nodes[y * FIELDS + EXTRA];
+		int wz = nodes[z * FIELDS + EXTRA];
+		if (wy != wz)
+			return wy < wz ? y : z;
+
+		return nodes[y * FIELDS + OWNER] < nodes[z * FIELDS + OWNER] ? y : z;
+	}
+
+	/**
+	 * 
+	 * Recomputes what the subtree of a node holds
+	 * 
+	 */
+	private void update(int x) {
+		int i = x * FIELDS;
+		int flags = nodes[i + FLAGS];
+		int kind = flags & KIND;
+		int size = kind == VERTEX ? 1 : 0;
+		int end = kind == END ? 1 : 0;
+		int lightest = kind == END ? x : -1;
+		boolean marked = (flags & MARKED) != 0;
+
+		int l = nodes[i + LEFT];
+		if (l != -1) {
+			int j = l * FIELDS;
+			size += nodes[j + SIZE];
+			end += nodes[j + ENDS];
+			lightest = lighter(lightest, nodes[j + LIGHTEST]);
+			marked |= (nodes[j + FLAGS] & HOLDS_MARKED) != 0;
+		}
+		int r = nodes[i + RIGHT];
+		if (r != -1) {
+			int j = r * FIELDS;
+			size += nodes[j + SIZE];
+			end += nodes[j + ENDS];
+			lightest = lighter(lightest, nodes[j + LIGHTEST]);
+			marked |= (nodes[j + FLAGS] & HOLDS_MARKED) != 0;
+		}
+
+		nodes[i + SIZE] = size;
+		nodes[i + ENDS] = end;
+		nodes[i + LIGHTEST] = lightest;
+		nodes[i + FLAGS] = marked ? flags | HOLDS_MARKED : flags
+				& ~HOLDS_MARKED;
+	}
+
+	/**
+	 * 
+	 * Rotates a node above its parent
+	 * 
+	 */
+	private void rotate(int x) {
+		int p = nodes[x * FIELDS + PARENT];
+		int g = nodes[p * FIELDS + PARENT];
+
+		if (nodes[p * FIELDS + LEFT] == x) {
+			attach(p, LEFT, nodes[x * FIELDS + RIGHT]);
+			nodes[x * FIELDS + RIGHT] = p;
+		}
+		else {
+			attach(p, RIGHT, nodes[x * FIELDS + LEFT]);
+			nodes[x * FIELDS + LEFT] = p;
+		}
+
+		nodes[p * FIELDS + PARENT] = x;
+		nodes[x * FIELDS + PARENT] = g;
+		if (g != -1) {
+			nodes[g * FIELDS + (nodes[g * FIELDS + LEFT] == p ? LEFT : RIGHT)] = x;
+		}
+
+		update(p);
+		update(x);
+	}
+
+	/**
+	 * 
+	 * Brings a node to the root of its splay tree
+	 * 
+	 */
+	private void splay(int x) {
+		for (int p = nodes[x * FIELDS + PARENT]; p != -1; p = nodes[x * FIELDS
+				+ PARENT]) {
+			int g = nodes[p * FIELDS + PARENT];
+			if (g != -1) {
+				boolean zigZig = (nodes[g * FIELDS + LEFT] == p) == (nodes[p
+						* FIELDS + LEFT] == x);
+				rotate(zigZig ? p : x);
+			}
+			rotate(x);
+		}
+	}
+
+	/**
+	 * 
+	 * Creates a node, alone in its splay tree
+	 * 
+	 */
+	private int newNode(int kind, int owner, int extra) {
+		int x;
+		if (freeCount > 0) {
+			x = freeNodes[--freeCount];
+		}
+		else {
+			if (nodeCount == freeNodes.length) {
+				// The forests of the higher levels keep growing for a while,
+				// so the nodes grow by half to spare the memory
+				int capacity = Math.max(16, nodeCount + nodeCount / 2);
+				nodes = Arrays.copyOf(nodes, capacity * FIELDS);
+				freeNodes = Arrays.copyOf(freeNodes, capacity);
+			}
+			x = nodeCount++;
+		}
+
+		int i = x * FIELDS;
+		nodes[i + LEFT] = nodes[i + RIGHT] = nodes[i + PARENT] = -1;
+		nodes[i + OWNER] = owner;
+		nodes[i + FLAGS] = kind;
+		nodes[i + EXTRA] = extra;
+		update(x);
+		return x;
+	}
+
+	/**
+	 * 
+	 * Gives a node back, once it is alone in its splay tree
+	 * 
+	 */
+	private void freeNode(int x) {
+		freeNodes[freeCount++] = x;
+	}
+}
@@ -0,0 +1,119 @@
+package com.dkhalife.projects;
+
+/**
+ * 
+ * This class implements the heuristics which use the coordinates of the
+ * vertices: the straight line (Euclidean) distance or the Manhattan distance
+ * to the target, multiplied by a scale factor which converts lengths into
+ * weights. The heuristic is admissible and consistent as long as the weight of
+ * every edge is at least the scaled length of that edge.
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+public class GeometricHeuristic implements Heuristic {
+	// The supported metrics
+	public static final int EUCLIDEAN = 0;
+	public static final int MANHATTAN = 1;
+
+	// The coordinates of the vertices
+	private final CsrGraph g;
+
+	// The metric used to measure lengths
+	private final int metric;
+
+	// The weight of a unit of length
+	private final double scale;
+
+	/**
+	 * 
+	 * A heuristic is constructed with the graph holding the coordinates, a
+	 * metric and a scale factor
+	 * 
+	 * @param g The graph
+	 * @param metric The metric (EUCLIDEAN or MANHATTAN)
+	 * @param scale The weight of a unit of length
+	 * 
+	 */
+	public GeometricHeuristic(CsrGraph g, int metric, double scale) {
+		if (!g.hasCoordinates())
+			throw new IllegalArgumentException("The graph has no coordinates");
+		if (metric != EUCLIDEAN && metric != MANHATTAN)
+			throw new IllegalArgumentException("Unknown metric: " + metric);
+		if (scale < 0)
+			throw new IllegalArgumentException("Negative scale: " + scale);
+
+		this.g = g;
+		this.metric = metric;
+		this.scale = scale;
+	}
+
+	/**
+	 * 
+	 * Creates the strongest heuristic which stays admissible on a graph, by
+	 * taking as scale the smallest ratio between the weight and the length of
+	 * an edge
+	 * 
+	 * @param g The graph
+	 * @param metric The metric (EUCLIDEAN or MANHATTAN)
+	 * @return The heuristic
+	 * 
+	 */
+	public static GeometricHeuristic fitted(CsrGraph g, int metric) {
+		double scale = Double.MAX_VALUE;
+		for (int e = 0; e < g.edgeCount(); ++e) {
+			double length = length(g, metric, g.edgeSource(e), g.edgeTarget(e));
+
+			// Edges of length zero don't constrain the scale
+			if (length > 0) {
+				scale = Math.min(scale, g.edgeWeight(e) / length);
+			}
+		}
+
+		// Without any constraint, we'll fall back to one weight per unit
+		if (scale == Double.MAX_VALUE) {
+			scale = 1;
+		}
+
+		return new GeometricHeuristic(g, metric, scale);
+	}
+
+	/**
+	 * 
+	 * Getter for the scale
+	 * 
+	 * @return the scale
+	 * 
+	 */
+	public double getScale() {
+		return scale;
+	}
+
+	public int estimate(int v, int target) {
+		// Rounding down keeps the estimate a lower bound
+		return (int) Math.min(Integer.MAX_VALUE,
+				Math.floor(scale * length(g, metric, v, target)));
+	}
+
+	/**
+	 * 
+	 * Measures the distance between two vertices
+	 * 
+	 * @param g The graph
+	 * @param metric The metric
+	 * @param u The first vertex
+	 * @param v The second vertex
+	 * @return The distance
+	 * 
+	 */
+	private static double length(CsrGraph g, int metric, int u, int v) {
+		double dx = (double) g.x(u) - g.x(v);
+		double dy = (double) g.y(u) - g.y(v);
+
+		if (metric == MANHATTAN)
+			return Math.abs(dx) + Math.abs(dy);
+		return Math.sqrt(dx * dx + dy * dy);
+	}
+}
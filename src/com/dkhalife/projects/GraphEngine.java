@@ -0,0 +1,404 @@
+package com.dkhalife.projects;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 
+ * This class is the headless entry point for the graph algorithms. It takes a
+ * graph plus the parameters of a query and returns the result as plain arrays
+ * wrapped in result objects. It never touches AWT or Swing, and it holds no
+ * state between calls, so a single engine can be shared by many threads.
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+public class GraphEngine {
+	// Point to point shortest path algorithms
+	public static final int DIJKSTRA = 0;
+	public static final int BIDIRECTIONAL_DIJKSTRA = 1;
+
+	// Minimal spanning forest algorithms
+	public static final int PRIM = 0;
+	public static final int KRUSKAL = 1;
+	public static final int BORUVKA = 2;
+
+	// The pool used by the parallel algorithms
+	private final ForkJoinPool pool;
+
+	// The number of children per node of the heaps
+	private final int arity;
+
+	/**
+	 * 
+	 * An engine constructed without arguments runs its parallel algorithms on
+	 * the common pool
+	 * 
+	 */
+	public GraphEngine() {
+		this(ForkJoinPool.commonPool(), DaryHeap.DEFAULT_ARITY);
+	}
+
+	/**
+	 * 
+	 * An engine can also be given its own pool and heap arity
+	 * 
+	 * @param pool The pool used by the parallel algorithms
+	 * @param arity The number of children per node of the heaps
+	 * 
+	 */
+	public GraphEngine(ForkJoinPool pool, int arity) {
+		this.pool = pool;
+		this.arity = arity;
+	}
+
+	/**
+	 * 
+	 * Getter for the pool
+	 * 
+	 * @return the pool
+	 * 
+	 */
+	public ForkJoinPool getPool() {
+		return pool;
+	}
+
+	/**
+	 * 
+	 * Imports a graph from a DIMACS, SNAP or CSV edge list, guessing the
+	 * format from the extension of the file (see EdgeListImporter.formatOf)
+	 * 
+	 * @param path The file
+	 * @return The graph
+	 * @throws IOException If the file can't be read or is malformed
+	 * 
+	 */
+	public CsrGraph importEdgeList(Path path) throws IOException {
+		return importEdgeList(path, EdgeListImporter.formatOf(path));
+	}
+
+	/**
+	 * 
+	 * Imports a graph from an edge list, parsing it with every thread of the
+	 * pool
+	 * 
+	 * @param path The file
+	 * @param format The format of the file (EdgeListImporter.DIMACS, SNAP or
+	 * CSV)
+	 * @return The graph
+	 * @throws IOException If the file can't be read or is malformed
+	 * 
+	 */
+	public CsrGraph importEdgeList(Path path, int format) throws IOException {
+		return EdgeListImporter.load(path, format, pool);
+	}
+
+	/**
+	 * 
+	 * Computes the shortest paths from a source to every vertex
+	 * 
+	 * @param g The graph
+	 * @param source The source vertex
+	 * @return The shortest path tree rooted at the source
+	 * 
+	 */
+	public ShortestPathTree shortestPaths(CsrGraph g, int source) {
+		return shortestPath(g, source, -1);
+	}
+
+	/**
+	 * 
+	 * Computes the shortest paths from a source to every vertex with the
+	 * delta-stepping algorithm, which uses every thread of the pool
+	 * 
+	 * @param g The graph
+	 * @param source The source vertex
+	 * @return The shortest path tree rooted at the source
+	 * 
+	 */
+	public ShortestPathTree parallelShortestPaths(CsrGraph g, int source) {
+		checkVertex(g, source);
+
+		return DeltaStepping.shortestPaths(g, source, DeltaStepping.delta(g),
+				pool);
+	}
+
+	/**
+	 * 
+	 * Computes the shortest path from a source to a destination
+	 * 
+	 * @param g The graph
+	 * @param source The source vertex
+	 * @param destination The destination vertex
+	 * @return The shortest path tree, which is complete up to the destination
+	 * 
+	 */
+	public ShortestPathTree shortestPath(CsrGraph g, int source, int destination) {
+		checkVertex(g, source);
+		if (destination != -1)
+			checkVertex(g, destination);
+
+		return Dijkstra.shortestPath(g, source, destination, newHeap(g));
+	}
+
+	/**
+	 * 
+	 * Computes the shortest path from a source to a destination with the given
+	 * algorithm
+	 * 
+	 * @param g The graph
+	 * @param source The source vertex
+	 * @param destination The destination vertex
+	 * @param algorithm The algorithm to use (DIJKSTRA or BIDIRECTIONAL_DIJKSTRA)
+	 * @return The shortest path tree, which is complete along the path to the
+	 * destination
+	 * 
+	 */
+	public ShortestPathTree shortestPath(CsrGraph g, int source,
+			int destination, int algorithm) {
+		checkVertex(g, source);
+		checkVertex(g, destination);
+
+		switch (algorithm) {
+		case DIJKSTRA:
+			return Dijkstra.shortestPath(g, source, destination, newHeap(g));
+		case BIDIRECTIONAL_DIJKSTRA:
+			return BidirectionalDijkstra.shortestPath(g, source, destination,
+					newHeap(g), newHeap(g));
+		default:
+			throw new IllegalArgumentException("Unknown algorithm: "
+					+ algorithm);
+		}
+	}
+
+	/**
+	 * 
+	 * Computes the shortest path from a source to a destination with A*
+	 * 
+	 * @param g The graph
+	 * @param source The source vertex
+	 * @param destination The destination vertex
+	 * @param h An admissible heuristic
+	 * @return The shortest path tree, which is complete along the path to the
+	 * destination
+	 * 
+	 */
+	public ShortestPathTree shortestPath(CsrGraph g, int source,
+			int destination, Heuristic h) {
+		checkVertex(g, source);
+		checkVertex(g, destination);
+
+		return AStar.shortestPath(g, source, destination, h, newHeap(g));
+	}
+
+	/**
+	 * 
+	 * Computes the shortest path from a source to a destination in the search
+	 * contexts of the calling thread. Nothing as large as the graph is
+	 * allocated or reset, so this is the cheapest way to run many queries,
+	 * from any number of threads at once.
+	 * 
+	 * @param g The graph
+	 * @param source The source vertex
+	 * @param destination The destination vertex
+	 * @param algorithm The algorithm to use (DIJKSTRA or BIDIRECTIONAL_DIJKSTRA)
+	 * @return The path
+	 * 
+	 */
+	public ShortestPath path(CsrGraph g, int source, int destination,
+			int algorithm) {
+		checkVertex(g, source);
+		checkVertex(g, destination);
+
+		int n = g.vertexCount();
+		switch (algorithm) {
+		case DIJKSTRA:
+			return Dijkstra.shortestPath(g, source, destination,
+					SearchContext.get(n));
+		case BIDIRECTIONAL_DIJKSTRA:
+			return BidirectionalDijkstra.shortestPath(g, source, destination,
+					SearchContext.get(n, 0), SearchContext.get(n, 1));
+		default:
+			throw new IllegalArgumentException("Unknown algorithm: "
+					+ algorithm);
+		}
+	}
+
+	/**
+	 * 
+	 * Computes the shortest path from a source to a destination with A* in
+	 * the search context of the calling thread
+	 * 
+	 * @param g The graph
+	 * @param source The source vertex
+	 * @param destination The destination vertex
+	 * @param h An admissible heuristic
+	 * @return The path
+	 * 
+	 */
+	public ShortestPath path(CsrGraph g, int source, int destination,
+			Heuristic h) {
+		checkVertex(g, source);
+		checkVertex(g, destination);
+
+		return AStar.shortestPath(g, source, destination, h,
+				SearchContext.get(g.vertexCount()));
+	}
+
+	/**
+	 * 
+	 * Computes the distances between every source and every target
+	 * 
+	 * @param g The graph
+	 * @param sources The sources, one per row
+	 * @param targets The targets, one per column
+	 * @return The distance matrix
+	 * 
+	 */
+	public DistanceMatrix distanceMatrix(CsrGraph g, int[] sources,
+			int[] targets) {
+		return DistanceMatrix.compute(g, sources, targets, pool);
+	}
+
+	/**
+	 * 
+	 * Computes the distances between every source and every target and
+	 * streams them to a file, for matrices which don't fit in memory
+	 * 
+	 * @param g The graph
+	 * @param sources The sources, one per row
+	 * @param targets The targets, one per column
+	 * @param path The file
+	 * @throws IOException If the file can't be written
+	 * 
+	 */
+	public void distanceMatrix(CsrGraph g, int[] sources, int[] targets,
+			Path path) throws IOException {
+		DistanceMatrix.stream(g, sources, targets, pool, path);
+	}
+
+	/**
+	 * 
+	 * Picks landmarks with the avoid method and computes their distance
+	 * tables, which make a heuristic for A* on any graph
+	 * 
+	 * @param g The graph
+	 * @param k The number of landmarks
+	 * @return The landmarks
+	 * 
+	 */
+	public Landmarks landmarks(CsrGraph g, int k) {
+		return Landmarks.select(g, k, Landmarks.AVOID, 0, pool);
+	}
+
+	/**
+	 * 
+	 * Builds the Contraction Hierarchy of a graph, which answers shortest path
+	 * queries on that graph much faster than any search
+	 * 
+	 * @param g The graph
+	 * @return The hierarchy
+	 * 
+	 */
+	public ContractionHierarchy contractionHierarchy(CsrGraph g) {
+		return ContractionHierarchy.build(g, pool);
+	}
+
+	/**
+	 * 
+	 * Computes the minimal spanning tree of the component containing a vertex
+	 * with Prim's algorithm
+	 * 
+	 * @param g The graph
+	 * @param source The starting vertex
+	 * @return The minimal spanning tree
+	 * 
+	 */
+	public SpanningTree minimumSpanningTree(CsrGraph g, int source) {
+		checkVertex(g, source);
+
+		return Prim.minimumSpanningTree(g, source, newHeap(g));
+	}
+
+	/**
+	 * 
+	 * Computes the minimal spanning forest of the whole graph
+	 * 
+	 * @param g The graph
+	 * @param algorithm The algorithm to use (PRIM, KRUSKAL or BORUVKA)
+	 * @return The minimal spanning forest
+	 * 
+	 */
+	public SpanningTree minimumSpanningForest(CsrGraph g, int algorithm) {
+		switch (algorithm) {
+		case PRIM:
+			return primForest(g);
+		case KRUSKAL:
+			return Kruskal.minimumSpanningTree(g);
+		case BORUVKA:
+			return Boruvka.minimumSpanningTree(g, pool);
+		default:
+			throw new IllegalArgumentException("Unknown algorithm: "
+					+ algorithm);
+		}
+	}
+
+	/**
+	 * 
+	 * Runs Prim's algorithm from every vertex not spanned yet, to cover every
+	 * component of the graph
+	 * 
+	 * @param g The graph
+	 * @return The minimal spanning forest
+	 * 
+	 */
+	private SpanningTree primForest(CsrGraph g) {
+		int n = g.vertexCount();
+		BitSet visited = new BitSet(n);
+		int[] bestEdges = new int[n];
+		IndexedHeap Q = newHeap(g);
+
+		int[] edges = new int[Math.max(n - 1, 0)];
+		int count = 0;
+		for (int v = visited.nextClearBit(0); v < n; v = visited.nextClearBit(v + 1)) {
+			count = Prim.span(g, v, Q, visited, bestEdges, edges, count);
+		}
+
+		long weight = 0;
+		for (int i = 0; i < count; ++i) {
+			weight += g.edgeWeight(edges[i]);
+		}
+
+		return new SpanningTree(Arrays.copyOf(edges, count), weight);
+	}
+
+	/**
+	 * 
+	 * Creates an empty heap able to hold every vertex of a graph
+	 * 
+	 * @param g The graph
+	 * @return The heap
+	 * 
+	 */
+	private IndexedHeap newHeap(CsrGraph g) {
+		return new DaryHeap(g.vertexCount(), arity);
+	}
+
+	/**
+	 * 
+	 * Makes sure a vertex belongs to a graph
+	 * 
+	 * @param g The graph
+	 * @param v The vertex
+	 * 
+	 */
+	private static void checkVertex(CsrGraph g, int v) {
+		if (v < 0 || v >= g.vertexCount())
+			throw new IndexOutOfBoundsException("No such vertex: " + v);
+	}
+}
@@ -0,0 +1,373 @@
+package com.dkhalife.projects;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.BitSet;
+
+/**
+ * 
+ * This class reads and writes graphs in a versioned binary format which is a
+ * straight dump of the CSR arrays. All values are little-endian.
+ * 
+ * The file starts with a 24 bytes header: the magic number, the version, the
+ * flags, the number of vertices n and the number of edges m (as ints, followed
+ * by a reserved int). Then come the offsets (n + 1 ints), the targets, the
+ * weights and the edge ids of the arcs (2m ints each), the sources, the
+ * targets and the weights of the edges (m ints each). If the COORDINATES flag
+ * is set, the X and the Y coordinates follow (n ints each), and if the REMOVED
+ * flag is set, a bit set of the unused vertex ids follows (n / 64 rounded up
+ * longs).
+ * 
+ * Files are written through a FileChannel and read through memory mappings,
+ * so loading a graph is a handful of bulk copies with no parsing at all.
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+public class GraphFile {
+	// The usual extension for these files
+	public static final String EXTENSION = "graph";
+
+	// The first four bytes of the file: "GRPH"
+	private static final int MAGIC = 0x48505247;
+
+	// The current version of the format
+	private static final int VERSION = 1;
+
+	// The flags of the optional sections
+	private static final int COORDINATES = 1;
+	private static final int REMOVED = 2;
+
+	// The size of the header
+	private static final int HEADER = 24;
+
+	// The largest number of ints mapped at once
+	private static final int CHUNK = 1 << 28;
+
+	// The graph
+	private final CsrGraph graph;
+
+	// The vertex ids which are not in use (or null)
+	private final BitSet removed;
+
+	/**
+	 * 
+	 * A file is constructed with the graph it holds
+	 * 
+	 */
+	private GraphFile(CsrGraph graph, BitSet removed) {
+		this.graph = graph;
+		this.removed = removed;
+	}
+
+	/**
+	 * 
+	 * Getter for the graph
+	 * 
+	 * @return the graph
+	 * 
+	 */
+	public CsrGraph getGraph() {
+		return graph;
+	}
+
+	/**
+	 * 
+	 * Getter for the vertex ids which are not in use. These are isolated
+	 * vertices in the graph.
+	 * 
+	 * @return the ids, or null if they are all in use
+	 * 
+	 */
+	public BitSet getRemoved() {
+		return removed;
+	}
+
+	/**
+	 * 
+	 * Writes a graph to a file
+	 * 
+	 * @param path The file
+	 * @param g The graph
+	 * @param removed The vertex ids which are not in use (or null)
+	 * @throws IOException If the file can't be written
+	 * 
+	 */
+	public static void save(Path path, CsrGraph g, BitSet removed)
+			throws IOException {
+		int flags = 0;
+		if (g.hasCoordinates())
+			flags |= COORDINATES;
+		if (removed != null)
+			flags |= REMOVED;
+
+		try (FileChannel channel = FileChannel.open(path,
+				StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+				StandardOpenOption.TRUNCATE_EXISTING)) {
+			ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20).order(
+					ByteOrder.LITTLE_ENDIAN);
+
+			// First, the header
+			buffer.putInt(MAGIC).putInt(VERSION).putInt(flags);
+			buffer.putInt(g.vertexCount()).putInt(g.edgeCount()).putInt(0);
+			buffer.flip();
+			write(channel, buffer);
+
+			// Then, the arrays
+			write(channel, buffer, g.offsets());
+			write(channel, buffer, g.targets());
+			write(channel, buffer, g.weights());
+			write(channel, buffer, g.arcEdges());
+			write(channel, buffer, g.edgeSources());
+			write(channel, buffer, g.edgeTargets());
+			write(channel, buffer, g.edgeWeights());
+
+			if ((flags & COORDINATES) != 0) {
+				write(channel, buffer, g.xs());
+				write(channel, buffer, g.ys());
+			}
+
+			if ((flags & REMOVED) != 0) {
+				long[] words = removed.toLongArray();
+				long[] padded = new long[(g.vertexCount() + 63) / 64];
+				System.arraycopy(words, 0, padded, 0,
+						Math.min(words.length, padded.length));
+
+				int capacity = buffer.capacity() / 8;
+				for (int from = 0; from < padded.length; from += capacity) {
+					int length = Math.min(capacity, padded.length - from);
+
+					buffer.clear();
+					buffer.asLongBuffer().put(padded, from, length);
+					buffer.limit(8 * length);
+					write(channel, buffer);
+				}
+			}
+		}
+	}
+
+	/**
+	 * 
+	 * Reads a graph from a file
+	 * 
+	 * @param path The file
+	 * @return The file's content
+	 * @throws IOException If the file can't be read or isn't a graph file
+	 * 
+	 */
+	public static GraphFile load(Path path) throws IOException {
+		try (FileChannel channel = FileChannel.open(path,
+				StandardOpenOption.READ)) {
+			if (channel.size() < HEADER)
+				throw new IOException("Not a graph file: " + path);
+
+			// First, the header
+			ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0,
+					HEADER).order(ByteOrder.LITTLE_ENDIAN);
+			if (header.getInt() != MAGIC)
+				throw new IOException("Not a graph file: " + path);
+
+			int version = header.getInt();
+			if (version != VERSION)
+				throw new IOException("Unsupported graph file version: "
+						+ version);
+
+			int flags = header.getInt();
+			int n = header.getInt();
+			int m = header.getInt();
+
+			// Make sure the file is as long as the header says
+			long expected = HEADER + 4L * ((n + 1) + 6L * m + 3L * m);
+			if ((flags & COORDINATES) != 0)
+				expected += 8L * n;
+			if ((flags & REMOVED) != 0)
+				expected += 8L * ((n + 63) / 64);
+			if (n < 0 || m < 0 || channel.size() != expected)
+				throw new IOException("Truncated graph file: " + path);
+
+			// Then, the arrays
+			long position = HEADER;
+			int[] offsets = read(channel, position, n + 1);
+			position += 4L * (n + 1);
+			int[] targets = read(channel, position, 2 * m);
+			position += 8L * m;
+			int[] weights = read(channel, position, 2 * m);
+			position += 8L * m;
+			int[] arcEdges = read(channel, position, 2 * m);
+			position += 8L * m;
+			int[] edgeSources = read(channel, position, m);
+			position += 4L * m;
+			int[] edgeTargets = read(channel, position, m);
+			position += 4L * m;
+			int[] edgeWeights = read(channel, position, m);
+			position += 4L * m;
+
+			int[] xs = null;
+			int[] ys = null;
+			if ((flags & COORDINATES) != 0) {
+				xs = read(channel, position, n);
+				position += 4L * n;
+				ys = read(channel, position, n);
+				position += 4L * n;
+			}
+
+			BitSet removed = null;
+			if ((flags & REMOVED) != 0) {
+				long[] words = new long[(n + 63) / 64];
+				channel.map(FileChannel.MapMode.READ_ONLY, position,
+						8L * words.length).order(ByteOrder.LITTLE_ENDIAN)
+						.asLongBuffer().get(words);
+				removed = BitSet.valueOf(words);
+			}
+
+			validate(path, n, offsets, targets, weights, arcEdges,
+					edgeSources, edgeTargets, edgeWeights, removed);
+
+			return new GraphFile(CsrGraph.of(n, offsets, targets, weights,
+					arcEdges, edgeSources, edgeTargets, edgeWeights, xs, ys),
+					removed);
+		}
+	}
+
+	/**
+	 * 
+	 * Makes sure the arrays read from a file describe a graph, so that a
+	 * corrupted file is rejected here rather than failing later on, deep
+	 * inside an algorithm. The offsets must go up from 0 to 2m, every vertex
+	 * id must be below n, every edge id below m, and the weights can't be
+	 * negative. Each edge must be referenced by exactly two arcs, one from
+	 * each of its ends, carrying its weight, and the removed vertices can't
+	 * have any.
+	 * 
+	 * @throws IOException If they don't
+	 * 
+	 */
+	private static void validate(Path path, int n, int[] offsets,
+			int[] targets, int[] weights, int[] arcEdges, int[] edgeSources,
+			int[] edgeTargets, int[] edgeWeights, BitSet removed)
+			throws IOException {
+		int m = edgeSources.length;
+
+		// The edges come first, since the arcs are checked against them
+		for (int e = 0; e < m; ++e) {
+			if (edgeSources[e] < 0 || edgeSources[e] >= n
+					|| edgeTargets[e] < 0 || edgeTargets[e] >= n)
+				throw new IOException("Corrupted graph file: " + path
+						+ " (edge " + e + " has an invalid vertex)");
+
+			if (edgeWeights[e] < 0 || edgeWeights[e] > CsrGraph.MAX_WEIGHT)
+				throw new IOException("Corrupted graph file: " + path
+						+ " (edge " + e + " has an invalid weight)");
+		}
+
+		if (removed != null && removed.length() > n)
+			throw new IOException("Corrupted graph file: " + path
+					+ " (invalid removed vertices)");
+
+		// All the offsets are checked before any arc is read through them
+		if (offsets[0] != 0 || offsets[n] != 2 * m)
+			throw new IOException("Corrupted graph file: " + path
+					+ " (invalid offsets)");
+		for (int v = 0; v < n; ++v) {
+			if (offsets[v] > offsets[v + 1])
+				throw new IOException("Corrupted graph file: " + path
+						+ " (invalid offsets)");
+		}
+
+		// The sides of each edge already seen: 1 for the arc leaving its
+		// source, 2 for the one leaving its target. A loop has both at the
+		// same vertex. Since there are 2m arcs and no side can be seen twice,
+		// every edge ends up with exactly its two arcs.
+		byte[] sides = new byte[m];
+
+		for (int v = 0; v < n; ++v) {
+			if (removed != null && removed.get(v)
+					&& offsets[v] != offsets[v + 1])
+				throw new IOException("Corrupted graph file: " + path
+						+ " (removed vertex " + v + " has edges)");
+
+			for (int a = offsets[v]; a < offsets[v + 1]; ++a) {
+				int w = targets[a];
+				int e = arcEdges[a];
+				if (w < 0 || w >= n || e < 0 || e >= m)
+					throw new IOException("Corrupted graph file: " + path
+							+ " (arc " + a + " has an invalid id)");
+
+				// The arc goes from v to w, so its edge must link both, and
+				// the side it stands for must not have been seen yet
+				boolean forward = edgeSources[e] == v && edgeTargets[e] == w
+						&& (sides[e] & 1) == 0;
+				boolean backward = edgeSources[e] == w && edgeTargets[e] == v
+						&& (sides[e] & 2) == 0;
+				if (!forward && !backward)
+					throw new IOException("Corrupted graph file: " + path
+							+ " (arc " + a + " doesn't match edge " + e + ")");
+				sides[e] |= forward ? 1 : 2;
+
+				if (weights[a] != edgeWeights[e])
+					throw new IOException("Corrupted graph file: " + path
+							+ " (arc " + a + " doesn't have the weight of edge "
+							+ e + ")");
+			}
+		}
+	}
+
+	/**
+	 * 
+	 * Writes an array of ints through a buffer
+	 * 
+	 */
+	static void write(FileChannel channel, ByteBuffer buffer, int[] a)
+			throws IOException {
+		int capacity = buffer.capacity() / 4;
+		for (int from = 0; from < a.length; from += capacity) {
+			int length = Math.min(capacity, a.length - from);
+
+			buffer.clear();
+			buffer.asIntBuffer().put(a, from, length);
+			buffer.limit(4 * length);
+			write(channel, buffer);
+		}
+	}
+
+	/**
+	 * 
+	 * Writes the remaining bytes of a buffer
+	 * 
+	 */
+	static void write(FileChannel channel, ByteBuffer buffer)
+			throws IOException {
+		while (buffer.hasRemaining()) {
+			channel.write(buffer);
+		}
+	}
+
+	/**
+	 * 
+	 * Reads an array of ints by mapping it in chunks, since a single mapping
+	 * can't go over 2GB
+	 * 
+	 */
+	static int[] read(FileChannel channel, long position, int length)
+			throws IOException {
+		int[] a = new int[length];
+		for (int from = 0; from < length; from += CHUNK) {
+			int count = Math.min(CHUNK, length - from);
+
+			MappedByteBuffer mapped = channel.map(
+					FileChannel.MapMode.READ_ONLY, position + 4L * from,
+					4L * count);
+			mapped.order(ByteOrder.LITTLE_ENDIAN).asIntBuffer()
+					.get(a, from, count);
+		}
+
+		return a;
+	}
+}
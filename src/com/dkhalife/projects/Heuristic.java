@@ -0,0 +1,34 @@
+package com.dkhalife.projects;
+
+/**
+ * 
+ * This interface describes the heuristics used by A* to estimate the distance
+ * left to a target. A heuristic must never overestimate that distance
+ * (admissible) for A* to find shortest paths, and if it also never decreases
+ * by more than the weight of an arc (consistent), every vertex is settled at
+ * most once.
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+public interface Heuristic {
+	// The heuristic which knows nothing, A* then behaves like Dijkstra
+	Heuristic ZERO = new Heuristic() {
+		public int estimate(int v, int target) {
+			return 0;
+		}
+	};
+
+	/**
+	 * 
+	 * Estimates the distance from a vertex to the target
+	 * 
+	 * @param v The vertex
+	 * @param target The target
+	 * @return A lower bound of the distance
+	 * 
+	 */
+	int estimate(int v, int target);
+}
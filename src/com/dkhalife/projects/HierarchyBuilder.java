@@ -0,0 +1,646 @@
+package com.dkhalife.projects;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 
+ * This class builds a Contraction Hierarchy. Vertices are contracted in rounds:
+ * each round picks an independent set of vertices whose edge difference (the
+ * number of shortcuts their contraction would add minus the number of edges it
+ * would remove) is smaller than the one of all their neighbors, finds the
+ * shortcuts of these vertices in parallel with local witness searches, then
+ * removes them from the graph and inserts the shortcuts.
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+class HierarchyBuilder {
+	// The largest number of vertices settled by a witness search, the
+	// searches which only estimate a priority can afford to be less thorough
+	private static final int SETTLE_LIMIT = 500;
+	private static final int ESTIMATE_LIMIT = 50;
+
+	// The graph being contracted
+	private final CsrGraph g;
+	private final int n;
+	private final int m;
+
+	// The pool to run in
+	private final ForkJoinPool pool;
+
+	// The neighbors of each vertex in the remaining graph, along with the
+	// weight and the id of the edge leading to them
+	private final int[][] neighbors;
+	private final int[][] neighborWeights;
+	private final int[][] neighborEdges;
+	private final int[] degrees;
+
+	// Whether each vertex was contracted (or is being contracted)
+	private final boolean[] contracted;
+
+	// The edge difference of each vertex, plus its contracted neighbors
+	private final int[] priorities;
+	private final int[] contractedNeighbors;
+
+	// The rank of each vertex in the hierarchy
+	private final int[] ranks;
+
+	// The arcs of each contracted vertex towards vertices of higher rank
+	private final int[][] upTargets;
+	private final int[][] upWeights;
+	private final int[][] upEdges;
+
+	// The shortcuts: the end touched by the first half, the vertex in the
+	// middle and both halves
+	private int[] shortcutSources = new int[16];
+	private int[] shortcutMiddles = new int[16];
+	private int[] shortcutFirsts = new int[16];
+	private int[] shortcutSeconds = new int[16];
+	private int shortcuts = 0;
+
+	// The scratch space of the witness searches which aren't running. A task
+	// takes one and gives it back once done, so there are never more of them
+	// than tasks running at once, and the threads of the pool don't keep any
+	// once the hierarchy is built.
+	private final ArrayDeque<Witness> witnesses = new ArrayDeque<Witness>();
+
+	/**
+	 * 
+	 * A builder is constructed with the graph to contract
+	 * 
+	 */
+	private HierarchyBuilder(CsrGraph g, ForkJoinPool pool) {
+		this.g = g;
+		this.pool = pool;
+		n = g.vertexCount();
+		m = g.edgeCount();
+
+		neighbors = new int[n][];
+		neighborWeights = new int[n][];
+		neighborEdges = new int[n][];
+		degrees = new int[n];
+		contracted = new boolean[n];
+		priorities = new int[n];
+		contractedNeighbors = new int[n];
+		ranks = new int[n];
+		upTargets = new int[n][];
+		upWeights = new int[n][];
+		upEdges = new int[n][];
+	}
+
+	/**
+	 * 
+	 * Builds the hierarchy of a graph
+	 * 
+	 * @param g The graph
+	 * @param pool The pool to run in
+	 * @return The hierarchy
+	 * 
+	 */
+	static ContractionHierarchy build(CsrGraph g, ForkJoinPool pool) {
+		HierarchyBuilder builder = new HierarchyBuilder(g, pool);
+		builder.copyGraph();
+		builder.contractAll();
+		return builder.hierarchy();
+	}
+
+	/**
+	 * 
+	 * Copies the graph into growable adjacency lists, dropping the loops and
+	 * keeping only the lightest of parallel edges
+	 * 
+	 */
+	private void copyGraph() {
+		int[] positions = new int[n];
+		int[] stamps = new int[n];
+		Arrays.fill(stamps, -1);
+
+		for (int v = 0; v < n; ++v) {
+			int capacity = Math.max(g.degree(v), 1);
+			neighbors[v] = new int[capacity];
+			neighborWeights[v] = new int[capacity];
+			neighborEdges[v] = new int[capacity];
+
+			for (int a = g.firstArc(v), end = g.endArc(v); a < end; ++a) {
+				int u = g.target(a);
+				if (u == v)
+					continue;
+
+				if (stamps[u] == v) {
+					// A parallel edge, we'll keep it if it's lighter
+					int i = positions[u];
+					if (g.weight(a) < neighborWeights[v][i]) {
+						neighborWeights[v][i] = g.weight(a);
+						neighborEdges[v][i] = g.edgeOf(a);
+					}
+				}
+				else {
+					stamps[u] = v;
+					positions[u] = degrees[v];
+					neighbors[v][degrees[v]] = u;
+					neighborWeights[v][degrees[v]] = g.weight(a);
+					neighborEdges[v][degrees[v]++] = g.edgeOf(a);
+				}
+			}
+		}
+	}
+
+	/**
+	 * 
+	 * Contracts every vertex, one independent set at a time
+	 * 
+	 */
+	private void contractAll() {
+		// The vertices left to contract
+		int[] remaining = new int[n];
+		for (int v = 0; v < n; ++v) {
+			remaining[v] = v;
+		}
+		int count = n;
+
+		// Every vertex needs a priority to start with
+		updatePriorities(remaining, count);
+
+		final boolean[] selected = new boolean[n];
+		int[] stamps = new int[n];
+		int[] touched = new int[n];
+		int rank = 0;
+		int round = 0;
+		while (count > 0) {
+			// First, we'll pick the vertices which beat all their neighbors
+			final int[] candidates = remaining;
+			ParallelFor.run(pool, 0, count, ParallelFor.grain(pool, count, 1024),
+					new ParallelFor.Body() {
+						public void run(int from, int to) {
+							for (int i = from; i < to; ++i) {
+								int v = candidates[i];
+								selected[v] = isLocalMinimum(v);
+							}
+						}
+					});
+
+			int size = 0;
+			int left = 0;
+			final int[] set = new int[count];
+			for (int i = 0; i < count; ++i) {
+				int v = remaining[i];
+				if (selected[v]) {
+					set[size++] = v;
+					contracted[v] = true;
+					selected[v] = false;
+				}
+				else {
+					remaining[left++] = v;
+				}
+			}
+			count = left;
+
+			// Then we'll find their shortcuts in parallel, the searches avoid
+			// every vertex of the set so that all the shortcuts stay valid
+			// once the whole set is gone
+			final int[][] found = new int[size][];
+			ParallelFor.run(pool, 0, size, ParallelFor.grain(pool, size, 16),
+					new ParallelFor.Body() {
+						public void run(int from, int to) {
+							Witness w = takeWitness();
+							for (int i = from; i < to; ++i) {
+								int number = findShortcuts(set[i], w,
+										SETTLE_LIMIT);
+								found[i] = Arrays.copyOf(w.found, 5 * number);
+							}
+							giveWitness(w);
+						}
+					});
+
+			// Now we'll remove the set from the graph and insert the shortcuts
+			++round;
+			int changed = 0;
+			for (int i = 0; i < size; ++i) {
+				int v = set[i];
+				ranks[v] = rank++;
+
+				// Every remaining neighbor will have a higher rank
+				upTargets[v] = Arrays.copyOf(neighbors[v], degrees[v]);
+				upWeights[v] = Arrays.copyOf(neighborWeights[v], degrees[v]);
+				upEdges[v] = Arrays.copyOf(neighborEdges[v], degrees[v]);
+
+				for (int j = 0; j < degrees[v]; ++j) {
+					int u = neighbors[v][j];
+					removeNeighbor(u, v);
+					++contractedNeighbors[u];
+
+					// Their priorities will need an update
+					if (stamps[u] != round) {
+						stamps[u] = round;
+						touched[changed++] = u;
+					}
+				}
+
+				int[] s = found[i];
+				for (int j = 0; j < s.length; j += 5) {
+					addShortcut(s[j], s[j + 1], s[j + 2], v, s[j + 3], s[j + 4]);
+				}
+
+				// The vertex is gone, so are its lists
+				neighbors[v] = null;
+				neighborWeights[v] = null;
+				neighborEdges[v] = null;
+				degrees[v] = 0;
+			}
+
+			updatePriorities(touched, changed);
+		}
+	}
+
+	/**
+	 * 
+	 * Checks whether a vertex has a smaller priority than all its neighbors.
+	 * Ties are broken by a hash of the vertices, which unlike their index
+	 * doesn't favor one end of the graph.
+	 * 
+	 * @param v The vertex
+	 * @return true if it can be contracted in this round
+	 * 
+	 */
+	private boolean isLocalMinimum(int v) {
+		int p = priorities[v];
+		int h = hash(v);
+		for (int j = 0; j < degrees[v]; ++j) {
+			int u = neighbors[v][j];
+			int q = priorities[u];
+			if (q < p || (q == p && (hash(u) < h || (hash(u) == h && u < v))))
+				return false;
+		}
+
+		return true;
+	}
+
+	/**
+	 * 
+	 * Computes the priority of some vertices in parallel
+	 * 
+	 * @param vertices The vertices
+	 * @param count How many there are
+	 * 
+	 */
+	private void updatePriorities(final int[] vertices, int count) {
+		ParallelFor.run(pool, 0, count, ParallelFor.grain(pool, count, 64),
+				new ParallelFor.Body() {
+					public void run(int from, int to) {
+						Witness w = takeWitness();
+						for (int i = from; i < to; ++i) {
+							int v = vertices[i];
+							priorities[v] = findShortcuts(v, w, ESTIMATE_LIMIT)
+									- degrees[v] + contractedNeighbors[v];
+						}
+						giveWitness(w);
+					}
+				});
+	}
+
+	/**
+	 * 
+	 * Finds the shortcuts needed to contract a vertex: for each pair of
+	 * neighbors, a shortcut is needed unless a local search finds another path
+	 * (a witness) at most as long as the one going through the vertex. The
+	 * shortcuts are left in the witness' list, 5 ints each: both ends, the
+	 * weight and both halves.
+	 * 
+	 * @param v The vertex
+	 * @param w The scratch space
+	 * @param settleLimit The number of vertices settled by each search
+	 * @return The number of shortcuts
+	 * 
+	 */
+	private int findShortcuts(int v, Witness w, int settleLimit) {
+		int degree = degrees[v];
+		int[] around = neighbors[v];
+		int[] weights = neighborWeights[v];
+
+		// No path through the vertex is longer than this
+		int heaviest = 0;
+		for (int j = 0; j < degree; ++j) {
+			heaviest = Math.max(heaviest, weights[j]);
+		}
+
+		int count = 0;
+		for (int i = 0; i < degree - 1; ++i) {
+			int u = around[i];
+			w.search(u, v, (long) weights[i] + heaviest, around, i + 1, degree,
+					settleLimit);
+
+			for (int j = i + 1; j < degree; ++j) {
+				long through = (long) weights[i] + weights[j];
+				if (w.distances[around[j]] <= through)
+					continue;
+
+				w.add(count++, u, around[j], (int) Math.min(through,
+						Integer.MAX_VALUE - 1), neighborEdges[v][i],
+						neighborEdges[v][j]);
+			}
+
+			w.reset();
+		}
+
+		return count;
+	}
+
+	/**
+	 * 
+	 * Removes a vertex from the neighbors of another one
+	 * 
+	 * @param u The vertex
+	 * @param v The neighbor to remove
+	 * 
+	 */
+	private void removeNeighbor(int u, int v) {
+		int last = --degrees[u];
+		for (int j = 0; j <= last; ++j) {
+			if (neighbors[u][j] == v) {
+				neighbors[u][j] = neighbors[u][last];
+				neighborWeights[u][j] = neighborWeights[u][last];
+				neighborEdges[u][j] = neighborEdges[u][last];
+				return;
+			}
+		}
+	}
+
+	/**
+	 * 
+	 * Inserts a shortcut, unless a lighter edge already joins its ends
+	 * 
+	 * @param u The first end (touched by the first half)
+	 * @param w The second end
+	 * @param weight The weight
+	 * @param middle The contracted vertex
+	 * @param first The edge from u to the middle
+	 * @param second The edge from the middle to w
+	 * 
+	 */
+	private void addShortcut(int u, int w, int weight, int middle, int first,
+			int second) {
+		// Another vertex of the same round may have added a lighter one
+		int i = indexOf(u, w);
+		if (i != -1 && neighborWeights[u][i] <= weight)
+			return;
+
+		if (shortcuts == shortcutSources.length) {
+			int capacity = 2 * shortcuts;
+			shortcutSources = Arrays.copyOf(shortcutSources, capacity);
+			shortcutMiddles = Arrays.copyOf(shortcutMiddles, capacity);
+			shortcutFirsts = Arrays.copyOf(shortcutFirsts, capacity);
+			shortcutSeconds = Arrays.copyOf(shortcutSeconds, capacity);
+		}
+
+		shortcutSources[shortcuts] = u;
+		shortcutMiddles[shortcuts] = middle;
+		shortcutFirsts[shortcuts] = first;
+		shortcutSeconds[shortcuts] = second;
+		int e = m + shortcuts++;
+
+		setNeighbor(u, w, weight, e);
+		setNeighbor(w, u, weight, e);
+	}
+
+	/**
+	 * 
+	 * Links a vertex to a neighbor, replacing the previous edge between them
+	 * 
+	 */
+	private void setNeighbor(int u, int w, int weight, int e) {
+		int i = indexOf(u, w);
+		if (i == -1) {
+			if (degrees[u] == neighbors[u].length) {
+				int capacity = 2 * degrees[u];
+				neighbors[u] = Arrays.copyOf(neighbors[u], capacity);
+				neighborWeights[u] = Arrays.copyOf(neighborWeights[u], capacity);
+				neighborEdges[u] = Arrays.copyOf(neighborEdges[u], capacity);
+			}
+			i = degrees[u]++;
+			neighbors[u][i] = w;
+		}
+
+		neighborWeights[u][i] = weight;
+		neighborEdges[u][i] = e;
+	}
+
+	/**
+	 * 
+	 * Finds the position of a neighbor of a vertex
+	 * 
+	 * @return The position, or -1 if they aren't neighbors
+	 * 
+	 */
+	private int indexOf(int u, int w) {
+		for (int j = 0; j < degrees[u]; ++j) {
+			if (neighbors[u][j] == w)
+				return j;
+		}
+
+		return -1;
+	}
+
+	/**
+	 * 
+	 * Packs the upward arcs of every vertex into a CSR
+	 * 
+	 * @return The hierarchy
+	 * 
+	 */
+	private ContractionHierarchy hierarchy() {
+		int[] offsets = new int[n + 1];
+		for (int v = 0; v < n; ++v) {
+			offsets[v + 1] = offsets[v] + upTargets[v].length;
+		}
+
+		int arcs = offsets[n];
+		int[] targets = new int[arcs];
+		int[] weights = new int[arcs];
+		int[] arcEdges = new int[arcs];
+		for (int v = 0; v < n; ++v) {
+			System.arraycopy(upTargets[v], 0, targets, offsets[v],
+					upTargets[v].length);
+			System.arraycopy(upWeights[v], 0, weights, offsets[v],
+					upWeights[v].length);
+			System.arraycopy(upEdges[v], 0, arcEdges, offsets[v],
+					upEdges[v].length);
+		}
+
+		return new ContractionHierarchy(n, m, ranks, offsets, targets,
+				weights, arcEdges, Arrays.copyOf(shortcutSources, shortcuts),
+				Arrays.copyOf(shortcutMiddles, shortcuts), Arrays.copyOf(
+						shortcutFirsts, shortcuts), Arrays.copyOf(
+						shortcutSeconds, shortcuts));
+	}
+
+	/**
+	 * 
+	 * Mixes the bits of a vertex index
+	 * 
+	 */
+	private static int hash(int x) {
+		x ^= x >>> 16;
+		x *= 0x85EBCA6B;
+		x ^= x >>> 13;
+		x *= 0xC2B2AE35;
+		x ^= x >>> 16;
+		return x;
+	}
+
+	/**
+	 * 
+	 * Takes the scratch space of a witness search, ready for new searches
+	 * 
+	 * @return The scratch space, which must be given back once done
+	 * 
+	 */
+	private Witness takeWitness() {
+		Witness w;
+		synchronized (witnesses) {
+			w = witnesses.poll();
+		}
+
+		return w == null ? new Witness() : w;
+	}
+
+	/**
+	 * 
+	 * Gives the scratch space of a witness search back, for another task to
+	 * reuse
+	 * 
+	 * @param w The scratch space
+	 * 
+	 */
+	private void giveWitness(Witness w) {
+		synchronized (witnesses) {
+			witnesses.push(w);
+		}
+	}
+
+	/**
+	 * 
+	 * This class holds the scratch space of the witness searches of a task
+	 * 
+	 */
+	private class Witness {
+		// The distance to each vertex, only the touched ones are reset
+		final int[] distances = new int[n];
+
+		// The vertices reached by the current search
+		private final int[] touched = new int[n];
+		private int count = 0;
+
+		// The queue of the search
+		private final DaryHeap Q = new DaryHeap(n);
+
+		// The targets of the current search are marked with its number
+		private final int[] marks = new int[n];
+		private int search = 0;
+
+		// The shortcuts found so far
+		int[] found = new int[40];
+
+		/**
+		 * 
+		 * The distances start infinite
+		 * 
+		 */
+		Witness() {
+			Arrays.fill(distances, ShortestPathTree.INFINITY);
+		}
+
+		/**
+		 * 
+		 * Runs a search from a vertex which avoids the contracted ones. It
+		 * stops once all the targets are settled, at a given distance or after
+		 * settling enough vertices.
+		 * 
+		 * @param source The source vertex
+		 * @param avoided The vertex being contracted
+		 * @param limit The distance beyond which nothing is needed
+		 * @param targets The array holding the targets
+		 * @param from The first target
+		 * @param to The end of the targets (exclusive)
+		 * @param settleLimit The number of vertices to settle at most
+		 * 
+		 */
+		void search(int source, int avoided, long limit, int[] targets,
+				int from, int to, int settleLimit) {
+			// Each search gets its own mark for the targets
+			++search;
+			for (int i = from; i < to; ++i) {
+				marks[targets[i]] = search;
+			}
+			int left = to - from;
+
+			distances[source] = 0;
+			touched[count++] = source;
+			Q.insert(source, 0);
+
+			int settled = 0;
+			while (!Q.isEmpty() && settled++ < settleLimit) {
+				int x = Q.poll();
+				int d = distances[x];
+				if (d > limit)
+					break;
+
+				if (marks[x] == search && --left == 0)
+					break;
+
+				for (int j = 0; j < degrees[x]; ++j) {
+					int y = neighbors[x][j];
+					if (y == avoided || contracted[y])
+						continue;
+
+					long alt = (long) d + neighborWeights[x][j];
+					if (alt > limit || alt >= distances[y])
+						continue;
+
+					if (distances[y] == ShortestPathTree.INFINITY) {
+						touched[count++] = y;
+						Q.insert(y, (int) alt);
+					}
+					else {
+						Q.decreaseKey(y, (int) alt);
+					}
+					distances[y] = (int) alt;
+				}
+			}
+
+			Q.clear();
+		}
+
+		/**
+		 * 
+		 * Puts the distances touched by the last search back to infinity
+		 * 
+		 */
+		void reset() {
+			for (int i = 0; i < count; ++i) {
+				distances[touched[i]] = ShortestPathTree.INFINITY;
+			}
+			count = 0;
+		}
+
+		/**
+		 * 
+		 * Records a shortcut
+		 * 
+		 */
+		void add(int index, int u, int w, int weight, int first, int second) {
+			if (5 * index + 5 > found.length) {
+				found = Arrays.copyOf(found, 2 * found.length);
+			}
+
+			found[5 * index] = u;
+			found[5 * index + 1] = w;
+			found[5 * index + 2] = weight;
+			found[5 * index + 3] = first;
+			found[5 * index + 4] = second;
+		}
+	}
+}
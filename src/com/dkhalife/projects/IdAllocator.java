@@ -0,0 +1,111 @@
+package com.dkhalife.projects;
+
+import java.util.Arrays;
+
+/**
+ * 
+ * This class hands out dense integer ids. Released ids are kept in a free-list
+ * and handed out again before any new id is created, so that the ids stay
+ * within [0, capacity()) and can be used directly as array indexes.
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+public class IdAllocator {
+	// The next id that was never handed out
+	private int next = 0;
+
+	// The stack of released ids
+	private int[] free = new int[16];
+
+	// The number of released ids
+	private int freeCount = 0;
+
+	/**
+	 * 
+	 * Hands out an id, reusing a released one when possible
+	 * 
+	 * @return The id
+	 * 
+	 */
+	public int allocate() {
+		if (freeCount > 0)
+			return free[--freeCount];
+
+		return next++;
+	}
+
+	/**
+	 * 
+	 * Gives an id back so that it can be reused
+	 * 
+	 * @param id The id to release
+	 * 
+	 */
+	public void release(int id) {
+		if (freeCount == free.length) {
+			free = Arrays.copyOf(free, 2 * free.length);
+		}
+
+		free[freeCount++] = id;
+	}
+
+	/**
+	 * 
+	 * Getter for the number of ids that were ever handed out, which is an
+	 * upper bound for every id in use
+	 * 
+	 * @return The capacity
+	 * 
+	 */
+	public int capacity() {
+		return next;
+	}
+
+	/**
+	 * 
+	 * Getter for the number of ids currently in use
+	 * 
+	 * @return The number of ids in use
+	 * 
+	 */
+	public int size() {
+		return next - freeCount;
+	}
+
+	/**
+	 * 
+	 * Forgets every id that was handed out
+	 * 
+	 */
+	public void clear() {
+		next = 0;
+		freeCount = 0;
+	}
+
+	/**
+	 * 
+	 * Rebuilds an allocator from a table indexed by id, where the unused ids
+	 * are the null entries
+	 * 
+	 * @param table The table
+	 * @return An allocator handing out the free entries of the table first
+	 * 
+	 */
+	public static IdAllocator of(Object[] table) {
+		IdAllocator ids = new IdAllocator();
+		ids.next = table.length;
+
+		// Release the holes from the last one to the first one, so that the
+		// smallest ids are reused first
+		for (int i = table.length - 1; i >= 0; --i) {
+			if (table[i] == null) {
+				ids.release(i);
+			}
+		}
+
+		return ids;
+	}
+}
@@ -0,0 +1,100 @@
+package com.dkhalife.projects;
+
+/**
+ * 
+ * This interface describes a min priority queue over the integers [0, capacity)
+ * with primitive int keys. Items are addressed by their index, which allows
+ * decreasing the key of an item without searching for it first.
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+public interface IndexedHeap {
+
+	/**
+	 * 
+	 * Checks whether the heap is empty
+	 * 
+	 * @return true if there are no items left
+	 * 
+	 */
+	boolean isEmpty();
+
+	/**
+	 * 
+	 * Getter for the number of items in the heap
+	 * 
+	 * @return The number of items
+	 * 
+	 */
+	int size();
+
+	/**
+	 * 
+	 * Checks whether an item is currently in the heap
+	 * 
+	 * @param item The item
+	 * @return true if the item is in the heap
+	 * 
+	 */
+	boolean contains(int item);
+
+	/**
+	 * 
+	 * Getter for the key of an item that is in the heap
+	 * 
+	 * @param item The item
+	 * @return Its key
+	 * 
+	 */
+	int key(int item);
+
+	/**
+	 * 
+	 * Inserts an item that is not in the heap yet
+	 * 
+	 * @param item The item
+	 * @param key Its key
+	 * 
+	 */
+	void insert(int item, int key);
+
+	/**
+	 * 
+	 * Lowers the key of an item that is already in the heap
+	 * 
+	 * @param item The item
+	 * @param key Its new key, which must not be greater than the current one
+	 * @throws IllegalArgumentException If the item isn't in the heap or the
+	 *         key is greater
+	 * 
+	 */
+	void decreaseKey(int item, int key);
+
+	/**
+	 * 
+	 * Getter for the smallest key in the heap
+	 * 
+	 * @return The smallest key
+	 * 
+	 */
+	int minKey();
+
+	/**
+	 * 
+	 * Removes the item with the smallest key
+	 * 
+	 * @return The removed item
+	 * 
+	 */
+	int poll();
+
+	/**
+	 * 
+	 * Removes every item from the heap, in time proportional to its size
+	 * 
+	 */
+	void clear();
+}
@@ -0,0 +1,330 @@
+package com.dkhalife.projects;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * 
+ * This class implements Kruskal's minimal spanning tree algorithm on a CSR
+ * graph. Every edge is packed into a long holding its weight in the high bits
+ * and its id in the low bits, so that sorting the packed values sorts the
+ * edges by weight (ties are broken by id) without creating any object.
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+public class Kruskal {
+	// Sort all the edges with Arrays.parallelSort
+	public static final int PARALLEL_SORT = 0;
+
+	// Sort all the edges with an LSD radix sort
+	public static final int RADIX_SORT = 1;
+
+	// Only sort the edges that may still join two trees (Filter-Kruskal)
+	public static final int FILTER = 2;
+
+	// Below this number of edges, Filter-Kruskal simply sorts them
+	private static final int FILTER_THRESHOLD = 1 << 12;
+
+	/**
+	 * 
+	 * This class only holds static methods
+	 * 
+	 */
+	private Kruskal() {
+	}
+
+	/**
+	 * 
+	 * Computes the minimal spanning forest of the graph
+	 * 
+	 * @param g The graph
+	 * @return The minimal spanning forest
+	 * 
+	 */
+	public static SpanningTree minimumSpanningTree(CsrGraph g) {
+		return minimumSpanningTree(g, PARALLEL_SORT);
+	}
+
+	/**
+	 * 
+	 * Computes the minimal spanning forest of the graph
+	 * 
+	 * @param g The graph
+	 * @param mode How to order the edges (PARALLEL_SORT, RADIX_SORT or FILTER)
+	 * @return The minimal spanning forest
+	 * 
+	 */
+	public static SpanningTree minimumSpanningTree(CsrGraph g, int mode) {
+		int m = g.edgeCount();
+
+		// Pack the edges, in the order of their ids
+		long[] packed = new long[m];
+		for (int e = 0; e < m; ++e) {
+			packed[e] = pack(g.edgeWeight(e), e);
+		}
+
+		Forest forest = new Forest(g);
+
+		switch (mode) {
+		case PARALLEL_SORT:
+			Arrays.parallelSort(packed);
+			forest.scan(packed, 0, m);
+			break;
+		case RADIX_SORT:
+			radixSort(packed);
+			forest.scan(packed, 0, m);
+			break;
+		case FILTER:
+			filterKruskal(forest, packed, 0, m, new Random(m));
+			break;
+		default:
+			throw new IllegalArgumentException("Unknown mode: " + mode);
+		}
+
+		return new SpanningTree(Arrays.copyOf(forest.edges, forest.count),
+				forest.weight);
+	}
+
+	/**
+	 * 
+	 * Packs an edge into a long which sorts by weight first, then by id
+	 * 
+	 * @param weight The weight (must not be negative)
+	 * @param e The edge id
+	 * @return The packed edge
+	 * 
+	 */
+	static long pack(int weight, int e) {
+		return ((long) weight << 32) | e;
+	}
+
+	/**
+	 * 
+	 * Extracts the edge id from a packed edge
+	 * 
+	 * @param packed The packed edge
+	 * @return The edge id
+	 * 
+	 */
+	static int edgeOf(long packed) {
+		return (int) packed;
+	}
+
+	/**
+	 * 
+	 * Sorts packed edges with a stable LSD radix sort on the weight. Since
+	 * the edges are packed in the order of their ids, ties are already in the
+	 * right order and only the four bytes of the weight need to be sorted.
+	 * The passes where every edge has the same byte are skipped.
+	 * 
+	 * @param a The packed edges, in the order of their ids
+	 * 
+	 */
+	static void radixSort(long[] a) {
+		long[] source = a;
+		long[] buffer = new long[a.length];
+		int[] counts = new int[256];
+
+		for (int shift = 32; shift < 64; shift += 8) {
+			// Count the occurences of each byte
+			Arrays.fill(counts, 0);
+			for (long x : source) {
+				++counts[(int) (x >>> shift) & 0xFF];
+			}
+
+			// Nothing to do if they all share the same byte
+			if (source.length == 0
+					|| counts[(int) (source[0] >>> shift) & 0xFF] == source.length)
+				continue;
+
+			// Turn the counts into offsets
+			int sum = 0;
+			for (int i = 0; i < 256; ++i) {
+				int c = counts[i];
+				counts[i] = sum;
+				sum += c;
+			}
+
+			// Distribute the values
+			for (long x : source) {
+				buffer[counts[(int) (x >>> shift) & 0xFF]++] = x;
+			}
+
+			// And swap the buffers
+			long[] t = source;
+			source = buffer;
+			buffer = t;
+		}
+
+		// If an odd number of passes ran, the sorted values are in the buffer
+		if (source != a) {
+			System.arraycopy(source, 0, a, 0, a.length);
+		}
+	}
+
+	/**
+	 * 
+	 * Filter-Kruskal: the edges are split around a pivot, the light ones are
+	 * processed first, then the heavy ones that still join two different trees
+	 * are processed. On dense graphs most heavy edges are filtered out before
+	 * they are ever sorted.
+	 * 
+	 * @param forest The forest being built
+	 * @param a The packed edges
+	 * @param from The first edge of the range
+	 * @param to The end of the range (exclusive)
+	 * @param random The source of the pivots
+	 * 
+	 */
+	private static void filterKruskal(Forest forest, long[] a, int from, int to,
+			Random random) {
+		if (forest.isComplete())
+			return;
+
+		if (to - from <= FILTER_THRESHOLD) {
+			Arrays.sort(a, from, to);
+			forest.scan(a, from, to);
+			return;
+		}
+
+		// Pick the median of three random edges as the pivot
+		long x = a[from + random.nextInt(to - from)];
+		long y = a[from + random.nextInt(to - from)];
+		long z = a[from + random.nextInt(to - from)];
+		long pivot = Math.max(Math.min(x, y), Math.min(Math.max(x, y), z));
+
+		// Partition the range in the light and the heavy edges
+		int split = from;
+		for (int i = from; i < to; ++i) {
+			if (a[i] <= pivot) {
+				long t = a[i];
+				a[i] = a[split];
+				a[split++] = t;
+			}
+		}
+
+		// The pivot is the heaviest edge, there's nothing left to split
+		if (split == to) {
+			Arrays.sort(a, from, to);
+			forest.scan(a, from, to);
+			return;
+		}
+
+		filterKruskal(forest, a, from, split, random);
+
+		// Only keep the heavy edges which still join two different trees
+		int kept = split;
+		for (int i = split; i < to; ++i) {
+			if (!forest.connects(edgeOf(a[i]))) {
+				a[kept++] = a[i];
+			}
+		}
+
+		filterKruskal(forest, a, split, kept, random);
+	}
+
+	/**
+	 * 
+	 * This class holds the state of the forest being built
+	 * 
+	 */
+	private static class Forest {
+		// The graph
+		private final CsrGraph g;
+
+		// The trees of the forest
+		private final DisjointSet ds;
+
+		// The edges in the forest
+		private final int[] edges;
+
+		// How many edges the forest will have once it spans every vertex that
+		// has at least one edge
+		private final int target;
+
+		// The number of edges in the forest
+		private int count = 0;
+
+		// The total weight of the forest
+		private long weight = 0;
+
+		/**
+		 * 
+		 * An empty forest is constructed for a graph
+		 * 
+		 * @param g The graph
+		 * 
+		 */
+		Forest(CsrGraph g) {
+			this.g = g;
+
+			int n = g.vertexCount();
+			ds = new DisjointSet(n);
+
+			// The isolated vertices can't be connected, so we'll leave them
+			// out when figuring out when the tree is complete
+			int connected = 0;
+			for (int v = 0; v < n; ++v) {
+				if (g.degree(v) > 0)
+					++connected;
+			}
+
+			target = Math.max(connected - 1, 0);
+			edges = new int[target];
+		}
+
+		/**
+		 * 
+		 * Checks whether the forest can't grow any more
+		 * 
+		 * @return true if the forest spans every vertex that has an edge
+		 * 
+		 */
+		boolean isComplete() {
+			return count == target;
+		}
+
+		/**
+		 * 
+		 * Checks whether both endpoints of an edge are already in the same tree
+		 * 
+		 * @param e The edge id
+		 * @return true if adding the edge would create a cycle
+		 * 
+		 */
+		boolean connects(int e) {
+			return ds.find(g.edgeSource(e)) == ds.find(g.edgeTarget(e));
+		}
+
+		/**
+		 * 
+		 * Walks through a range of sorted packed edges and adds the ones which
+		 * don't create cycles, stopping as soon as the forest is complete
+		 * 
+		 * @param a The packed edges
+		 * @param from The first edge of the range
+		 * @param to The end of the range (exclusive)
+		 * 
+		 */
+		void scan(long[] a, int from, int to) {
+			for (int i = from; i < to && count < target; ++i) {
+				int e = edgeOf(a[i]);
+
+				int u = ds.find(g.edgeSource(e));
+				int v = ds.find(g.edgeTarget(e));
+
+				// Check to see if both vertices are NOT connexe (to make sure
+				// that adding this edge won't create a cycle)
+				if (u != v) {
+					ds.union(u, v);
+
+					edges[count++] = e;
+					weight += g.edgeWeight(e);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,419 @@
+package com.dkhalife.projects;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * 
+ * This class implements the ALT heuristic (A*, landmarks and triangle
+ * inequality). The distances from a few landmarks to every vertex are computed
+ * once, then for any landmark L the triangle inequality gives
+ * d(v, t) >= |d(L, t) - d(L, v)|, and the largest of these bounds is used to
+ * guide A*.
+ * 
+ * Since the graphs are undirected, the distances to a landmark are the same as
+ * the distances from it, so a single table is kept per landmark. The tables
+ * are stored in one flat array, vertex by vertex, so that the distances of a
+ * vertex to all the landmarks share the same cache lines.
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+public class Landmarks implements Heuristic {
+	// Landmark selection methods
+	public static final int RANDOM = 0;
+	public static final int FARTHEST = 1;
+	public static final int AVOID = 2;
+
+	// The landmarks
+	private final int[] landmarks;
+
+	// The distance between vertex v and landmark i is at v * k + i
+	private final int[] distances;
+
+	/**
+	 * 
+	 * Landmarks are constructed with their distance tables
+	 * 
+	 */
+	private Landmarks(int[] landmarks, int[] distances) {
+		this.landmarks = landmarks;
+		this.distances = distances;
+	}
+
+	/**
+	 * 
+	 * Picks landmarks on the common pool and computes their tables
+	 * 
+	 * @param g The graph
+	 * @param k The number of landmarks
+	 * @param method The selection method (RANDOM, FARTHEST or AVOID)
+	 * @return The landmarks
+	 * 
+	 */
+	public static Landmarks select(CsrGraph g, int k, int method) {
+		return select(g, k, method, 0, ForkJoinPool.commonPool());
+	}
+
+	/**
+	 * 
+	 * Picks landmarks and computes their tables. Random landmarks are all
+	 * computed in parallel, while the other methods need the tables of the
+	 * landmarks picked so far to pick the next one.
+	 * 
+	 * @param g The graph
+	 * @param k The number of landmarks
+	 * @param method The selection method (RANDOM, FARTHEST or AVOID)
+	 * @param seed The seed of the random choices
+	 * @param pool The pool to run in
+	 * @return The landmarks
+	 * 
+	 */
+	public static Landmarks select(CsrGraph g, int k, int method, long seed,
+			ForkJoinPool pool) {
+		int n = g.vertexCount();
+		if (k < 1 || k > n)
+			throw new IllegalArgumentException("Invalid number of landmarks: "
+					+ k);
+		checkSize(n, k);
+
+		Random random = new Random(seed);
+		switch (method) {
+		case RANDOM:
+			return compute(g, randomLandmarks(n, k, random), pool);
+		case FARTHEST:
+			return farthest(g, k, random);
+		case AVOID:
+			return avoid(g, k, random);
+		default:
+			throw new IllegalArgumentException("Unknown method: " + method);
+		}
+	}
+
+	/**
+	 * 
+	 * Computes the tables of given landmarks in parallel, one search per
+	 * landmark. This is how the tables are refreshed when the weights change
+	 * but the landmarks are kept.
+	 * 
+	 * @param g The graph
+	 * @param landmarks The landmarks
+	 * @param pool The pool to run in
+	 * @return The landmarks
+	 * 
+	 */
+	public static Landmarks compute(final CsrGraph g, final int[] landmarks,
+			ForkJoinPool pool) {
+		final int n = g.vertexCount();
+		final int k = landmarks.length;
+		checkSize(n, k);
+
+		// The searches run in contexts of their own, which the threads of the
+		// pool don't keep afterwards
+		final int[] distances = new int[n * k];
+		final SearchContext.Pool contexts = new SearchContext.Pool(n);
+		ParallelFor.run(pool, 0, k, 1, new ParallelFor.Body() {
+			public void run(int from, int to) {
+				for (int i = from; i < to; ++i) {
+					SearchContext c = contexts.take();
+					Dijkstra.search(g, landmarks[i], -1, c);
+					for (int v = 0, a = i; v < n; ++v, a += k) {
+						distances[a] = c.distance(v);
+					}
+					contexts.give(c);
+				}
+			}
+		});
+
+		return new Landmarks(landmarks.clone(), distances);
+	}
+
+	/**
+	 * 
+	 * Getter for the landmarks
+	 * 
+	 * @return The landmarks
+	 * 
+	 */
+	public int[] getLandmarks() {
+		return landmarks.clone();
+	}
+
+	/**
+	 * 
+	 * Getter for the distance between a landmark and a vertex
+	 * 
+	 * @param i The index of the landmark
+	 * @param v The vertex
+	 * @return The distance, or INFINITY if they aren't connected
+	 * 
+	 */
+	public int distance(int i, int v) {
+		return distances[v * landmarks.length + i];
+	}
+
+	public int estimate(int v, int target) {
+		int k = landmarks.length;
+		int best = 0;
+		for (int i = 0, a = v * k, b = target * k; i < k; ++i, ++a, ++b) {
+			int dv = distances[a];
+			int dt = distances[b];
+
+			// If the landmark reaches only one of them, the target can't be
+			// reached at all
+			if (dv == ShortestPathTree.INFINITY || dt == ShortestPathTree.INFINITY) {
+				if (dv != dt)
+					return ShortestPathTree.INFINITY;
+				continue;
+			}
+
+			best = Math.max(best, Math.abs(dt - dv));
+		}
+
+		return best;
+	}
+
+	/**
+	 * 
+	 * Picks distinct random vertices
+	 * 
+	 */
+	private static int[] randomLandmarks(int n, int k, Random random) {
+		// Since there are few landmarks, we'll simply draw again whenever a
+		// vertex was already picked
+		int[] picked = new int[k];
+		for (int i = 0; i < k; ++i) {
+			int v;
+			boolean taken;
+			do {
+				v = random.nextInt(n);
+				taken = false;
+				for (int j = 0; j < i; ++j) {
+					taken |= picked[j] == v;
+				}
+			} while (taken);
+			picked[i] = v;
+		}
+
+		return picked;
+	}
+
+	/**
+	 * 
+	 * Picks landmarks by farthest-first traversal: each landmark is the vertex
+	 * farthest from all the previous ones. The first one is the vertex
+	 * farthest from a random vertex. Vertices which no landmark reaches yet
+	 * count as the farthest, so every component ends up with a landmark.
+	 * 
+	 */
+	private static Landmarks farthest(CsrGraph g, int k, Random random) {
+		int n = g.vertexCount();
+		int[] landmarks = new int[k];
+		int[] distances = new int[n * k];
+
+		// The distance from each vertex to its closest landmark
+		int[] closest = Dijkstra.shortestPaths(g, random.nextInt(n))
+				.distances();
+		for (int i = 0; i < k; ++i) {
+			landmarks[i] = farthestVertex(closest, landmarks, i);
+
+			int[] d = Dijkstra.shortestPaths(g, landmarks[i]).distances();
+			store(d, distances, i, k);
+
+			for (int v = 0; v < n; ++v) {
+				closest[v] = i == 0 ? d[v] : Math.min(closest[v], d[v]);
+			}
+		}
+
+		return new Landmarks(landmarks, distances);
+	}
+
+	/**
+	 * 
+	 * Finds the vertex with the largest distance which isn't a landmark yet
+	 * 
+	 */
+	private static int farthestVertex(int[] d, int[] landmarks, int count) {
+		int best = -1;
+		for (int v = 0; v < d.length; ++v) {
+			if (best != -1 && d[v] <= d[best])
+				continue;
+
+			boolean taken = false;
+			for (int j = 0; j < count; ++j) {
+				taken |= landmarks[j] == v;
+			}
+			if (!taken) {
+				best = v;
+			}
+		}
+
+		return best;
+	}
+
+	/**
+	 * 
+	 * Picks landmarks with the avoid method. A shortest path tree is grown
+	 * from a random root, and each vertex is weighted by how much the current
+	 * landmarks underestimate its distance to the root. The new landmark is
+	 * the leaf reached by walking down the heaviest subtrees which don't
+	 * contain a landmark yet, which puts it where the bounds are the worst.
+	 * 
+	 */
+	private static Landmarks avoid(CsrGraph g, int k, Random random) {
+		int n = g.vertexCount();
+		int[] landmarks = new int[k];
+		int[] distances = new int[n * k];
+
+		boolean[] isLandmark = new boolean[n];
+		long[] sizes = new long[n];
+		int[] counts = new int[n + 1];
+		int[] children = new int[n];
+		int[] order = new int[n];
+
+		for (int i = 0; i < k; ++i) {
+			int root;
+			do {
+				root = random.nextInt(n);
+			} while (isLandmark[root]);
+			ShortestPathTree tree = Dijkstra.shortestPaths(g, root);
+
+			// Group the children of each vertex in the tree
+			Arrays.fill(counts, 0);
+			for (int v = 0; v < n; ++v) {
+				int e = tree.parentEdge(v);
+				if (e != -1) {
+					++counts[g.opposite(e, v) + 1];
+				}
+			}
+			for (int v = 0; v < n; ++v) {
+				counts[v + 1] += counts[v];
+			}
+			int[] cursor = Arrays.copyOf(counts, n);
+			for (int v = 0; v < n; ++v) {
+				int e = tree.parentEdge(v);
+				if (e != -1) {
+					children[cursor[g.opposite(e, v)]++] = v;
+				}
+			}
+
+			// List the tree from the root down, parents before children
+			int size = 0;
+			order[size++] = root;
+			for (int j = 0; j < size; ++j) {
+				int v = order[j];
+				for (int c = counts[v]; c < counts[v + 1]; ++c) {
+					order[size++] = children[c];
+				}
+			}
+
+			// Then sum the weights from the leaves up, a subtree holding a
+			// landmark weighs nothing
+			for (int j = size - 1; j >= 0; --j) {
+				int v = order[j];
+				if (isLandmark[v]) {
+					sizes[v] = -1;
+					continue;
+				}
+
+				long s = tree.distance(v)
+						- lowerBound(distances, v, root, i, k);
+				for (int c = counts[v]; c < counts[v + 1]; ++c) {
+					if (sizes[children[c]] == -1) {
+						s = -1;
+						break;
+					}
+					s += sizes[children[c]];
+				}
+				sizes[v] = s;
+			}
+
+			// Start from the heaviest vertex and walk down the heaviest
+			// children to a leaf
+			int v = -1;
+			for (int j = 0; j < size; ++j) {
+				int u = order[j];
+				if (v == -1 || sizes[u] > sizes[v]) {
+					v = u;
+				}
+			}
+			if (sizes[v] < 0) {
+				// Every vertex of the tree is under a landmark, which only
+				// happens in a component which already has one
+				v = farthestVertex(tree.distances(), landmarks, i);
+			}
+			else {
+				while (counts[v] < counts[v + 1]) {
+					int best = children[counts[v]];
+					for (int c = counts[v] + 1; c < counts[v + 1]; ++c) {
+						if (sizes[children[c]] > sizes[best]) {
+							best = children[c];
+						}
+					}
+					if (sizes[best] < 0)
+						break;
+					v = best;
+				}
+			}
+
+			landmarks[i] = v;
+			isLandmark[v] = true;
+			store(Dijkstra.shortestPaths(g, v).distances(), distances, i, k);
+		}
+
+		return new Landmarks(landmarks, distances);
+	}
+
+	/**
+	 * 
+	 * Computes the lower bound given by the first landmarks of a table which
+	 * is laid out for more of them
+	 * 
+	 * @param distances The table
+	 * @param v The vertex
+	 * @param target The target
+	 * @param count The number of landmarks to use
+	 * @param k The number of landmarks of the table
+	 * @return The bound
+	 * 
+	 */
+	private static int lowerBound(int[] distances, int v, int target,
+			int count, int k) {
+		int best = 0;
+		for (int i = 0; i < count; ++i) {
+			int dv = distances[v * k + i];
+			int dt = distances[target * k + i];
+			if (dv != ShortestPathTree.INFINITY
+					&& dt != ShortestPathTree.INFINITY) {
+				best = Math.max(best, Math.abs(dt - dv));
+			}
+		}
+
+		return best;
+	}
+
+	/**
+	 * 
+	 * Copies the distances from a landmark into its column of the table
+	 * 
+	 */
+	private static void store(int[] d, int[] distances, int i, int k) {
+		for (int v = 0, a = i; v < d.length; ++v, a += k) {
+			distances[a] = d[v];
+		}
+	}
+
+	/**
+	 * 
+	 * Makes sure the tables fit in a single array
+	 * 
+	 */
+	private static void checkSize(int n, int k) {
+		if ((long) n * k > Integer.MAX_VALUE)
+			throw new IllegalArgumentException("Too many landmarks for "
+					+ n + " vertices: " + k);
+	}
+}
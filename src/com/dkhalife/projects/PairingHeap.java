@@ -0,0 +1,199 @@
+package com.dkhalife.projects;
+
+/**
+ * 
+ * This class implements an indexed pairing heap. Decreasing a key cuts the
+ * item's subtree and melds it back with the root, which is O(1) in practice,
+ * while removing the minimum re-pairs the root's children in two passes.
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+public class PairingHeap implements IndexedHeap {
+	// The key of each item
+	private final int[] keys;
+
+	// The leftmost child of each item (or -1)
+	private final int[] children;
+
+	// The right sibling of each item (or -1)
+	private final int[] next;
+
+	// The left sibling of each item, or its parent if it is the leftmost child
+	// (or -1 for the root)
+	private final int[] previous;
+
+	// Whether each item is in the heap
+	private final boolean[] present;
+
+	// Scratch space used when pairing the children of the root
+	private final int[] scratch;
+
+	// The item with the smallest key (or -1)
+	private int root = -1;
+
+	// The number of items in the heap
+	private int size = 0;
+
+	/**
+	 * 
+	 * A heap is constructed with the number of items it can hold
+	 * 
+	 * @param capacity The number of items
+	 * 
+	 */
+	public PairingHeap(int capacity) {
+		keys = new int[capacity];
+		children = new int[capacity];
+		next = new int[capacity];
+		previous = new int[capacity];
+		present = new boolean[capacity];
+		scratch = new int[capacity];
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean contains(int item) {
+		return present[item];
+	}
+
+	public int key(int item) {
+		return keys[item];
+	}
+
+	public void insert(int item, int key) {
+		keys[item] = key;
+		children[item] = -1;
+		next[item] = -1;
+		previous[item] = -1;
+		present[item] = true;
+
+		root = root == -1 ? item : meld(root, item);
+		++size;
+	}
+
+	public void decreaseKey(int item, int key) {
+		if (!present[item])
+			throw new IllegalArgumentException("Not in the heap: " + item);
+		if (key > keys[item])
+			throw new IllegalArgumentException("Greater key for " + item + ": "
+					+ key + " > " + keys[item]);
+
+		keys[item] = key;
+		if (item == root)
+			return;
+
+		// Cut the item's subtree out of its siblings list
+		int p = previous[item];
+		if (children[p] == item) {
+			children[p] = next[item];
+		}
+		else {
+			next[p] = next[item];
+		}
+		if (next[item] != -1) {
+			previous[next[item]] = p;
+		}
+		next[item] = -1;
+		previous[item] = -1;
+
+		// And meld it back with the root
+		root = meld(root, item);
+	}
+
+	public int minKey() {
+		return keys[root];
+	}
+
+	public int poll() {
+		int min = root;
+		present[min] = false;
+		--size;
+
+		// First pass, we'll meld the children in pairs from left to right
+		int count = 0;
+		int c = children[min];
+		while (c != -1) {
+			int a = c;
+			int b = next[a];
+			if (b == -1) {
+				c = -1;
+			}
+			else {
+				c = next[b];
+				next[b] = -1;
+				previous[b] = -1;
+			}
+			next[a] = -1;
+			previous[a] = -1;
+
+			scratch[count++] = b == -1 ? a : meld(a, b);
+		}
+
+		// Second pass, we'll meld the pairs from right to left
+		root = -1;
+		while (count > 0) {
+			int t = scratch[--count];
+			root = root == -1 ? t : meld(t, root);
+		}
+
+		return min;
+	}
+
+	public void clear() {
+		if (root == -1)
+			return;
+
+		// Walk the whole tree to mark every item as absent
+		int top = 0;
+		scratch[top++] = root;
+		while (top > 0) {
+			int x = scratch[--top];
+			present[x] = false;
+
+			if (children[x] != -1)
+				scratch[top++] = children[x];
+			if (next[x] != -1)
+				scratch[top++] = next[x];
+		}
+
+		root = -1;
+		size = 0;
+	}
+
+	/**
+	 * 
+	 * Links two trees by making the root with the greater key the leftmost
+	 * child of the other one
+	 * 
+	 * @param a The root of the first tree
+	 * @param b The root of the second tree
+	 * @return The root of the resulting tree
+	 * 
+	 */
+	private int meld(int a, int b) {
+		if (keys[b] < keys[a]) {
+			int t = a;
+			a = b;
+			b = t;
+		}
+
+		int first = children[a];
+		next[b] = first;
+		if (first != -1) {
+			previous[first] = b;
+		}
+		previous[b] = a;
+		children[a] = b;
+
+		return a;
+	}
+}
@@ -1,19 +1,26 @@
 package com.dkhalife.projects;
 
+import java.awt.AlphaComposite;
 import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Dimension;
 import java.awt.Font;
+import java.awt.FontMetrics;
 import java.awt.Graphics;
 import java.awt.Graphics2D;
+import java.awt.Rectangle;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
-import java.awt.geom.Line2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileOutputStream;
+import java.io.IOException;
 import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
-import java.util.PriorityQueue;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Iterator;
 import java.util.Vector;
 
 import javax.swing.BorderFactory;
@@ -54,13 +61,12 @@ class Panel extends JPanel {
 		this.drawing = drawing;
 
 		if (drawing == EDGES && nearestV != null) {
-			V.get(nearestV).setColor(Color.BLACK);
+			recolor(V.get(nearestV), Color.BLACK);
 		}
 		else if (drawing == VERTICES && nearestV != null) {
-			V.get(nearestV).setColor(Color.BLACK);
+			recolor(V.get(nearestV), Color.BLACK);
 		}
 
-		repaint();
 		nearestV = null;
 	}
 
@@ -71,12 +77,82 @@ class Panel extends JPanel {
 	private static final int hres = 20;
 	private static final int wres = 20;
 
-	// The list of Vertices
+	// The strokes and the fonts, which never change
+	private static final BasicStroke GRID_STROKE = new BasicStroke(1,
+			BasicStroke.CAP_SQUARE, BasicStroke.JOIN_ROUND, 0,
+			new float[] { 3 }, 0);
+	private static final BasicStroke EDGE_STROKE = new BasicStroke(3);
+	private static final Font EDGE_FONT = new Font("Verdana", Font.BOLD, 14);
+	private static final Font VERTEX_FONT = new Font("Verdana", Font.BOLD, 16);
+
+	// The metrics of the fonts, to measure the weights and the names where
+	// they are drawn
+	private final FontMetrics edgeMetrics = getFontMetrics(EDGE_FONT);
+	private final FontMetrics vertexMetrics = getFontMetrics(VERTEX_FONT);
+
+	// The number of cells the widest name of an indexed vertex reaches to the
+	// right of the vertex, at least the one its disk covers
+	private int nameCells = 1;
+
+	// The number of separate dirty rectangles kept before they are merged
+	// into the one which bounds them all
+	private static final int MAX_DIRTY = 64;
+
+	// The grid and the graph (edges and vertices) drawn into images, the
+	// parts of the graph which have to be drawn again, and the part where
+	// only the vertices have to (or null)
+	private BufferedImage grid = null;
+	private BufferedImage layer = null;
+	private final ArrayList<Rectangle> dirty = new ArrayList<>();
+	private Rectangle dirtyVertices = null;
+
+	// The list of Vertices, indexed by their id (deleted ones are null)
 	private Vector<Vertex> V = new Vector<>();
 
+	// The ids of the vertices, indexed by their coordinates
+	private final SpatialIndex index = new SpatialIndex();
+
+	// The allocator for the ids of the vertices
+	private IdAllocator ids = new IdAllocator();
+
 	// The list of Edges
 	private Vector<Edge> E = new Vector<>();
 
+	// The position of each edge in the list, by the ids of its vertices
+	private final EdgeIndex edgeIndex = new EdgeIndex();
+
+	// The area each edge covers on the graph layer, by its position in the
+	// list
+	private final BoxIndex edgeBoxes = new BoxIndex();
+
+	// The engine running the algorithms
+	private final GraphEngine engine = new GraphEngine();
+
+	// The version of the graph, bumped on every change
+	private long version = 0;
+
+	// The last snapshot of the graph and the version it was taken at
+	private CsrGraph snapshot = null;
+	private long snapshotVersion = -1;
+
+	// The shortest path trees computed so far
+	private final ShortestPathCache paths = new ShortestPathCache();
+
+	// The shortest path tree shown since Dijkstra's algorithm last ran, the
+	// graph it was computed on and the destination it leads to. The paths
+	// which are repaired as the edges change are only built from them on the
+	// first change, so a query answered by the cache copies nothing.
+	private ShortestPathTree liveTree = null;
+	private CsrGraph liveGraph = null;
+	private DynamicShortestPaths live = null;
+	private int liveDestination = -1;
+
+	// The spanning forest shown since Prim's or Kruskal's algorithm last ran,
+	// which is repaired as the edges change, and the source Prim's algorithm
+	// started from (or -1 to show every tree)
+	private DynamicSpanningForest liveForest = null;
+	private int liveForestSource = -1;
+
 	/**
 	 * 
 	 * A panel is constructed using two arguments, its width and its height
@@ -109,28 +185,32 @@ class Panel extends JPanel {
 				if (drawing == VERTICES) {
 					// If we left clicked
 					if (SwingUtilities.isLeftMouseButton(e)) {
-						// Maximum of 26 vertices
-						if (Vertex.getId() == 26) {
-							return;
-						}
-
 						// If we already clicked on a vertex before, we'll need
 						// to reset that one's color
 						if (nearestV != null) {
-							V.get(nearestV).setColor(Color.BLACK);
+							recolor(V.get(nearestV), Color.BLACK);
 						}
 
 						// Get the currently clicked vertex, if any
 						nearestV = collidesWithVertex(x, y);
 						if (nearestV == null) {
 							// If we didn't click on an existing vertex, let's
-							// add one
-							V.add(new Vertex(x, y));
+							// add one, reusing a free id if there is one
+							int id = ids.allocate();
+							if (id == V.size()) {
+								V.add(new Vertex(id, x, y));
+							}
+							else {
+								V.set(id, new Vertex(id, x, y));
+							}
+							indexVertex(id, V.get(id));
+							modified();
+							invalidate(vertexBounds(V.get(id)));
 						}
 						else {
 							// Otherwise let's signal the error by changing the
 							// color of the nearest Vertex
-							V.get(nearestV).setColor(Color.RED);
+							recolor(V.get(nearestV), Color.RED);
 						}
 					}
 					else if (SwingUtilities.isRightMouseButton(e)) {
@@ -144,40 +224,10 @@ class Panel extends JPanel {
 
 						// If a vertex was indeed clicked
 						if (idToDelete != null) {
-							// Lets get it
-							Vertex toDelete = V.get(idToDelete);
-
-							// Remove it from the list of vertices and add its
-							// name to be reused
-							V.remove(toDelete);
-							Vertex.delete(toDelete);
-
-							// TODO: Check this part for errors, also there
-							// might be a faster way to just search for the
-							// edges in the list of edges provided by the vertex
-							// itself.
-							// Make sure the vertex's lists are also updated
-
-							// Delete all arcs passing through this vertex
-							// for (int i = E.size() - 1; i >= 0; --i) {
-							// Edge k = E.get(i);
-							//
-							// if (k.getV1() == toDelete
-							// || k.getV2() == toDelete) {
-							// E.remove(k);
-							// }
-							// }
-
-							for (int i = 0; i < toDelete.getEdges().size(); ++i) {
-								Edge k = toDelete.getEdges().get(i);
-
-								Vertex v = k.getV1();
-								if (v == toDelete)
-									v = k.getV2();
-
-								E.remove(k);
-								v.getEdges().remove(toDelete);
-							}
+							// Lets delete it, along with its edges
+							BitSet vertices = new BitSet(V.size());
+							vertices.set(idToDelete);
+							removeAll(vertices, new BitSet(E.size()));
 						}
 					}
 				}
@@ -193,7 +243,7 @@ class Panel extends JPanel {
 							// And set its color, in the event we did click on
 							// one
 							if (nearestV != null) {
-								V.get(nearestV).setColor(Color.BLUE);
+								recolor(V.get(nearestV), Color.BLUE);
 							}
 						}
 						else {
@@ -207,8 +257,7 @@ class Panel extends JPanel {
 							if (nearestV == null) {
 								// So we need to deselect the first one by
 								// resetting its color
-								v1.setColor(Color.BLACK);
-								repaint();
+								recolor(v1, Color.BLACK);
 
 								return;
 							}
@@ -216,13 +265,12 @@ class Panel extends JPanel {
 							// If we did in fact click on a vertex, we'll
 							// highlight this one too
 							Vertex v2 = V.get(nearestV);
-							v2.setColor(Color.BLUE);
-							repaint();
+							recolor(v2, Color.BLUE);
 
 							// Now, we'll need to ask the user to provide a
 							// weight for the Edge
 							int weight = 0;
-							while (weight <= 0) {
+							while (weight <= 0 || weight > CsrGraph.MAX_WEIGHT) {
 								try {
 									weight = Integer
 											.parseInt((String) JOptionPane
@@ -240,26 +288,36 @@ class Panel extends JPanel {
 								}
 							}
 
-							// We have all the info now, lets create the edge
-							Edge k = new Edge(v1, v2, weight);
-							// And it it to the adjaceny list of both vertices
-							v1.addEdge(k);
-							v2.addEdge(k);
-
 							// Now we'll check if the Edge was already added
-							int index = E.indexOf(k);
+							int index = edgeIndex.get(v1.getId(), v2.getId());
 							if (index == -1) {
-								// If not, lets add it to our list
-								E.add(k);
+								// If not, lets create it
+								Edge k = new Edge(v1, v2, weight);
+								// And add it to the adjaceny list of both
+								// vertices and to our list
+								v1.addEdge(k);
+								v2.addEdge(k);
+								addEdge(k);
 							}
 							else {
-								// Otherwise, just update its weight
-								E.get(index).setWeight(weight);
+								// Otherwise, just update its weight, which
+								// may not be as wide as the old one
+								Edge k = E.get(index);
+								invalidate(k);
+								k.setWeight(weight);
+								indexEdge(index, k);
+								invalidate(k);
 							}
+							modified();
+
+							// The shown solution is repaired rather than
+							// computed again
+							liveSetWeight(v1.getId(), v2.getId(), weight);
+							showLiveSolution();
 
 							// Then we'll reset the colors of both vertices
-							v1.setColor(Color.BLACK);
-							v2.setColor(Color.BLACK);
+							recolor(v1, Color.BLACK);
+							recolor(v2, Color.BLACK);
 
 							// And deslect the last vertex
 							nearestV = null;
@@ -272,23 +330,21 @@ class Panel extends JPanel {
 
 							// Highlight when necessary
 							if (nearestV != null) {
-								V.get(nearestV).setColor(Color.RED);
+								recolor(V.get(nearestV), Color.RED);
 							}
 						}
 						else {
 							// Remember the first vertex
 							Vertex v1 = V.get(nearestV);
 							// Reset its color
-							v1.setColor(Color.BLACK);
+							recolor(v1, Color.BLACK);
 
 							// Get the 2nd one, if any
 							nearestV = collidesWithVertex(x, y, 1);
 
 							// If we clicked in the blank
 							if (nearestV == null) {
-								// Then deselect
-								repaint();
-
+								// Then deselect, which was already done
 								return;
 							}
 
@@ -296,17 +352,21 @@ class Panel extends JPanel {
 							Vertex v2 = V.get(nearestV);
 
 							// And find the associated edge
-							Edge k = new Edge(v1, v2, 0);
-							int index = E.indexOf(k);
+							int index = edgeIndex.get(v1.getId(), v2.getId());
 
 							// If we did find an edge between those two vertices
 							if (index != -1) {
 								// We'll remove it from the list
-								E.remove(E.get(index));
+								Edge k = E.get(index);
+								removeEdge(k);
 
 								// And from each vertex's adjacency list
 								v1.removeEdge(k);
 								v2.removeEdge(k);
+								modified();
+
+								liveRemoveEdge(v1.getId(), v2.getId());
+								showLiveSolution();
 							}
 
 							// And we shouldn't forget to deselect the last
@@ -315,8 +375,6 @@ class Panel extends JPanel {
 						}
 					}
 				}
-
-				repaint();
 			}
 		});
 	}
@@ -362,49 +420,157 @@ class Panel extends JPanel {
 	}
 
 	/**
-	 * This method actually prints the view every time a repaint is needed
+	 * This method actually prints the view every time a repaint is needed.
+	 * The grid never changes, so it is drawn once into an image. The edges and
+	 * the vertices are drawn into a second image, and only the parts of it
+	 * which were marked dirty are drawn again, so most repaints only copy the
+	 * images.
 	 */
 	protected void paintComponent(Graphics h) {
 		super.paintComponent(h);
 		Graphics2D g = (Graphics2D) h;
 
+		// The layers are created on the first repaint, once we know the panel
+		// can be displayed
+		if (grid == null) {
+			grid = drawGrid();
+		}
+		if (layer == null) {
+			layer = new BufferedImage(pWidth, pHeight,
+					BufferedImage.TYPE_INT_ARGB);
+			dirty.clear();
+			dirty.add(new Rectangle(0, 0, pWidth, pHeight));
+		}
+
+		for (Rectangle r : dirty) {
+			drawGraph(r);
+		}
+		dirty.clear();
+		if (dirtyVertices != null) {
+			Graphics2D l = layer.createGraphics();
+			drawVertices(l, dirtyVertices);
+			l.dispose();
+			dirtyVertices = null;
+		}
+
+		// Only the part within the clip is actually copied
+		g.drawImage(grid, 0, 0, null);
+		g.drawImage(layer, 0, 0, null);
+	}
+
+	/**
+	 * 
+	 * This method draws the grid into an image
+	 * 
+	 * @return The image
+	 * 
+	 */
+	private BufferedImage drawGrid() {
+		BufferedImage image = new BufferedImage(pWidth, pHeight,
+				BufferedImage.TYPE_INT_ARGB);
+		Graphics2D g = image.createGraphics();
+
 		// Lets start with a tiny, dashed grey stroke for the grid
-		g.setStroke(new BasicStroke(1, BasicStroke.CAP_SQUARE,
-				BasicStroke.JOIN_ROUND, 0, new float[] { 3 }, 0));
+		g.setStroke(GRID_STROKE);
 		g.setColor(Color.GRAY);
 
 		// Paint the vertical lines
 		for (int i = wres; i < pWidth; i += wres) {
-			g.draw(new Line2D.Double(i, 0, i, pHeight));
+			g.drawLine(i, 0, i, pHeight);
 		}
 		// Paint the horizontal lines
 		for (int i = hres; i < pHeight; i += hres) {
-			g.draw(new Line2D.Double(0, i, pWidth, i));
+			g.drawLine(0, i, pWidth, i);
 		}
 
-		// Draw edges
-		g.setStroke(new BasicStroke(3));
-		g.setFont(new Font("Verdana", Font.BOLD, 14));
+		g.dispose();
+		return image;
+	}
 
-		// For each edge
-		for (Edge k : E) {
+	/**
+	 * 
+	 * This method draws again the edges and the vertices within a rectangle
+	 * of the graph layer. Whatever lies entirely outside of it is skipped.
+	 * 
+	 * @param r The rectangle, in pixels
+	 * 
+	 */
+	private void drawGraph(Rectangle r) {
+		Graphics2D g = layer.createGraphics();
+
+		// Erase the rectangle, then keep the drawing inside of it
+		g.setComposite(AlphaComposite.Clear);
+		g.fill(r);
+		g.setComposite(AlphaComposite.SrcOver);
+		g.clip(r);
+
+		// Draw edges
+		g.setStroke(EDGE_STROKE);
+		g.setFont(EDGE_FONT);
+
+		// Only the edges whose area reaches the rectangle are looked at, in
+		// the order of the list so that they overlap as in a full drawing. An
+		// edge is then skipped unless its line (which is a few pixels wide)
+		// crosses the rectangle, or its weight is drawn inside it.
+		Rectangle lines = new Rectangle(r);
+		lines.grow(2, 2);
+
+		int[] near = edgeBoxes.range(r.x, r.y, r.x + r.width, r.y + r.height);
+		Arrays.sort(near);
+		for (int i : near) {
+			Edge k = E.get(i);
+			int x1 = k.getV1().getX() * wres, y1 = k.getV1().getY() * hres;
+			int x2 = k.getV2().getX() * wres, y2 = k.getV2().getY() * hres;
 			int x = wres * (k.getV1().getX() + k.getV2().getX()) / 2;
 			int y = hres * (k.getV1().getY() + k.getV2().getY()) / 2;
 
+			if (!r.intersects(labelBounds(k))
+					&& !lines.intersectsLine(x1, y1, x2, y2))
+				continue;
+
 			// Set the color depending on its color
 			g.setColor(k.getColor());
 
 			// Draw its weight
-			g.drawString("" + k.getWeight(), x, y);
+			g.drawString(String.valueOf(k.getWeight()), x, y);
 
 			// And then draw the line linking both vertices it links
-			g.drawLine(k.getV1().getX() * wres, k.getV1().getY() * hres, k
-					.getV2().getX() * wres, k.getV2().getY() * hres);
+			g.drawLine(x1, y1, x2, y2);
 		}
 
-		// Draw vertices
-		g.setFont(new Font("Verdana", Font.BOLD, 16));
-		for (Vertex k : V) {
+		drawVertices(g, r);
+		g.dispose();
+	}
+
+	/**
+	 * 
+	 * This method draws the vertices within a rectangle of the graph layer.
+	 * They are drawn over everything else and fully cover what lies under
+	 * them, so they can be drawn again on their own, without erasing anything.
+	 * 
+	 * @param g The graphics of the graph layer
+	 * @param r The rectangle, in pixels
+	 * 
+	 */
+	private void drawVertices(Graphics2D g, Rectangle r) {
+		g.setClip(r);
+
+		// The stroke slightly changes how the disks are filled, so we'll
+		// keep the one of the edges, both when drawing everything and when
+		// drawing the vertices again on their own
+		g.setStroke(EDGE_STROKE);
+
+		// Draw vertices, only those close enough to the rectangle are looked
+		// at. A vertex covers a cell on each side of its coordinates, and its
+		// name up to nameCells to the right.
+		g.setFont(VERTEX_FONT);
+		int[] visible = index.range(Math.floorDiv(r.x, wres) - nameCells,
+				Math.floorDiv(r.y, hres) - 1, (r.x + r.width) / wres + 1,
+				(r.y + r.height) / hres + 1);
+		Arrays.sort(visible);
+		for (int id : visible) {
+			Vertex k = V.get(id);
+
 			// Set the color depending on each vertex
 			g.setColor(k.getColor());
 
@@ -414,11 +580,201 @@ class Panel extends JPanel {
 
 			// Lastly, we'll need to write the name for each vertex in white
 			g.setColor(Color.WHITE);
-			g.drawString(String.valueOf(k.getName()), k.getX() * wres - wres
+			g.drawString(k.getName(), k.getX() * wres - wres
 					/ 4, k.getY() * hres + hres / 4);
 		}
 	}
 
+	/**
+	 * 
+	 * This method marks the whole graph layer as dirty and schedules a
+	 * repaint, for when the whole graph was replaced
+	 * 
+	 */
+	private void redraw() {
+		dirty.clear();
+		invalidate(new Rectangle(0, 0, pWidth, pHeight));
+	}
+
+	/**
+	 * 
+	 * This method marks a part of the graph layer as dirty and schedules a
+	 * repaint of it. Past MAX_DIRTY parts, they are merged into one.
+	 * 
+	 * @param r The part, in pixels
+	 * 
+	 */
+	private void invalidate(Rectangle r) {
+		if (dirty.size() == MAX_DIRTY) {
+			Rectangle all = dirty.get(0);
+			for (Rectangle d : dirty) {
+				all.add(d);
+			}
+			dirty.clear();
+			dirty.add(all);
+		}
+		dirty.add(r);
+
+		repaint(r);
+	}
+
+	/**
+	 * 
+	 * This method returns the area a vertex covers: its disk, and its name
+	 * which may run past it to the right
+	 * 
+	 * @param k The vertex
+	 * @return The area, in pixels
+	 * 
+	 */
+	private Rectangle vertexBounds(Vertex k) {
+		Rectangle r = new Rectangle((k.getX() - 1) * wres, (k.getY() - 1)
+				* hres, 2 * wres + 1, 2 * hres + 1);
+		r.add(nameBounds(k));
+		return r;
+	}
+
+	/**
+	 * 
+	 * This method returns the area the name of a vertex is drawn in, as
+	 * measured with its font
+	 * 
+	 * @param k The vertex
+	 * @return The area, in pixels
+	 * 
+	 */
+	private Rectangle nameBounds(Vertex k) {
+		int x = k.getX() * wres - wres / 4, y = k.getY() * hres + hres / 4;
+		return new Rectangle(x, y - vertexMetrics.getMaxAscent(),
+				vertexMetrics.stringWidth(k.getName()) + 1,
+				vertexMetrics.getMaxAscent() + vertexMetrics.getMaxDescent()
+						+ 1);
+	}
+
+	/**
+	 * 
+	 * This method indexes a vertex by its coordinates, and makes sure the
+	 * vertices are looked for far enough to the left to find its name
+	 * 
+	 * @param id The id of the vertex
+	 * @param k The vertex
+	 * 
+	 */
+	private void indexVertex(int id, Vertex k) {
+		index.add(id, k.getX(), k.getY());
+
+		Rectangle name = nameBounds(k);
+		int reach = name.x + name.width - k.getX() * wres;
+		nameCells = Math.max(nameCells, (reach + wres - 1) / wres);
+	}
+
+	/**
+	 * 
+	 * This method returns the area an edge covers: its line, and its weight
+	 * drawn to the right of and above the middle of the line. This is the area
+	 * it is indexed with, so it has to be indexed again when its weight
+	 * changes.
+	 * 
+	 * @param k The edge
+	 * @return The area, in pixels
+	 * 
+	 */
+	private Rectangle edgeBounds(Edge k) {
+		int x1 = k.getV1().getX() * wres, y1 = k.getV1().getY() * hres;
+		int x2 = k.getV2().getX() * wres, y2 = k.getV2().getY() * hres;
+		int x = wres * (k.getV1().getX() + k.getV2().getX()) / 2;
+		int y = hres * (k.getV1().getY() + k.getV2().getY()) / 2;
+
+		Rectangle r = new Rectangle(Math.min(x1, x2), Math.min(y1, y2),
+				Math.abs(x2 - x1), Math.abs(y2 - y1));
+		r.grow(2, 2);
+		r.add(labelBounds(k));
+		return r;
+	}
+
+	/**
+	 * 
+	 * This method returns the area the weight of an edge is drawn in, as
+	 * measured with its font, from the middle of its line
+	 * 
+	 * @param k The edge
+	 * @return The area, in pixels
+	 * 
+	 */
+	private Rectangle labelBounds(Edge k) {
+		int x = wres * (k.getV1().getX() + k.getV2().getX()) / 2;
+		int y = hres * (k.getV1().getY() + k.getV2().getY()) / 2;
+
+		return new Rectangle(x, y - edgeMetrics.getMaxAscent(),
+				edgeMetrics.stringWidth(String.valueOf(k.getWeight())) + 1,
+				edgeMetrics.getMaxAscent() + edgeMetrics.getMaxDescent() + 1);
+	}
+
+	/**
+	 * 
+	 * This method marks the area of an edge as dirty
+	 * 
+	 * @param k The edge
+	 * 
+	 */
+	private void invalidate(Edge k) {
+		invalidate(edgeBounds(k));
+	}
+
+	/**
+	 * 
+	 * This method indexes the area an edge covers, at its position in the
+	 * list
+	 * 
+	 * @param i The position
+	 * @param k The edge
+	 * 
+	 */
+	private void indexEdge(int i, Edge k) {
+		Rectangle r = edgeBounds(k);
+		edgeBoxes.add(i, r.x, r.y, r.x + r.width, r.y + r.height);
+	}
+
+	/**
+	 * 
+	 * This method changes the color of an edge, and marks it as dirty if it
+	 * changed
+	 * 
+	 * @param k The edge
+	 * @param color The new color
+	 * 
+	 */
+	private void recolor(Edge k, Color color) {
+		if (!k.getColor().equals(color)) {
+			k.setColor(color);
+			invalidate(k);
+		}
+	}
+
+	/**
+	 * 
+	 * This method changes the color of a vertex, and only marks the vertices
+	 * around it as dirty
+	 * 
+	 * @param k The vertex
+	 * @param color The new color
+	 * 
+	 */
+	private void recolor(Vertex k, Color color) {
+		k.setColor(color);
+
+		Rectangle r = new Rectangle((k.getX() - 1) * wres, (k.getY() - 1)
+				* hres, 2 * wres + 1, 2 * hres + 1);
+		if (dirtyVertices == null) {
+			dirtyVertices = r;
+		}
+		else {
+			dirtyVertices.add(r);
+		}
+
+		repaint(r);
+	}
+
 	/**
 	 * 
 	 * A JavaScript-like alert box using Swing's corresponding function
@@ -437,8 +793,7 @@ class Panel extends JPanel {
 	 * 
 	 * @param x The X coordinate
 	 * @param y The Y coordinate
-	 * @return The index of the corresponding Vertex in the list (or -1 in case
-	 * of an error)
+	 * @return The id of the corresponding Vertex (or null if there is none)
 	 * 
 	 */
 	private Integer collidesWithVertex(int x, int y) {
@@ -454,18 +809,260 @@ class Panel extends JPanel {
 	 * @param y The Y coordinate
 	 * @param d The tolerance for both coordinates
 	 * 
-	 * @return The index of the corresponding Vertex in the list (or -1 in case
-	 * of an error)
+	 * @return The id of the corresponding Vertex (or null if there is none)
 	 * 
 	 */
 	private Integer collidesWithVertex(int x, int y, int d) {
+		// Only the vertices in the cells around the coordinates are looked at
+		int id = index.nearest(x, y, d);
+		if (id == -1)
+			return null;
+
+		return id;
+	}
+
+	/**
+	 * 
+	 * This method indexes every vertex and every edge again, after the whole
+	 * lists were replaced
+	 * 
+	 */
+	private void reindex() {
+		index.clear();
+		nameCells = 1;
 		for (int i = 0; i < V.size(); ++i) {
 			Vertex k = V.get(i);
-			if (Math.abs(k.getX() - x) <= d && Math.abs(k.getY() - y) <= d)
-				return i;
+			if (k != null) {
+				indexVertex(i, k);
+			}
+		}
+
+		edgeIndex.clear();
+		edgeBoxes.clear();
+		for (int i = 0; i < E.size(); ++i) {
+			Edge k = E.get(i);
+			edgeIndex.put(k.getV1().getId(), k.getV2().getId(), i);
+			indexEdge(i, k);
+		}
+	}
+
+	/**
+	 * 
+	 * This method deletes a set of vertices along with their edges
+	 * 
+	 * @param ids The ids of the vertices
+	 * 
+	 */
+	public void deleteVertices(int[] ids) {
+		BitSet vertices = new BitSet(V.size());
+		for (int id : ids) {
+			if (id >= 0 && id < V.size() && V.get(id) != null) {
+				vertices.set(id);
+			}
+		}
+
+		removeAll(vertices, new BitSet(E.size()));
+	}
+
+	/**
+	 * 
+	 * This method deletes a set of edges
+	 * 
+	 * @param ends The ids of the ends of each edge, one after the other
+	 * 
+	 */
+	public void deleteEdges(int[] ends) {
+		BitSet edges = new BitSet(E.size());
+		for (int i = 0; i + 1 < ends.length; i += 2) {
+			int u = ends[i];
+			int v = ends[i + 1];
+			if (u >= 0 && u < V.size() && v >= 0 && v < V.size()) {
+				int e = edgeIndex.get(u, v);
+				if (e != -1) {
+					edges.set(e);
+				}
+			}
+		}
+
+		removeAll(new BitSet(V.size()), edges);
+	}
+
+	/**
+	 * 
+	 * This method deletes every vertex inside a rectangle of the grid, along
+	 * with their edges, for instance to filter a graph by region
+	 * 
+	 * @param x1 The smallest X coordinate
+	 * @param y1 The smallest Y coordinate
+	 * @param x2 The largest X coordinate
+	 * @param y2 The largest Y coordinate
+	 * 
+	 */
+	public void deleteRegion(int x1, int y1, int x2, int y2) {
+		deleteVertices(index.range(x1, y1, x2, y2));
+	}
+
+	/**
+	 * 
+	 * This method deletes a set of vertices and a set of edges in a single
+	 * pass. Everything to delete is marked first, then the list of edges is
+	 * compacted once, so the cost is linear in the size of the graph rather
+	 * than in the number of deletions times the number of edges. The ids of
+	 * the deleted vertices are released to be reused, the others keep their
+	 * id (and thus their name). Likewise, the shown solution is computed again
+	 * once when many edges go, rather than repaired for each of them.
+	 * 
+	 * @param vertices The ids of the vertices to delete
+	 * @param edges The positions of the edges to delete, the edges of the
+	 * deleted vertices are added to it
+	 * 
+	 */
+	private void removeAll(BitSet vertices, BitSet edges) {
+		// First, we'll mark the edges of the deleted vertices
+		for (int v = vertices.nextSetBit(0); v >= 0; v = vertices.nextSetBit(v + 1)) {
+			for (Edge k : V.get(v).getEdges()) {
+				edges.set(edgeIndex.get(k.getV1().getId(), k.getV2().getId()));
+			}
+		}
+
+		// A few edges are cheaper to repair in the shown solution one by one,
+		// but beyond log V of them, computing it again once is
+		boolean rebuild = edges.cardinality() > 32 - Integer
+				.numberOfLeadingZeros(V.size());
+
+		// Then, the vertices which stay lose their deleted edges, going through
+		// the list of each one only once
+		BitSet touched = new BitSet(V.size());
+		for (int i = edges.nextSetBit(0); i >= 0; i = edges.nextSetBit(i + 1)) {
+			Edge k = E.get(i);
+			invalidate(k);
+			touched.set(k.getV1().getId());
+			touched.set(k.getV2().getId());
+			if (!rebuild) {
+				liveRemoveEdge(k.getV1().getId(), k.getV2().getId());
+			}
+		}
+		touched.andNot(vertices);
+
+		for (int v = touched.nextSetBit(0); v >= 0; v = touched.nextSetBit(v + 1)) {
+			Iterator<Edge> it = V.get(v).getEdges().iterator();
+			while (it.hasNext()) {
+				Edge k = it.next();
+				int i = edgeIndex.get(k.getV1().getId(), k.getV2().getId());
+				if (edges.get(i)) {
+					it.remove();
+				}
+			}
+		}
+
+		// Now, the surviving edges are packed at the front of the list. They
+		// keep their order, so nothing has to be drawn again for them.
+		int kept = 0;
+		for (int i = 0; i < E.size(); ++i) {
+			Edge k = E.get(i);
+			if (edges.get(i)) {
+				edgeIndex.remove(k.getV1().getId(), k.getV2().getId());
+				edgeBoxes.remove(i);
+			}
+			else {
+				if (kept != i) {
+					E.set(kept, k);
+					edgeIndex.put(k.getV1().getId(), k.getV2().getId(), kept);
+					edgeBoxes.remove(i);
+					indexEdge(kept, k);
+				}
+				++kept;
+			}
+		}
+		E.setSize(kept);
+
+		// And finally, the vertices go away and their ids can be reused
+		for (int v = vertices.nextSetBit(0); v >= 0; v = vertices.nextSetBit(v + 1)) {
+			invalidate(vertexBounds(V.get(v)));
+			V.set(v, null);
+			index.remove(v);
+			ids.release(v);
+		}
+		if (nearestV != null && vertices.get(nearestV)) {
+			nearestV = null;
+		}
+		modified();
+
+		// If the source of the shown solution is gone, so is the solution
+		if (liveTree != null && vertices.get(liveTree.getSource())) {
+			clearLivePaths();
+		}
+		else if (liveDestination != -1 && vertices.get(liveDestination)) {
+			liveDestination = -1;
+		}
+		if (liveForestSource != -1 && vertices.get(liveForestSource)) {
+			liveForest = null;
+		}
+		if (rebuild) {
+			rebuildLiveSolution();
+		}
+		showLiveSolution();
+	}
+
+	/**
+	 * 
+	 * This method computes the shown solution again on the current graph, from
+	 * the same source, instead of repairing it
+	 * 
+	 */
+	private void rebuildLiveSolution() {
+		CsrGraph g = snapshot();
+
+		if (liveTree != null) {
+			liveTree = paths.shortestPaths(g, liveTree.getSource(), version);
+			liveGraph = g;
+			live = null;
+		}
+		if (liveForest != null) {
+			SpanningTree tree = liveForestSource == -1 ? engine
+					.minimumSpanningForest(g, GraphEngine.KRUSKAL) : engine
+					.minimumSpanningTree(g, liveForestSource);
+			liveForest = new DynamicSpanningForest(g, tree);
 		}
+	}
 
-		return null;
+	/**
+	 * 
+	 * This method adds an edge at the end of the list of edges
+	 * 
+	 * @param k The edge, which must not be in the list yet
+	 * 
+	 */
+	private void addEdge(Edge k) {
+		edgeIndex.put(k.getV1().getId(), k.getV2().getId(), E.size());
+		indexEdge(E.size(), k);
+		E.add(k);
+		invalidate(k);
+	}
+
+	/**
+	 * 
+	 * This method removes an edge from the list of edges in constant time:
+	 * the last edge of the list takes its place
+	 * 
+	 * @param k The edge, which must be in the list
+	 * 
+	 */
+	private void removeEdge(Edge k) {
+		int i = edgeIndex.remove(k.getV1().getId(), k.getV2().getId());
+		int last = E.size() - 1;
+		invalidate(k);
+
+		// The last edge now comes earlier in the list, so the edges it
+		// overlaps may have to be drawn over it
+		Edge moved = E.remove(last);
+		edgeBoxes.remove(last);
+		if (i != last) {
+			E.set(i, moved);
+			edgeIndex.put(moved.getV1().getId(), moved.getV2().getId(), i);
+			indexEdge(i, moved);
+			invalidate(moved);
+		}
 	}
 
 	/**
@@ -477,10 +1074,17 @@ class Panel extends JPanel {
 	public void reset() {
 		V.clear();
 		E.clear();
+		index.clear();
+		nameCells = 1;
+		edgeIndex.clear();
+		edgeBoxes.clear();
 		nearestV = null;
-		Vertex.setId(0);
+		ids.clear();
+		modified();
+		clearLivePaths();
+		liveForest = null;
 
-		repaint();
+		redraw();
 	}
 
 	/**
@@ -489,19 +1093,84 @@ class Panel extends JPanel {
 	 * 
 	 */
 	public void clear() {
-		// Reset the vertices' data
-		for (Vertex k : V) {
-			k.setPrevious(null);
-			k.setViaEdge(null);
-			k.setDistance(0);
-		}
+		// Another solution is about to be shown, so the last one isn't
+		// repaired anymore
+		clearLivePaths();
+		liveForest = null;
 
-		// Reset the edges' color
+		// The algorithms keep their state in their own search contexts, so
+		// only the edges' color needs to be reset
 		for (Edge k : E) {
-			k.setColor(Color.BLUE);
+			recolor(k, Color.BLUE);
+		}
+	}
+
+	/**
+	 * 
+	 * This method must be called after every change to the graph. It bumps
+	 * the version, which tells that the snapshot and the cached shortest paths
+	 * are stale.
+	 * 
+	 */
+	private void modified() {
+		++version;
+		paths.invalidate(version);
+	}
+
+	/**
+	 * 
+	 * This method returns a CSR snapshot of the graph for the engine. The
+	 * index of each vertex is its id, and the id of each edge is its position
+	 * in the list of edges. The snapshot is only rebuilt after the graph
+	 * changes.
+	 * 
+	 * @return The CSR representation of the graph
+	 * 
+	 */
+	private CsrGraph snapshot() {
+		if (snapshotVersion != version) {
+			snapshot = buildSnapshot();
+			snapshotVersion = version;
 		}
 
-		repaint();
+		return snapshot;
+	}
+
+	/**
+	 * 
+	 * This method builds a CSR snapshot of the graph
+	 * 
+	 * @return The CSR representation of the graph
+	 * 
+	 */
+	private CsrGraph buildSnapshot() {
+		int n = V.size();
+		int m = E.size();
+
+		// Copy the coordinates, the ids which are not in use simply become
+		// isolated vertices
+		int[] xs = new int[n];
+		int[] ys = new int[n];
+		for (int i = 0; i < n; ++i) {
+			Vertex v = V.get(i);
+			if (v != null) {
+				xs[i] = v.getX();
+				ys[i] = v.getY();
+			}
+		}
+
+		// Flatten the edges into primitive arrays
+		int[] sources = new int[m];
+		int[] destinations = new int[m];
+		int[] weights = new int[m];
+		for (int i = 0; i < m; ++i) {
+			Edge e = E.get(i);
+			sources[i] = e.getV1().getId();
+			destinations[i] = e.getV2().getId();
+			weights[i] = e.getWeight();
+		}
+
+		return CsrGraph.fromEdges(n, sources, destinations, weights, xs, ys);
 	}
 
 	/**
@@ -528,89 +1197,186 @@ class Panel extends JPanel {
 		if (destination == null)
 			return;
 
-		// Now we need to set each vertex's distance to infinity
-		for (Vertex v : V) {
-			v.setDistance(Integer.MAX_VALUE);
+		// We'll run the search on a compact snapshot of the graph. The tree
+		// of a source answers every later query from it until the graph
+		// changes, so it comes from the cache when possible.
+		CsrGraph g = snapshot();
+		ShortestPathTree tree = paths.shortestPaths(g, source.getId(), version);
+
+		// From now on, the paths will follow the changes made to the edges
+		liveTree = tree;
+		liveGraph = g;
+		liveDestination = destination.getId();
+
+		// Now, we'll need to figure out the path taken to arrive from the
+		// source to the destination (if it exists)
+		int[] path = tree.pathTo(g, destination.getId());
+		if (path != null) {
+			// We'll highlight each chosen edge
+			for (int e : path) {
+				recolor(E.get(e), Color.GREEN);
+			}
 		}
+	}
 
-		// The source vertex will have a distance of 0
-		source.setDistance(0);
+	/**
+	 * 
+	 * This method repairs the shown solution after an edge was inserted or
+	 * its weight changed
+	 * 
+	 * @param u The id of the first vertex
+	 * @param v The id of the second vertex
+	 * @param weight The new weight
+	 * 
+	 */
+	private void liveSetWeight(int u, int v, int weight) {
+		if (liveTree != null) {
+			livePaths().setWeight(u, v, weight);
+		}
+		if (liveForest != null) {
+			liveForest.setWeight(u, v, weight);
+		}
+	}
 
-		// To continue, we'll need a priority queue to keep track of the
-		// vertices and sort them using their distance
-		PriorityQueue<Vertex> Q = new PriorityQueue<>();
-		for (Vertex v : V) {
-			Q.add(v);
+	/**
+	 * 
+	 * This method repairs the shown solution after an edge was removed
+	 * 
+	 * @param u The id of the first vertex
+	 * @param v The id of the second vertex
+	 * 
+	 */
+	private void liveRemoveEdge(int u, int v) {
+		if (liveTree != null) {
+			livePaths().removeEdge(u, v);
+		}
+		if (liveForest != null) {
+			liveForest.removeEdge(u, v);
 		}
+	}
 
-		// While we still haven't visited every vertex
-		while (!Q.isEmpty()) {
-			// We'll take the one with the smallest distance
-			Vertex u = Q.poll();
+	/**
+	 * 
+	 * This method returns the shortest paths which are repaired as the edges
+	 * change, building them from the tree on the first change
+	 * 
+	 * @return The paths
+	 * 
+	 */
+	private DynamicShortestPaths livePaths() {
+		if (live == null) {
+			live = new DynamicShortestPaths(liveGraph, liveTree);
+		}
 
-			// If it's our destination, we'll stop here since no more processing
-			// is needed
-			if (u == destination) {
-				break;
-			}
+		return live;
+	}
 
-			// If the distance to reach this vertex is infinity, then this graph
-			// is not highly connexe and we can't do anything any more since the
-			// remaining vertices will also have infinity as their distance
-			if (u.getDistance() == Integer.MAX_VALUE) {
-				break;
-			}
+	/**
+	 * 
+	 * This method stops repairing the shortest paths
+	 * 
+	 */
+	private void clearLivePaths() {
+		liveTree = null;
+		liveGraph = null;
+		live = null;
+	}
+
+	/**
+	 * 
+	 * This method highlights the shown solution again, once repaired
+	 * 
+	 */
+	private void showLiveSolution() {
+		if (liveTree == null && liveForest == null)
+			return;
+
+		// The edges of the solution are found first, so that only those whose
+		// color changes are drawn again
+		BitSet green = new BitSet(E.size());
+		if (liveTree != null) {
+			showLivePath(green);
+		}
+		else {
+			showLiveForest(green);
+		}
+
+		for (int i = 0; i < E.size(); ++i) {
+			recolor(E.get(i), green.get(i) ? Color.GREEN : Color.BLUE);
+		}
+	}
 
-			// Otherwise, we'll need to check each edge departing from this
-			// vertex
-			for (Edge e : u.getEdges()) {
-				// And get the vertex we can reach using each edge
-				Vertex v = e.getV1();
-
-				// We'll make sure we select the right vertex since the edge is
-				// not oriented
-				if (v == u)
-					v = e.getV2();
-
-				// We'll calculate the total alternate distance (using this
-				// edge) to arrive to that vertex
-				Integer alt = u.getDistance() + e.getWeight();
-
-				// And if it is an improvement over the current distance to
-				// reach that vertex
-				if (alt < v.getDistance()) {
-					// We'll mark it as the new distance for this edge
-					v.setDistance(alt);
-					// We'll also set the previous vertex as the one we came
-					// from
-					v.setPrevious(u);
-					// We'll also set the edge we used to make the transfer
-					v.setViaEdge(e);
-
-					// Since the distance was modified, we'll need to reinsert
-					// the vertex in order to update its position in the queue
-					Q.remove(v);
-					Q.add(v);
+	/**
+	 * 
+	 * This method highlights the path to the destination Dijkstra's algorithm
+	 * was last asked for, as repaired after the edges changed
+	 * 
+	 * @param green The positions of the edges to highlight
+	 * 
+	 */
+	private void showLivePath(BitSet green) {
+		// The destination may have been deleted
+		if (liveDestination == -1)
+			return;
+
+		// As long as no edge changed, the tree still holds the path
+		if (live == null) {
+			int[] edges = liveTree.pathTo(liveGraph, liveDestination);
+			if (edges != null) {
+				for (int e : edges) {
+					highlight(green, liveGraph.edgeSource(e),
+							liveGraph.edgeTarget(e));
 				}
 			}
+			return;
 		}
 
-		// Now, we'll need to figure out the path taken to arrive from the
-		// source to the destination (if it exists)
-
-		// We'll start from the destination
-		Vertex current = destination;
+		// Otherwise, it may have been cut off from the source
+		int[] path = live.pathTo(liveDestination);
 
-		// And we'll go back from each vertex using the tracking information
-		while (current.getPrevious() != null) {
-			// We'll highlight the chosen edge
-			current.getViaEdge().setColor(Color.GREEN);
+		if (path != null) {
+			// The path is made of vertices, so we'll look for the edge between
+			// each of them and the next one
+			for (int i = 1; i < path.length; ++i) {
+				highlight(green, path[i - 1], path[i]);
+			}
+		}
+	}
 
-			// And we'll go back one vertex
-			current = current.getPrevious();
+	/**
+	 * 
+	 * This method highlights the spanning forest Prim's or Kruskal's
+	 * algorithm last computed, as repaired after the edges changed
+	 * 
+	 * @param green The positions of the edges to highlight
+	 * 
+	 */
+	private void showLiveForest(BitSet green) {
+		int[] edges = liveForest.forestEdges();
+		for (int i = 0; i < edges.length; i += 2) {
+			// Prim's algorithm only shows the tree of its source
+			if (liveForestSource == -1
+					|| liveForest.connected(edges[i], liveForestSource)) {
+				highlight(green, edges[i], edges[i + 1]);
+			}
 		}
+	}
 
-		repaint();
+	/**
+	 * 
+	 * This method marks the edge between two vertices to be highlighted in
+	 * green
+	 * 
+	 * @param green The positions of the edges to highlight
+	 * @param u The id of the first vertex
+	 * @param v The id of the second vertex
+	 * 
+	 */
+	private void highlight(BitSet green, int u, int v) {
+		int i = edgeIndex.get(u, v);
+		if (i != -1) {
+			green.set(i);
+		}
 	}
 
 	/**
@@ -646,15 +1412,11 @@ class Panel extends JPanel {
 			if (s.length() == 0)
 				continue;
 
-			// Otherwise, we'll search for the name provided by the user to find
-			// the correct vertex
-			for (Vertex v : V) {
-				// When we find it
-				if (v.getName() == s.toUpperCase().charAt(0)) {
-					// We'll set it as chosen
-					chosen = v;
-					break;
-				}
+			// Otherwise, the name provided by the user gives us the id of the
+			// correct vertex
+			int id = Vertex.idOf(s.trim());
+			if (id >= 0 && id < V.size()) {
+				chosen = V.get(id);
 			}
 		}
 
@@ -674,73 +1436,22 @@ class Panel extends JPanel {
 		// We'll need a starting vertex for this algorithm
 		Vertex source = getVertex("Enter the source:");
 
-		// We'll also need a disjoint set to make sure we don't create cycles
-		DisjointSet ds = new DisjointSet(V.size());
+		// If the user did not select one, we'll cancel
+		if (source == null)
+			return;
 
-		// Finallyk, we'll need a priority queue to sort edges by their weight
-		PriorityQueue<Edge> Q = new PriorityQueue<>();
+		// We'll run the algorithm on a compact snapshot of the graph
+		CsrGraph g = snapshot();
+		SpanningTree tree = engine.minimumSpanningTree(g, source.getId());
 
-		// First, we'll add the starting vertex
-		// We'll mark vertices as visited by setting their distance to 1
-		source.setDistance(1);
+		// From now on, the tree will follow the changes made to the edges
+		liveForest = new DynamicSpanningForest(g, tree);
+		liveForestSource = source.getId();
 
-		// Then we'll add all edges departing from the source vertex
-		for (Edge e : source.getEdges()) {
-			Q.add(e);
+		// And highlight the edges of the tree
+		for (int e : tree.getEdges()) {
+			recolor(E.get(e), Color.GREEN);
 		}
-
-		// Then, while we still have edges waiting to be scanned
-		while (!Q.isEmpty()) {
-			// We'll take the least costy one
-			Edge e = Q.poll();
-
-			// We'll get both vertices
-			Vertex v1 = e.getV1();
-			Vertex v2 = e.getV2();
-
-			// And their respective indexes in the array
-			int u = V.indexOf(v1);
-			int v = V.indexOf(v2);
-
-			// We'll check to see if they are NOT connexe (to make sure that by
-			// adding them, we wont be creating any cycles)
-			if (ds.find(u) != ds.find(v)) {
-				// If so, we'll join them in the disjoint set
-				ds.union(u, v);
-
-				// We'll highlight the edge we just added
-				e.setColor(Color.GREEN);
-
-				// Now we need to add the edges of the newly scanned vertex
-				// The vertex can be either so we'll scan both to see which one
-				// is not marked as completed
-
-				// Is it V1 ?
-				if (v1.getDistance() != 1) {
-					// Mark this vertex completed and add his edges to the queue
-					// only if they are not there yet
-					v1.setDistance(1);
-					for (Edge k : v1.getEdges()) {
-						if (!Q.contains(k)) {
-							Q.add(k);
-						}
-					}
-				}
-				else {
-					// It's gotta be V2
-					// Mark this vertex completed and add his edges to the queue
-					// only if they are not there yet
-					v2.setDistance(1);
-					for (Edge k : v2.getEdges()) {
-						if (!Q.contains(k)) {
-							Q.add(k);
-						}
-					}
-				}
-			}
-		}
-
-		repaint();
 	}
 
 	/**
@@ -753,40 +1464,19 @@ class Panel extends JPanel {
 		// First we'll clear the panel from previous solutions
 		clear();
 
-		// We'll need a disjoint set in order to verify connexity and prevent
-		// cycles from being created
-		DisjointSet ds = new DisjointSet(V.size());
-
-		// A priority queue is also needed in order to sort the edges by their
-		// weight
-		PriorityQueue<Edge> Q = new PriorityQueue<>();
-
-		// First lets add all the edges to the priority queue, therefore sorting
-		// them in ascending order
-		for (Edge e : E) {
-			Q.offer(e);
-		}
-
-		// Now we'll walk through all the edges
-		while (!Q.isEmpty()) {
-			Edge e = Q.poll();
+		// We'll run the algorithm on a compact snapshot of the graph
+		CsrGraph g = snapshot();
+		SpanningTree tree = engine.minimumSpanningForest(g,
+				GraphEngine.KRUSKAL);
 
-			// Get the indexes of both vertices the edge links
-			int u = V.indexOf(e.getV1());
-			int v = V.indexOf(e.getV2());
+		// From now on, the forest will follow the changes made to the edges
+		liveForest = new DynamicSpanningForest(g, tree);
+		liveForestSource = -1;
 
-			// Check to see if both vertices are NOT connexe (to make sure that
-			// adding this edge won't create a cycle)
-			if (ds.find(u) != ds.find(v)) {
-				// If so, we'll join both in the disjoint set
-				ds.union(u, v);
-
-				// And highlight the edge we just added on the graph
-				e.setColor(Color.GREEN);
-			}
+		// And highlight the edges of the tree
+		for (int e : tree.getEdges()) {
+			recolor(E.get(e), Color.GREEN);
 		}
-
-		repaint();
 	}
 
 	/**
@@ -800,24 +1490,29 @@ class Panel extends JPanel {
 			JFileChooser fc = new JFileChooser();
 			fc.setFileSelectionMode(JFileChooser.FILES_ONLY);
 			fc.setMultiSelectionEnabled(false);
-			fc.setFileFilter(new SimpleFileFilter("sav", "Save File"));
+			fc.setFileFilter(new SimpleFileFilter(GraphFile.EXTENSION,
+					"Graph File"));
 			int result = fc.showSaveDialog(null);
 
 			// If a file was chosen
 			if (result == JFileChooser.APPROVE_OPTION) {
-				FileOutputStream saveFile = new FileOutputStream(fc
-						.getSelectedFile().getAbsoluteFile() + ".sav");
+				// Add the extension unless it was already typed in
+				String name = fc.getSelectedFile().getAbsolutePath();
+				if (!name.toLowerCase().endsWith("." + GraphFile.EXTENSION)) {
+					name += "." + GraphFile.EXTENSION;
+				}
 
-				// Create an ObjectOutputStream to put objects into save file.
-				ObjectOutputStream save = new ObjectOutputStream(saveFile);
+				// The ids which are not in use are saved along with the graph so
+				// that every vertex keeps its name
+				BitSet removed = new BitSet(V.size());
+				for (int i = 0; i < V.size(); ++i) {
+					if (V.get(i) == null) {
+						removed.set(i);
+					}
+				}
 
 				// Now we do the save.
-				save.writeObject(V);
-				save.writeObject(E);
-
-				// Close the file
-				save.close();
-				saveFile.close();
+				GraphFile.save(Paths.get(name), snapshot(), removed);
 			}
 		} catch (Exception e) {
 			// Should anything happen, show an error and print the details to
@@ -832,40 +1527,48 @@ class Panel extends JPanel {
 	 * This method allows loading a graph previously saved into a file
 	 * 
 	 */
-	@SuppressWarnings("unchecked")
 	public void load() {
 		clear();
 		reset();
 
 		try {
-			// Open a file chooser to choose the load file
+			// Open a file chooser to choose the load file, older save files can
+			// still be picked
 			JFileChooser fc = new JFileChooser();
 			fc.setFileSelectionMode(JFileChooser.FILES_ONLY);
 			fc.setMultiSelectionEnabled(false);
-			fc.setFileFilter(new SimpleFileFilter("sav", "Save File"));
+			fc.addChoosableFileFilter(new SimpleFileFilter("sav", "Save File"));
+			fc.addChoosableFileFilter(new SimpleFileFilter("gr",
+					"DIMACS Edge List"));
+			fc.addChoosableFileFilter(new SimpleFileFilter("txt",
+					"SNAP Edge List"));
+			fc.addChoosableFileFilter(new SimpleFileFilter("csv",
+					"CSV Edge List"));
+			fc.setFileFilter(new SimpleFileFilter(GraphFile.EXTENSION,
+					"Graph File"));
 			int result = fc.showOpenDialog(null);
 
 			// If a file was selected
 			if (result == JFileChooser.APPROVE_OPTION) {
-				FileInputStream loadFile = new FileInputStream(fc
-						.getSelectedFile().getAbsoluteFile());
-
-				// Create an ObjectInputStream to read objects from the load
-				// file.
-				ObjectInputStream load = new ObjectInputStream(loadFile);
-
-				// Read the vertices
-				V = (Vector<Vertex>) load.readObject();
-
-				// Read the edges
-				E = (Vector<Edge>) load.readObject();
-
-				// Close the file
-				load.close();
-				loadFile.close();
+				File file = fc.getSelectedFile().getAbsoluteFile();
+				String name = file.getName().toLowerCase();
+				if (name.endsWith(".sav")) {
+					loadSaved(file);
+				}
+				else if (name.endsWith("." + GraphFile.EXTENSION)) {
+					loadGraph(file);
+				}
+				else {
+					// Anything else is an edge list, its format is guessed
+					// from the extension
+					loadEdgeList(file);
+				}
+				ids = IdAllocator.of(V.toArray());
+				reindex();
+				modified();
 
 				// Draw the newly loaded graph
-				repaint();
+				redraw();
 			}
 		} catch (Exception e) {
 			// Should anything happen, show an error and print the details to
@@ -874,4 +1577,124 @@ class Panel extends JPanel {
 			e.printStackTrace();
 		}
 	}
+
+	/**
+	 * 
+	 * This method rebuilds the vertices and the edges from a graph file
+	 * 
+	 * @param file The graph file
+	 * @throws IOException If the file can't be read
+	 * 
+	 */
+	private void loadGraph(File file) throws IOException {
+		GraphFile loaded = GraphFile.load(file.toPath());
+		load(loaded.getGraph(), loaded.getRemoved());
+	}
+
+	/**
+	 * 
+	 * This method imports the vertices and the edges of a DIMACS, SNAP or CSV
+	 * edge list
+	 * 
+	 * @param file The edge list
+	 * @throws IOException If the file can't be read or is malformed
+	 * 
+	 */
+	private void loadEdgeList(File file) throws IOException {
+		load(engine.importEdgeList(file.toPath()), null);
+	}
+
+	/**
+	 * 
+	 * This method rebuilds the vertices and the edges from a graph
+	 * 
+	 * @param g The graph
+	 * @param removed The ids which are not in use (or null)
+	 * 
+	 */
+	private void load(CsrGraph g, BitSet removed) {
+		// Edge lists have no coordinates, so their vertices are laid out in
+		// rows, far enough from each other to be told apart
+		int columns = Math.max(1, (pWidth / wres - 1) / 3);
+
+		// Each vertex goes back at the index given by its id
+		int n = g.vertexCount();
+		V = new Vector<>(n);
+		V.setSize(n);
+		for (int i = 0; i < n; ++i) {
+			if (removed != null && removed.get(i))
+				continue;
+
+			if (g.hasCoordinates()) {
+				V.set(i, new Vertex(i, g.x(i), g.y(i)));
+			}
+			else {
+				V.set(i, new Vertex(i, 1 + 3 * (i % columns), 1 + 3 * (i
+						/ columns)));
+			}
+		}
+
+		// And each edge is linked back to both of its vertices
+		int m = g.edgeCount();
+		E = new Vector<>(m);
+		EdgeIndex seen = new EdgeIndex(m);
+		for (int e = 0; e < m; ++e) {
+			// A vertex can't be linked to itself on the panel
+			if (g.edgeSource(e) == g.edgeTarget(e))
+				continue;
+
+			// Parallel edges can't be told apart on the panel, so only the
+			// first one is kept
+			if (seen.put(g.edgeSource(e), g.edgeTarget(e), e) != -1)
+				continue;
+
+			Vertex v1 = V.get(g.edgeSource(e));
+			Vertex v2 = V.get(g.edgeTarget(e));
+
+			Edge k = new Edge(v1, v2, g.edgeWeight(e));
+			v1.addEdge(k);
+			v2.addEdge(k);
+			E.add(k);
+		}
+	}
+
+	/**
+	 * 
+	 * This method reads a save file written by the older versions, which hold
+	 * the serialized lists of vertices and edges
+	 * 
+	 * @param file The save file
+	 * @throws Exception If the file can't be read
+	 * 
+	 */
+	@SuppressWarnings("unchecked")
+	private void loadSaved(File file) throws Exception {
+		FileInputStream loadFile = new FileInputStream(file);
+
+		// Create an ObjectInputStream to read objects from the load file.
+		ObjectInputStream load = new ObjectInputStream(loadFile);
+
+		// Read the vertices
+		Vector<Vertex> loaded = (Vector<Vertex>) load.readObject();
+
+		// Read the edges
+		E = (Vector<Edge>) load.readObject();
+
+		// Place each vertex at the index given by its id, older files list them
+		// in creation order
+		V = new Vector<>();
+		for (Vertex v : loaded) {
+			if (v == null)
+				continue;
+
+			if (v.getId() >= V.size()) {
+				V.setSize(v.getId() + 1);
+			}
+			V.set(v.getId(), v);
+		}
+
+		// Close the file
+		load.close();
+		loadFile.close();
+	}
 }
@@ -0,0 +1,108 @@
+package com.dkhalife.projects;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * 
+ * This class splits a range of indexes into chunks and runs a body on each
+ * chunk in a fork/join pool
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+class ParallelFor extends RecursiveAction {
+	// Eclipse generated UID
+	private static final long serialVersionUID = -3391566640208463744L;
+
+	/**
+	 * 
+	 * This interface describes the work done on a chunk of the range
+	 * 
+	 */
+	interface Body {
+
+		/**
+		 * 
+		 * Processes a chunk of the range
+		 * 
+		 * @param from The first index of the chunk
+		 * @param to The end of the chunk (exclusive)
+		 * 
+		 */
+		void run(int from, int to);
+	}
+
+	// The range handled by this task
+	private final int from;
+	private final int to;
+
+	// Below this size, the range is not split any further
+	private final int grain;
+
+	// The work to do
+	private final Body body;
+
+	/**
+	 * 
+	 * A task is constructed with its range, its grain and the work to do
+	 * 
+	 */
+	private ParallelFor(int from, int to, int grain, Body body) {
+		this.from = from;
+		this.to = to;
+		this.grain = grain;
+		this.body = body;
+	}
+
+	/**
+	 * 
+	 * Runs a body over a range, splitting it in chunks of at most grain indexes
+	 * 
+	 * @param pool The pool to run in
+	 * @param from The first index
+	 * @param to The end of the range (exclusive)
+	 * @param grain The largest chunk size
+	 * @param body The work to do
+	 * 
+	 */
+	static void run(ForkJoinPool pool, int from, int to, int grain, Body body) {
+		if (to <= from)
+			return;
+
+		if (to - from <= grain) {
+			body.run(from, to);
+			return;
+		}
+
+		pool.invoke(new ParallelFor(from, to, Math.max(grain, 1), body));
+	}
+
+	/**
+	 * 
+	 * Computes a grain which gives every thread of the pool a few chunks to
+	 * work on, so that the load stays balanced
+	 * 
+	 * @param pool The pool
+	 * @param n The size of the range
+	 * @param minimum The smallest grain worth a task
+	 * @return The grain
+	 * 
+	 */
+	static int grain(ForkJoinPool pool, int n, int minimum) {
+		return Math.max(minimum, n / (8 * pool.getParallelism()));
+	}
+
+	protected void compute() {
+		if (to - from <= grain) {
+			body.run(from, to);
+			return;
+		}
+
+		int middle = (from + to) >>> 1;
+		invokeAll(new ParallelFor(from, middle, grain, body), new ParallelFor(
+				middle, to, grain, body));
+	}
+}
@@ -0,0 +1,120 @@
+package com.dkhalife.projects;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * 
+ * This class implements Prim's minimal spanning tree algorithm on a CSR graph
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+public class Prim {
+
+	/**
+	 * 
+	 * This class only holds static methods
+	 * 
+	 */
+	private Prim() {
+	}
+
+	/**
+	 * 
+	 * Computes the minimal spanning tree of the component containing the
+	 * source vertex
+	 * 
+	 * @param g The graph
+	 * @param source The starting vertex
+	 * @return The minimal spanning tree
+	 * 
+	 */
+	public static SpanningTree minimumSpanningTree(CsrGraph g, int source) {
+		return minimumSpanningTree(g, source, new DaryHeap(g.vertexCount()));
+	}
+
+	/**
+	 * 
+	 * Computes the minimal spanning tree of the component containing the
+	 * source vertex using the given heap. This is the eager version of the
+	 * algorithm: the heap holds at most one entry per vertex, keyed by the
+	 * lightest edge connecting it to the tree so far.
+	 * 
+	 * @param g The graph
+	 * @param source The starting vertex
+	 * @param Q An empty heap able to hold every vertex of the graph
+	 * @return The minimal spanning tree
+	 * 
+	 */
+	public static SpanningTree minimumSpanningTree(CsrGraph g, int source,
+			IndexedHeap Q) {
+		int n = g.vertexCount();
+
+		int[] edges = new int[Math.max(n - 1, 0)];
+		int count = span(g, source, Q, new BitSet(n), new int[n], edges, 0);
+
+		long weight = 0;
+		for (int i = 0; i < count; ++i) {
+			weight += g.edgeWeight(edges[i]);
+		}
+
+		return new SpanningTree(Arrays.copyOf(edges, count), weight);
+	}
+
+	/**
+	 * 
+	 * Grows a tree from a source vertex until it spans its whole component.
+	 * The arrays are passed in so that a whole forest can be built without
+	 * allocating them for every tree.
+	 * 
+	 * @param g The graph
+	 * @param source The starting vertex, which must not be visited yet
+	 * @param Q An empty heap able to hold every vertex of the graph
+	 * @param visited The vertices which are already in a tree
+	 * @param bestEdges Scratch space holding one edge per vertex
+	 * @param edges The edges of the forest
+	 * @param count The number of edges already in the forest
+	 * @return The number of edges in the forest once the tree is added
+	 * 
+	 */
+	static int span(CsrGraph g, int source, IndexedHeap Q, BitSet visited,
+			int[] bestEdges, int[] edges, int count) {
+		// First, we'll add the starting vertex
+		bestEdges[source] = -1;
+		Q.insert(source, 0);
+
+		// Then, while we still have vertices waiting to be connected
+		while (!Q.isEmpty()) {
+			// We'll take the one with the least costly connection
+			int u = Q.poll();
+			visited.set(u);
+
+			if (bestEdges[u] != -1) {
+				edges[count++] = bestEdges[u];
+			}
+
+			// Now we'll check if the newly added vertex offers a better
+			// connection to any of its neighbors
+			for (int a = g.firstArc(u), end = g.endArc(u); a < end; ++a) {
+				int v = g.target(a);
+				if (visited.get(v))
+					continue;
+
+				int w = g.weight(a);
+				if (!Q.contains(v)) {
+					bestEdges[v] = g.edgeOf(a);
+					Q.insert(v, w);
+				}
+				else if (w < Q.key(v)) {
+					bestEdges[v] = g.edgeOf(a);
+					Q.decreaseKey(v, w);
+				}
+			}
+		}
+
+		return count;
+	}
+}
@@ -0,0 +1,356 @@
+package com.dkhalife.projects;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+
+/**
+ * 
+ * This class holds the state of a single search: the tentative distance to
+ * each vertex, the edge that let us arrive there and the queue. The graph
+ * itself is never written to, so any number of searches can run on the same
+ * graph at once, each with its own context.
+ * 
+ * Instead of being reset before each search, the context stamps every vertex
+ * it writes with the number of the current search (its epoch). A vertex with
+ * an older stamp simply reads as unreached, so starting a new search costs
+ * nothing no matter how large the graph is.
+ * 
+ * Contexts are pooled per thread. A context taken from the pool belongs to
+ * the thread until its next search, so it must not be kept across another
+ * search on the same thread. A pooled context much larger than the graph of
+ * the next search is dropped, and release() drops the contexts of the calling
+ * thread. Parallel computations take their contexts from a Pool of their own
+ * instead, so the threads they run on don't keep any once they are done.
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+public class SearchContext {
+	// The number of contexts pooled per thread, a bidirectional search needs
+	// one for each direction
+	public static final int SLOTS = 2;
+
+	// A pooled context is dropped when it holds more than this many times
+	// the vertices of the graph being searched
+	private static final int TRIM = 4;
+
+	// Contexts this small are never worth dropping
+	private static final int KEEP = 1 << 16;
+
+	// The contexts of each thread
+	private static final ThreadLocal<SearchContext[]> POOL = new ThreadLocal<SearchContext[]>() {
+		protected SearchContext[] initialValue() {
+			return new SearchContext[SLOTS];
+		}
+	};
+
+	// The tentative distance to each vertex
+	private final int[] distances;
+
+	// The edge that let us arrive to each vertex
+	private final int[] parentEdges;
+
+	// The epoch in which each vertex was last written
+	private final int[] stamps;
+
+	// The current epoch
+	private int epoch = 0;
+
+	// The queue of the search
+	private final IndexedHeap Q;
+
+	/**
+	 * 
+	 * A context is constructed with the number of vertices it can hold
+	 * 
+	 * @param capacity The number of vertices
+	 * 
+	 */
+	public SearchContext(int capacity) {
+		this(capacity, new DaryHeap(capacity));
+	}
+
+	/**
+	 * 
+	 * A context can also be given its queue
+	 * 
+	 * @param capacity The number of vertices
+	 * @param Q An empty heap able to hold that many vertices
+	 * 
+	 */
+	public SearchContext(int capacity, IndexedHeap Q) {
+		distances = new int[capacity];
+		parentEdges = new int[capacity];
+		stamps = new int[capacity];
+		this.Q = Q;
+		begin();
+	}
+
+	/**
+	 * 
+	 * Takes the first context of the calling thread, ready for a new search
+	 * 
+	 * @param n The number of vertices of the graph
+	 * @return The context
+	 * 
+	 */
+	public static SearchContext get(int n) {
+		return get(n, 0);
+	}
+
+	/**
+	 * 
+	 * Takes a context of the calling thread, ready for a new search. It is
+	 * only allocated again when the graph outgrows it, or when it is far
+	 * larger than the graph.
+	 * 
+	 * @param n The number of vertices of the graph
+	 * @param slot Which of the contexts of the thread to take
+	 * @return The context
+	 * 
+	 */
+	public static SearchContext get(int n, int slot) {
+		SearchContext[] contexts = POOL.get();
+		SearchContext c = contexts[slot];
+		if (c == null || c.capacity() < n
+				|| c.capacity() / TRIM > Math.max(n, KEEP)) {
+			// Drop the old one before allocating, both may not fit at once
+			contexts[slot] = c = null;
+			c = new SearchContext(n);
+			contexts[slot] = c;
+		}
+		else {
+			c.begin();
+		}
+
+		return c;
+	}
+
+	/**
+	 * 
+	 * Drops the contexts of the calling thread, for instance once it is done
+	 * with a large graph. The next search allocates new ones.
+	 * 
+	 */
+	public static void release() {
+		POOL.remove();
+	}
+
+	/**
+	 * 
+	 * Starts a new search. Every vertex reads as unreached afterwards.
+	 * 
+	 */
+	public void begin() {
+		// Once in a long while, the epochs run out and the stamps have to be
+		// cleared for real
+		if (++epoch == 0) {
+			Arrays.fill(stamps, 0);
+			epoch = 1;
+		}
+
+		Q.clear();
+	}
+
+	/**
+	 * 
+	 * Getter for the number of vertices the context can hold
+	 * 
+	 * @return The capacity
+	 * 
+	 */
+	public int capacity() {
+		return stamps.length;
+	}
+
+	/**
+	 * 
+	 * Getter for the queue
+	 * 
+	 * @return The queue, which holds every vertex the context can hold
+	 * 
+	 */
+	public IndexedHeap queue() {
+		return Q;
+	}
+
+	/**
+	 * 
+	 * Tells whether a vertex was reached during the current search
+	 * 
+	 * @param v The vertex
+	 * @return Whether it was
+	 * 
+	 */
+	public boolean reached(int v) {
+		return stamps[v] == epoch;
+	}
+
+	/**
+	 * 
+	 * Getter for the distance to a vertex
+	 * 
+	 * @param v The vertex
+	 * @return The distance, or INFINITY if it wasn't reached
+	 * 
+	 */
+	public int distance(int v) {
+		return stamps[v] == epoch ? distances[v] : ShortestPathTree.INFINITY;
+	}
+
+	/**
+	 * 
+	 * Getter for the edge that let us arrive to a vertex
+	 * 
+	 * @param v The vertex
+	 * @return The edge id, or -1 for the source and unreached vertices
+	 * 
+	 */
+	public int parentEdge(int v) {
+		return stamps[v] == epoch ? parentEdges[v] : -1;
+	}
+
+	/**
+	 * 
+	 * Records how a vertex was reached
+	 * 
+	 * @param v The vertex
+	 * @param distance The distance to it
+	 * @param parentEdge The edge that let us arrive there (or -1)
+	 * 
+	 */
+	public void set(int v, int distance, int parentEdge) {
+		distances[v] = distance;
+		parentEdges[v] = parentEdge;
+		stamps[v] = epoch;
+	}
+
+	/**
+	 * 
+	 * Walks back from a vertex to the source to rebuild the path
+	 * 
+	 * @param g The graph the search was run on
+	 * @param target The vertex to reach
+	 * @return The ids of the edges of the path, in order from the source, or
+	 * null if the vertex wasn't reached
+	 * 
+	 */
+	public int[] pathTo(CsrGraph g, int target) {
+		if (!reached(target))
+			return null;
+
+		// First, we'll count the edges so we can size the array
+		int length = 0;
+		for (int v = target; parentEdge(v) != -1; v = g.opposite(parentEdge(v), v)) {
+			++length;
+		}
+
+		// Then we'll fill it backwards
+		int[] path = new int[length];
+		for (int v = target; parentEdge(v) != -1; v = g.opposite(parentEdge(v), v)) {
+			path[--length] = parentEdge(v);
+		}
+
+		return path;
+	}
+
+	/**
+	 * 
+	 * Extracts the path to a destination found by the current search
+	 * 
+	 * @param g The graph the search was run on
+	 * @param source The source vertex
+	 * @param destination The destination vertex
+	 * @param settled The number of vertices the search settled
+	 * @return The path
+	 * 
+	 */
+	ShortestPath path(CsrGraph g, int source, int destination, int settled) {
+		return new ShortestPath(source, destination, distance(destination),
+				pathTo(g, destination), settled);
+	}
+
+	/**
+	 * 
+	 * Copies the result of the current search into a tree, which stays valid
+	 * after the context is reused
+	 * 
+	 * @param n The number of vertices of the graph
+	 * @param source The source vertex
+	 * @param settled The number of vertices the search settled
+	 * @return The tree
+	 * 
+	 */
+	ShortestPathTree tree(int n, int source, int settled) {
+		int[] d = new int[n];
+		int[] p = new int[n];
+		for (int v = 0; v < n; ++v) {
+			d[v] = distance(v);
+			p[v] = parentEdge(v);
+		}
+
+		return new ShortestPathTree(source, d, p, settled);
+	}
+
+	/**
+	 * 
+	 * This class pools the contexts of a single parallel computation. A task
+	 * takes a context, searches in it and gives it back, so there are never
+	 * more contexts than tasks running at once. Unlike the contexts of the
+	 * threads, they are all dropped along with the pool.
+	 * 
+	 */
+	public static class Pool {
+		// The number of vertices of the contexts
+		private final int capacity;
+
+		// The contexts which aren't in use
+		private final ArrayDeque<SearchContext> free = new ArrayDeque<>();
+
+		/**
+		 * 
+		 * A pool is constructed with the number of vertices of the graph
+		 * 
+		 * @param capacity The number of vertices
+		 * 
+		 */
+		public Pool(int capacity) {
+			this.capacity = capacity;
+		}
+
+		/**
+		 * 
+		 * Takes a context, ready for a new search
+		 * 
+		 * @return The context, which must be given back once done
+		 * 
+		 */
+		public SearchContext take() {
+			SearchContext c;
+			synchronized (free) {
+				c = free.poll();
+			}
+
+			if (c == null)
+				return new SearchContext(capacity);
+
+			c.begin();
+			return c;
+		}
+
+		/**
+		 * 
+		 * Gives a context back, for another task to reuse
+		 * 
+		 * @param c The context
+		 * 
+		 */
+		public void give(SearchContext c) {
+			synchronized (free) {
+				free.push(c);
+			}
+		}
+	}
+}
@@ -0,0 +1,103 @@
+package com.dkhalife.projects;
+
+/**
+ * 
+ * This class holds the result of a point to point query which doesn't keep a
+ * whole tree around: the distance and the edges of the path
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+public class ShortestPath {
+	// The endpoints of the path
+	private final int source;
+	private final int destination;
+
+	// The length of the path (or INFINITY)
+	private final int distance;
+
+	// The ids of the edges of the path, in order from the source (or null)
+	private final int[] edges;
+
+	// How many vertices were settled during the search
+	private final int settled;
+
+	/**
+	 * 
+	 * A path is constructed from the result of the search
+	 * 
+	 * @param source The source vertex
+	 * @param destination The destination vertex
+	 * @param distance The length of the path, or INFINITY if there is none
+	 * @param edges The edges of the path, or null if there is none
+	 * @param settled The number of vertices the search settled
+	 * 
+	 */
+	public ShortestPath(int source, int destination, int distance,
+			int[] edges, int settled) {
+		this.source = source;
+		this.destination = destination;
+		this.distance = distance;
+		this.edges = edges;
+		this.settled = settled;
+	}
+
+	/**
+	 * 
+	 * Getter for the source
+	 * 
+	 * @return the source
+	 * 
+	 */
+	public int getSource() {
+		return source;
+	}
+
+	/**
+	 * 
+	 * Getter for the destination
+	 * 
+	 * @return the destination
+	 * 
+	 */
+	public int getDestination() {
+		return destination;
+	}
+
+	/**
+	 * 
+	 * Getter for the distance
+	 * 
+	 * @return the distance, or ShortestPathTree.INFINITY if the destination
+	 * can't be reached
+	 * 
+	 */
+	public int getDistance() {
+		return distance;
+	}
+
+	/**
+	 * 
+	 * Getter for the edges
+	 * 
+	 * @return the ids of the edges in order from the source, or null if the
+	 * destination can't be reached
+	 * 
+	 */
+	public int[] getEdges() {
+		return edges;
+	}
+
+	/**
+	 * 
+	 * Getter for the number of settled vertices
+	 * 
+	 * @return the settled
+	 * 
+	 */
+	public int getSettled() {
+		return settled;
+	}
+}
@@ -0,0 +1,293 @@
+package com.dkhalife.projects;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 
+ * This class caches shortest path trees by source and by version of the graph.
+ * A tree holds the paths from its source to every vertex, so once it is
+ * cached, every query from that source is answered without a search until the
+ * graph changes. The owner of the graph bumps its version on every change, and
+ * trees of older versions are never returned again.
+ * 
+ * The cache is bounded by the memory the trees take rather than by their
+ * number, since a tree is as large as its graph. When it is full, the least
+ * recently used trees are evicted first.
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+public class ShortestPathCache {
+	// The memory the trees can take unless told otherwise, in bytes
+	public static final long DEFAULT_CAPACITY = 64L << 20;
+
+	// The memory a tree takes besides its arrays, in bytes
+	private static final long OVERHEAD = 64;
+
+	// The memory the trees can take, in bytes
+	private final long capacity;
+
+	// The trees, from the least recently used to the most recently used
+	private final LinkedHashMap<Key, ShortestPathTree> trees = new LinkedHashMap<>(
+			16, 0.75f, true);
+
+	// The memory the trees take, in bytes
+	private long size = 0;
+
+	// How many lookups found a tree, and how many didn't
+	private long hits = 0;
+	private long misses = 0;
+
+	// How many trees were dropped to make room, and how many because the
+	// graph changed
+	private long evictions = 0;
+	private long invalidations = 0;
+
+	/**
+	 * 
+	 * A cache constructed without arguments holds up to DEFAULT_CAPACITY bytes
+	 * of trees
+	 * 
+	 */
+	public ShortestPathCache() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * 
+	 * A cache can also be given its capacity
+	 * 
+	 * @param capacity The memory the trees can take, in bytes
+	 * 
+	 */
+	public ShortestPathCache(long capacity) {
+		if (capacity <= 0)
+			throw new IllegalArgumentException("Invalid capacity: " + capacity);
+
+		this.capacity = capacity;
+	}
+
+	/**
+	 * 
+	 * Computes the shortest paths from a source to every vertex, or takes them
+	 * from the cache if they were computed on the same version of the graph
+	 * 
+	 * @param g The graph
+	 * @param source The source vertex
+	 * @param version The version of the graph
+	 * @return The shortest path tree rooted at the source
+	 * 
+	 */
+	public ShortestPathTree shortestPaths(CsrGraph g, int source, long version) {
+		ShortestPathTree tree = get(source, version);
+		if (tree == null) {
+			// The search runs outside of the lock, so other threads can still
+			// use the cache in the meantime
+			tree = Dijkstra.shortestPaths(g, source);
+			put(source, version, tree);
+		}
+
+		return tree;
+	}
+
+	/**
+	 * 
+	 * Looks for a tree
+	 * 
+	 * @param source The source vertex
+	 * @param version The version of the graph
+	 * @return The tree, or null if it isn't cached
+	 * 
+	 */
+	public synchronized ShortestPathTree get(int source, long version) {
+		ShortestPathTree tree = trees.get(new Key(source, version));
+		if (tree == null) {
+			++misses;
+		}
+		else {
+			++hits;
+		}
+
+		return tree;
+	}
+
+	/**
+	 * 
+	 * Adds a tree, evicting the least recently used ones if there isn't
+	 * enough room left. A tree larger than the whole cache isn't kept.
+	 * 
+	 * @param source The source vertex
+	 * @param version The version of the graph the tree was computed on
+	 * @param tree The tree
+	 * 
+	 */
+	public synchronized void put(int source, long version, ShortestPathTree tree) {
+		long weight = weightOf(tree);
+		if (weight > capacity)
+			return;
+
+		ShortestPathTree previous = trees.put(new Key(source, version), tree);
+		if (previous != null) {
+			size -= weightOf(previous);
+		}
+		size += weight;
+
+		Iterator<ShortestPathTree> it = trees.values().iterator();
+		while (size > capacity) {
+			size -= weightOf(it.next());
+			it.remove();
+			++evictions;
+		}
+	}
+
+	/**
+	 * 
+	 * Drops the trees computed on versions older than the given one
+	 * 
+	 * @param version The current version of the graph
+	 * 
+	 */
+	public synchronized void invalidate(long version) {
+		Iterator<Map.Entry<Key, ShortestPathTree>> it = trees.entrySet()
+				.iterator();
+		while (it.hasNext()) {
+			Map.Entry<Key, ShortestPathTree> entry = it.next();
+			if (entry.getKey().version < version) {
+				size -= weightOf(entry.getValue());
+				it.remove();
+				++invalidations;
+			}
+		}
+	}
+
+	/**
+	 * 
+	 * Drops every tree, the counters are kept
+	 * 
+	 */
+	public synchronized void clear() {
+		trees.clear();
+		size = 0;
+	}
+
+	/**
+	 * 
+	 * Getter for the number of trees in the cache
+	 * 
+	 * @return The number of trees
+	 * 
+	 */
+	public synchronized int count() {
+		return trees.size();
+	}
+
+	/**
+	 * 
+	 * Getter for the memory the trees take
+	 * 
+	 * @return The size, in bytes
+	 * 
+	 */
+	public synchronized long bytes() {
+		return size;
+	}
+
+	/**
+	 * 
+	 * Getter for the number of lookups which found a tree
+	 * 
+	 * @return the hits
+	 * 
+	 */
+	public synchronized long getHits() {
+		return hits;
+	}
+
+	/**
+	 * 
+	 * Getter for the number of lookups which didn't find a tree
+	 * 
+	 * @return the misses
+	 * 
+	 */
+	public synchronized long getMisses() {
+		return misses;
+	}
+
+	/**
+	 * 
+	 * Getter for the number of trees evicted to make room
+	 * 
+	 * @return the evictions
+	 * 
+	 */
+	public synchronized long getEvictions() {
+		return evictions;
+	}
+
+	/**
+	 * 
+	 * Getter for the number of trees dropped because the graph changed
+	 * 
+	 * @return the invalidations
+	 * 
+	 */
+	public synchronized long getInvalidations() {
+		return invalidations;
+	}
+
+	/**
+	 * 
+	 * Estimates the memory a tree takes
+	 * 
+	 * @param tree The tree
+	 * @return The size, in bytes
+	 * 
+	 */
+	private static long weightOf(ShortestPathTree tree) {
+		// Both the distances and the parent edges hold an int per vertex
+		return 8L * tree.distances().length + OVERHEAD;
+	}
+
+	/**
+	 * 
+	 * This class identifies a tree by its source and the version of the graph
+	 * 
+	 */
+	private static class Key {
+		// The source vertex
+		private final int source;
+
+		// The version of the graph
+		private final long version;
+
+		/**
+		 * 
+		 * A key is constructed with the source and the version
+		 * 
+		 */
+		Key(int source, long version) {
+			this.source = source;
+			this.version = version;
+		}
+
+		@Override
+		public boolean equals(Object obj) {
+			if (this == obj)
+				return true;
+			if (!(obj instanceof Key))
+				return false;
+			Key other = (Key) obj;
+			return source == other.source && version == other.version;
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * source + (int) (version ^ (version >>> 32));
+		}
+	}
+}
@@ -0,0 +1,149 @@
+package com.dkhalife.projects;
+
+/**
+ * 
+ * This class holds the result of a shortest path search: the distance to
+ * every vertex and the edge that let us arrive there
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+public class ShortestPathTree {
+	// The distance used for vertices that can't be reached
+	public static final int INFINITY = Integer.MAX_VALUE;
+
+	// The source of the search
+	private final int source;
+
+	// The distance to each vertex
+	private final int[] distances;
+
+	// The edge that let us arrive to each vertex (or -1)
+	private final int[] parentEdges;
+
+	// How many vertices were settled during the search
+	private final int settled;
+
+	/**
+	 * 
+	 * A tree is constructed from the arrays produced by the search
+	 * 
+	 * @param source The source vertex
+	 * @param distances The distance to each vertex
+	 * @param parentEdges The edge used to reach each vertex
+	 * @param settled The number of vertices the search settled
+	 * 
+	 */
+	public ShortestPathTree(int source, int[] distances, int[] parentEdges,
+			int settled) {
+		this.source = source;
+		this.distances = distances;
+		this.parentEdges = parentEdges;
+		this.settled = settled;
+	}
+
+	/**
+	 * 
+	 * Adds the weight of an arc to a distance. A sum too large for an int
+	 * saturates at INFINITY, which is never shorter than any distance, so
+	 * the searches drop it instead of wrapping around to a negative one.
+	 * Going on from an unreached vertex stays at INFINITY too.
+	 * 
+	 * @param distance The distance, or INFINITY
+	 * @param weight The weight
+	 * @return The distance through the arc
+	 * 
+	 */
+	static int extend(int distance, int weight) {
+		return (int) Math.min((long) distance + weight, INFINITY);
+	}
+
+	/**
+	 * 
+	 * Getter for the source
+	 * 
+	 * @return the source
+	 * 
+	 */
+	public int getSource() {
+		return source;
+	}
+
+	/**
+	 * 
+	 * Getter for the distance to a vertex
+	 * 
+	 * @param v The vertex
+	 * @return The distance, or INFINITY if it wasn't reached
+	 * 
+	 */
+	public int distance(int v) {
+		return distances[v];
+	}
+
+	/**
+	 * 
+	 * Getter for the distances to all the vertices, for the classes which keep
+	 * them around
+	 * 
+	 * @return The distances, indexed by vertex
+	 * 
+	 */
+	int[] distances() {
+		return distances;
+	}
+
+	/**
+	 * 
+	 * Getter for the edge that let us arrive to a vertex
+	 * 
+	 * @param v The vertex
+	 * @return The edge id, or -1 for the source and unreached vertices
+	 * 
+	 */
+	public int parentEdge(int v) {
+		return parentEdges[v];
+	}
+
+	/**
+	 * 
+	 * Getter for the number of settled vertices
+	 * 
+	 * @return the settled
+	 * 
+	 */
+	public int getSettled() {
+		return settled;
+	}
+
+	/**
+	 * 
+	 * Walks back from a vertex to the source to rebuild the path
+	 * 
+	 * @param g The graph the search was run on
+	 * @param target The vertex to reach
+	 * @return The ids of the edges of the path, in order from the source, or
+	 * null if the vertex wasn't reached
+	 * 
+	 */
+	public int[] pathTo(CsrGraph g, int target) {
+		if (distances[target] == INFINITY)
+			return null;
+
+		// First, we'll count the edges so we can size the array
+		int length = 0;
+		for (int v = target; parentEdges[v] != -1; v = g.opposite(parentEdges[v], v)) {
+			++length;
+		}
+
+		// Then we'll fill it backwards
+		int[] path = new int[length];
+		for (int v = target; parentEdges[v] != -1; v = g.opposite(parentEdges[v], v)) {
+			path[--length] = parentEdges[v];
+		}
+
+		return path;
+	}
+}
@@ -0,0 +1,53 @@
+package com.dkhalife.projects;
+
+/**
+ * 
+ * This class holds the result of a minimal spanning tree (or forest) algorithm
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+public class SpanningTree {
+	// The ids of the edges in the tree
+	private final int[] edges;
+
+	// The total weight of the tree
+	private final long weight;
+
+	/**
+	 * 
+	 * A spanning tree is constructed from its edges and their total weight
+	 * 
+	 * @param edges The ids of the edges in the tree
+	 * @param weight The total weight
+	 * 
+	 */
+	public SpanningTree(int[] edges, long weight) {
+		this.edges = edges;
+		this.weight = weight;
+	}
+
+	/**
+	 * 
+	 * Getter for the edges
+	 * 
+	 * @return the ids of the edges in the tree
+	 * 
+	 */
+	public int[] getEdges() {
+		return edges;
+	}
+
+	/**
+	 * 
+	 * Getter for the total weight
+	 * 
+	 * @return the weight
+	 * 
+	 */
+	public long getWeight() {
+		return weight;
+	}
+}
@@ -0,0 +1,386 @@
+package com.dkhalife.projects;
+
+import java.util.Arrays;
+
+/**
+ * 
+ * This class indexes points by their coordinates, to find the ones near a
+ * location without looking at all of them. The plane is cut in square cells
+ * of a fixed size, and each point is kept in the list of its cell. The cells
+ * are found in an open addressing hash table keyed on their coordinates, so
+ * only the cells which hold points take memory, however far apart they are.
+ * 
+ * Looking for the points within a distance of a location only visits the
+ * cells overlapping that square, which is a constant number of them as long
+ * as the distance is close to the size of a cell.
+ * 
+ * Points are identified by dense ids, like the vertices of the panel.
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+public class SpatialIndex {
+	// The size of a cell unless told otherwise, a few times the tolerance of
+	// a click
+	public static final int DEFAULT_CELL = 4;
+
+	// The size of a cell
+	private final int cell;
+
+	// The hash table of the cells: the coordinates of each one packed in a
+	// long, the ids of its points and their number. Cells are never removed,
+	// an empty one simply stays in the table until it is cleared.
+	private long[] keys;
+	private boolean[] used;
+	private int[][] members;
+	private int[] sizes;
+	private int cellCount = 0;
+
+	// The coordinates of each point, and whether the id is indexed
+	private int[] xs = new int[16];
+	private int[] ys = new int[16];
+	private boolean[] present = new boolean[16];
+
+	// The number of points
+	private int count = 0;
+
+	/**
+	 * 
+	 * An index constructed without arguments uses cells of DEFAULT_CELL
+	 * 
+	 */
+	public SpatialIndex() {
+		this(DEFAULT_CELL);
+	}
+
+	/**
+	 * 
+	 * An index can also be given the size of its cells
+	 * 
+	 * @param cell The size of a cell
+	 * 
+	 */
+	public SpatialIndex(int cell) {
+		if (cell <= 0)
+			throw new IllegalArgumentException("Invalid cell size: " + cell);
+
+		this.cell = cell;
+		allocate(16);
+	}
+
+	/**
+	 * 
+	 * Getter for the number of points
+	 * 
+	 * @return The number of points
+	 * 
+	 */
+	public int size() {
+		return count;
+	}
+
+	/**
+	 * 
+	 * Tells whether an id is indexed
+	 * 
+	 * @param id The id
+	 * @return Whether it is
+	 * 
+	 */
+	public boolean contains(int id) {
+		return id >= 0 && id < present.length && present[id];
+	}
+
+	/**
+	 * 
+	 * Adds a point, or moves it if its id is already indexed
+	 * 
+	 * @param id The id of the point
+	 * @param x The X coordinate
+	 * @param y The Y coordinate
+	 * 
+	 */
+	public void add(int id, int x, int y) {
+		if (id < 0)
+			throw new IndexOutOfBoundsException("Invalid id: " + id);
+
+		if (contains(id)) {
+			remove(id);
+		}
+
+		if (id >= present.length) {
+			int capacity = Math.max(id + 1, 2 * present.length);
+			xs = Arrays.copyOf(xs, capacity);
+			ys = Arrays.copyOf(ys, capacity);
+			present = Arrays.copyOf(present, capacity);
+		}
+
+		xs[id] = x;
+		ys[id] = y;
+		present[id] = true;
+		++count;
+
+		int s = slot(Math.floorDiv(x, cell), Math.floorDiv(y, cell), true);
+		if (sizes[s] == members[s].length) {
+			members[s] = Arrays.copyOf(members[s], 2 * sizes[s]);
+		}
+		members[s][sizes[s]++] = id;
+	}
+
+	/**
+	 * 
+	 * Removes a point, if its id is indexed
+	 * 
+	 * @param id The id of the point
+	 * 
+	 */
+	public void remove(int id) {
+		if (!contains(id))
+			return;
+
+		present[id] = false;
+		--count;
+
+		int s = slot(Math.floorDiv(xs[id], cell), Math.floorDiv(ys[id], cell),
+				false);
+		int[] list = members[s];
+		int last = --sizes[s];
+		for (int i = 0; i <= last; ++i) {
+			if (list[i] == id) {
+				list[i] = list[last];
+				return;
+			}
+		}
+	}
+
+	/**
+	 * 
+	 * Removes every point
+	 * 
+	 */
+	public void clear() {
+		Arrays.fill(present, false);
+		count = 0;
+		allocate(16);
+	}
+
+	/**
+	 * 
+	 * Finds the point closest to a location, among those within a distance of
+	 * it along both axes
+	 * 
+	 * @param x The X coordinate
+	 * @param y The Y coordinate
+	 * @param d The tolerance for both coordinates
+	 * @return The id of the closest point (the smallest one on ties), or -1 if
+	 * there is none
+	 * 
+	 */
+	public int nearest(int x, int y, int d) {
+		int best = -1;
+		long bestDistance = Long.MAX_VALUE;
+
+		int cx2 = Math.floorDiv(x + d, cell);
+		int cy2 = Math.floorDiv(y + d, cell);
+		for (int cx = Math.floorDiv(x - d, cell); cx <= cx2; ++cx) {
+			for (int cy = Math.floorDiv(y - d, cell); cy <= cy2; ++cy) {
+				int s = slot(cx, cy, false);
+				if (s == -1)
+					continue;
+
+				for (int i = 0; i < sizes[s]; ++i) {
+					int id = members[s][i];
+					long dx = xs[id] - x;
+					long dy = ys[id] - y;
+					if (Math.abs(dx) > d || Math.abs(dy) > d)
+						continue;
+
+					long distance = dx * dx + dy * dy;
+					if (distance < bestDistance
+							|| (distance == bestDistance && id < best)) {
+						best = id;
+						bestDistance = distance;
+					}
+				}
+			}
+		}
+
+		return best;
+	}
+
+	/**
+	 * 
+	 * Finds the points inside a rectangle, for instance to select everything
+	 * within a rubber band
+	 * 
+	 * @param x1 The smallest X coordinate
+	 * @param y1 The smallest Y coordinate
+	 * @param x2 The largest X coordinate
+	 * @param y2 The largest Y coordinate
+	 * @return The ids of the points, in no particular order
+	 * 
+	 */
+	public int[] range(int x1, int y1, int x2, int y2) {
+		int[] result = new int[16];
+		int found = 0;
+
+		int cx1 = Math.floorDiv(x1, cell), cx2 = Math.floorDiv(x2, cell);
+		int cy1 = Math.floorDiv(y1, cell), cy2 = Math.floorDiv(y2, cell);
+
+		// A large rectangle covers more cells than there are in the table, so
+		// we'll walk through the table instead
+		if ((long) (cx2 - cx1 + 1) * (cy2 - cy1 + 1) > keys.length) {
+			for (int s = 0; s < keys.length; ++s) {
+				if (used[s]) {
+					result = grow(result, found + sizes[s]);
+					found = collect(s, x1, y1, x2, y2, result, found);
+				}
+			}
+		}
+		else {
+			for (int cx = cx1; cx <= cx2; ++cx) {
+				for (int cy = cy1; cy <= cy2; ++cy) {
+					int s = slot(cx, cy, false);
+					if (s != -1) {
+						result = grow(result, found + sizes[s]);
+						found = collect(s, x1, y1, x2, y2, result, found);
+					}
+				}
+			}
+		}
+
+		return Arrays.copyOf(result, found);
+	}
+
+	/**
+	 * 
+	 * Copies the points of a cell which lie inside a rectangle
+	 * 
+	 * @return The new number of points found
+	 * 
+	 */
+	private int collect(int s, int x1, int y1, int x2, int y2, int[] result,
+			int found) {
+		for (int i = 0; i < sizes[s]; ++i) {
+			int id = members[s][i];
+			if (xs[id] >= x1 && xs[id] <= x2 && ys[id] >= y1 && ys[id] <= y2) {
+				result[found++] = id;
+			}
+		}
+
+		return found;
+	}
+
+	/**
+	 * 
+	 * Makes sure an array of results can hold a number of ids
+	 * 
+	 * @return The array, or a larger copy
+	 * 
+	 */
+	private static int[] grow(int[] result, int needed) {
+		if (needed > result.length)
+			return Arrays.copyOf(result, Math.max(needed, 2 * result.length));
+
+		return result;
+	}
+
+	/**
+	 * 
+	 * Scrambles the key of a cell into the first slot to probe
+	 * 
+	 * @param key The coordinates of the cell, packed
+	 * @param mask The number of slots minus one
+	 * @return The slot
+	 * 
+	 */
+	private static int hash(long key, int mask) {
+		return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+	}
+
+	/**
+	 * 
+	 * Finds the slot of a cell in the hash table
+	 * 
+	 * @param cx The X coordinate of the cell
+	 * @param cy The Y coordinate of the cell
+	 * @param create Whether to add the cell if it is missing
+	 * @return The slot, or -1 if the cell is missing and wasn't created
+	 * 
+	 */
+	private int slot(int cx, int cy, boolean create) {
+		long key = ((long) cx << 32) | (cy & 0xFFFFFFFFL);
+		int mask = keys.length - 1;
+
+		// Linear probing, starting from a scrambled key
+		int s = hash(key, mask);
+		while (used[s]) {
+			if (keys[s] == key)
+				return s;
+			s = (s + 1) & mask;
+		}
+
+		if (!create)
+			return -1;
+
+		// Keep the table at most half full
+		if (2 * (cellCount + 1) > keys.length) {
+			rehash();
+			return slot(cx, cy, true);
+		}
+
+		used[s] = true;
+		keys[s] = key;
+		members[s] = new int[4];
+		sizes[s] = 0;
+		++cellCount;
+		return s;
+	}
+
+	/**
+	 * 
+	 * Doubles the hash table, dropping the empty cells on the way
+	 * 
+	 */
+	private void rehash() {
+		long[] oldKeys = keys;
+		boolean[] oldUsed = used;
+		int[][] oldMembers = members;
+		int[] oldSizes = sizes;
+
+		allocate(2 * oldKeys.length);
+		int mask = keys.length - 1;
+		for (int i = 0; i < oldKeys.length; ++i) {
+			if (!oldUsed[i] || oldSizes[i] == 0)
+				continue;
+
+			int s = hash(oldKeys[i], mask);
+			while (used[s]) {
+				s = (s + 1) & mask;
+			}
+
+			used[s] = true;
+			keys[s] = oldKeys[i];
+			members[s] = oldMembers[i];
+			sizes[s] = oldSizes[i];
+			++cellCount;
+		}
+	}
+
+	/**
+	 * 
+	 * Allocates an empty hash table
+	 * 
+	 * @param capacity The number of slots, a power of two
+	 * 
+	 */
+	private void allocate(int capacity) {
+		keys = new long[capacity];
+		used = new boolean[capacity];
+		members = new int[capacity][];
+		sizes = new int[capacity];
+		cellCount = 0;
+	}
+}
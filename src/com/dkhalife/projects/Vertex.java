@@ -1,10 +1,11 @@
 package com.dkhalife.projects;
 
 import java.awt.Color;
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Queue;
 
 /**
  * 
@@ -15,7 +16,7 @@ import java.util.Queue;
  * @since December, 2012
  * 
  */
-public class Vertex implements Comparable<Vertex>, Serializable {
+public class Vertex implements Serializable {
 	// The serial version ID
 	private static final long serialVersionUID = -8045762176441807172L;
 
@@ -23,8 +24,8 @@ public class Vertex implements Comparable<Vertex>, Serializable {
 	private int x;
 	private int y;
 
-	// Its name
-	private char name;
+	// Its id, which is also its index in the graph
+	private int id;
 
 	// And its color
 	private Color color = Color.BLACK;
@@ -32,65 +33,6 @@ public class Vertex implements Comparable<Vertex>, Serializable {
 	// The adjacency list (In a form of a list of edges)
 	private List<Edge> edges = new LinkedList<>();
 
-	// The distance to this vertex
-	private Integer distance;
-
-	// The ID for automatic name generation
-	private static int id = 0;
-
-	// The set of deleted vertex names (to be reused)
-	private static Queue<String> deleted = new LinkedList<>();
-
-	// The parent, or previous vertex of the current one
-	private Vertex previous = null;
-
-	// The edge that let us arrive here
-	private Edge viaEdge = null;
-
-	/**
-	 * 
-	 * Getter for the edge that let us arrive to this vertex
-	 * 
-	 * @return the viaEdge
-	 * 
-	 */
-	public Edge getViaEdge() {
-		return viaEdge;
-	}
-
-	/**
-	 * 
-	 * Getter for the distance
-	 * 
-	 * @return the distance
-	 * 
-	 */
-	public Integer getDistance() {
-		return distance;
-	}
-
-	/**
-	 * 
-	 * Setter for the distance
-	 * 
-	 * @param distance the distance to set
-	 * 
-	 */
-	public void setDistance(Integer distance) {
-		this.distance = distance;
-	}
-
-	/**
-	 * 
-	 * Setter for the edge that let us arrive to this vertex
-	 * 
-	 * @param viaEdge the viaEdge to set
-	 * 
-	 */
-	public void setViaEdge(Edge viaEdge) {
-		this.viaEdge = viaEdge;
-	}
-
 	/**
 	 * 
 	 * Getter for the list of outgoing edges from this vertex
@@ -104,49 +46,17 @@ public class Vertex implements Comparable<Vertex>, Serializable {
 
 	/**
 	 * 
-	 * Getter for the parent or previous Vertex
-	 * 
-	 * @return the previous
-	 * 
-	 */
-	public Vertex getPrevious() {
-		return previous;
-	}
-
-	/**
-	 * 
-	 * Setter for the parent or previous Vertex
-	 * 
-	 * @param previous the previous to set
-	 * 
-	 */
-	public void setPrevious(Vertex previous) {
-		this.previous = previous;
-	}
-
-	/**
-	 * 
-	 * In order to construct a vertex, we only need its coordinates
+	 * In order to construct a vertex, we need its id and its coordinates
 	 * 
+	 * @param id The id (see IdAllocator)
 	 * @param x The X coordinate
 	 * @param y The Y coordinate
 	 * 
 	 */
-	public Vertex(int x, int y) {
+	public Vertex(int id, int x, int y) {
+		this.id = id;
 		this.x = x;
 		this.y = y;
-		name = getNewName();
-	}
-
-	/**
-	 * 
-	 * When a vertex is deleted, consider calling this method to reuse its name
-	 * 
-	 * @param v The Vertex for which to reuse the name
-	 * 
-	 */
-	public static void delete(Vertex v) {
-		deleted.offer(String.valueOf(v.getName()));
 	}
 
 	/**
@@ -194,13 +104,26 @@ public class Vertex implements Comparable<Vertex>, Serializable {
 		return y;
 	}
 
+	/**
+	 * 
+	 * Getter for the Vertex's id
+	 * 
+	 * @return the id
+	 * 
+	 */
+	public int getId() {
+		return id;
+	}
+
 	/**
 	 * 
 	 * Getter for the Vertex's name
 	 * 
+	 * @return the name derived from the id
+	 * 
 	 */
-	public char getName() {
-		return name;
+	public String getName() {
+		return nameOf(id);
 	}
 
 	/**
@@ -227,42 +150,85 @@ public class Vertex implements Comparable<Vertex>, Serializable {
 
 	/**
 	 * 
-	 * New unique name generator
+	 * Converts an id to a name in the same way spreadsheet columns are named:
+	 * A, B, ..., Z, AA, AB, ...
+	 * 
+	 * @param id The id
+	 * @return The corresponding name
 	 * 
 	 */
-	private static char getNewName() {
-		if (deleted.isEmpty())
-			return (char) ('A' + (id++));
-		else
-			return deleted.poll().charAt(0);
+	public static String nameOf(int id) {
+		StringBuilder sb = new StringBuilder();
+		for (int i = id + 1; i > 0; i = (i - 1) / 26) {
+			sb.append((char) ('A' + (i - 1) % 26));
+		}
+
+		return sb.reverse().toString();
 	}
 
 	/**
 	 * 
-	 * Setter for the ID
+	 * Converts a name back to its id
 	 * 
-	 * @param id the id to set
+	 * @param name The name (case insensitive)
+	 * @return The corresponding id or -1 if the name isn't valid
 	 * 
 	 */
-	public static void setId(int id) {
-		Vertex.id = id;
+	public static int idOf(String name) {
+		if (name.isEmpty())
+			return -1;
+
+		long id = 0;
+		for (int i = 0; i < name.length(); ++i) {
+			char c = Character.toUpperCase(name.charAt(i));
+			if (c < 'A' || c > 'Z')
+				return -1;
+
+			id = id * 26 + (c - 'A' + 1);
+			if (id > Integer.MAX_VALUE)
+				return -1;
+		}
+
+		return (int) id - 1;
 	}
 
 	/**
 	 * 
-	 * Getter for the ID
+	 * Restores a vertex from a stream. Files saved before vertices had an id
+	 * only carry a letter for the name, so we'll derive the id from it.
 	 * 
-	 * @return the id
+	 */
+	private void readObject(ObjectInputStream in) throws IOException,
+			ClassNotFoundException {
+		ObjectInputStream.GetField fields = in.readFields();
+
+		x = fields.get("x", 0);
+		y = fields.get("y", 0);
+		color = (Color) fields.get("color", Color.BLACK);
+		edges = readEdges(fields.get("edges", null));
+
+		if (fields.getObjectStreamClass().getField("id") != null) {
+			id = fields.get("id", 0);
+		}
+		else {
+			id = idOf(String.valueOf(fields.get("name", 'A')));
+		}
+	}
+
+	/**
+	 * 
+	 * Casts the adjacency list read from a stream
 	 * 
 	 */
-	public static int getId() {
-		return id;
+	@SuppressWarnings("unchecked")
+	private static List<Edge> readEdges(Object edges) {
+		return edges == null ? new LinkedList<Edge>() : (List<Edge>) edges;
 	}
 
 	/**
 	 * 
-	 * This equals implementation compares two vertices by their name.
-	 * Two vertices are considered equal if both of them have the same name.
+	 * This equals implementation compares two vertices by their id.
+	 * Two vertices are considered equal if both of them have the same id.
 	 * For this project, the coordinates are not considered important in comparing two vertices. 
 	 * 
 	 */
@@ -275,22 +241,18 @@ public class Vertex implements Comparable<Vertex>, Serializable {
 		if (getClass() != obj.getClass())
 			return false;
 		Vertex other = (Vertex) obj;
-		if (name != other.name)
+		if (id != other.id)
 			return false;
 		return true;
 	}
 
 	/**
 	 * 
-	 * The compareTo implementation compares two vertices by their distance
+	 * The hashCode implementation is consistent with equals
 	 * 
 	 */
-	public int compareTo(Vertex other) {
-		if (distance == other.distance)
-			return 0;
-		else if (distance < other.distance)
-			return -1;
-		else
-			return 1;
+	@Override
+	public int hashCode() {
+		return id;
 	}
 }
\ No newline at end of file
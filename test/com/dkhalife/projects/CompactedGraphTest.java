@@ -0,0 +1,161 @@
+package com.dkhalife.projects;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * 
+ * This class checks the graphs CompactedGraph packs against the same graphs
+ * built again from the surviving edges, and the shortest paths and spanning
+ * forests computed on both.
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+public class CompactedGraphTest {
+	@Test
+	public void matchesTheGraphBuiltAgain() {
+		Random r = new Random(8);
+		for (int t = 0; t < 300; ++t) {
+			int n = 1 + r.nextInt(60);
+			int m = r.nextInt(4 * n);
+			int[] sources = new int[m];
+			int[] destinations = new int[m];
+			int[] weights = new int[m];
+			int[] xs = new int[n];
+			int[] ys = new int[n];
+			for (int e = 0; e < m; ++e) {
+				sources[e] = r.nextInt(n);
+				destinations[e] = r.nextInt(n);
+				weights[e] = r.nextInt(100);
+			}
+			for (int v = 0; v < n; ++v) {
+				xs[v] = r.nextInt(1000);
+				ys[v] = r.nextInt(1000);
+			}
+			CsrGraph g = CsrGraph.fromEdges(n, sources, destinations, weights,
+					xs, ys);
+
+			BitSet vertices = new BitSet(n);
+			BitSet edges = new BitSet(m);
+			for (int v = 0; v < n; ++v) {
+				if (r.nextInt(4) == 0) {
+					vertices.set(v);
+				}
+			}
+			for (int e = 0; e < m; ++e) {
+				if (r.nextInt(4) == 0) {
+					edges.set(e);
+				}
+			}
+			// Without vertices to remove, the set may as well be missing
+			if (r.nextInt(4) == 0) {
+				vertices.clear();
+			}
+			CompactedGraph c = CompactedGraph.remove(g,
+					vertices.isEmpty() && r.nextBoolean() ? null : vertices,
+					edges);
+
+			check(g, vertices, edges, c);
+		}
+	}
+
+	/**
+	 * 
+	 * Builds the expected graph from the surviving edges, numbering the
+	 * vertices and the edges in their original order, and compares it with
+	 * the compacted one
+	 * 
+	 */
+	private static void check(CsrGraph g, BitSet vertices, BitSet edges,
+			CompactedGraph c) {
+		int n = g.vertexCount();
+		int[] vertexMap = new int[n];
+		int kept = 0;
+		for (int v = 0; v < n; ++v) {
+			vertexMap[v] = vertices.get(v) ? -1 : kept++;
+		}
+
+		int[] edgeMap = new int[g.edgeCount()];
+		int m = 0;
+		for (int e = 0; e < g.edgeCount(); ++e) {
+			boolean keep = !edges.get(e)
+					&& vertexMap[g.edgeSource(e)] != -1
+					&& vertexMap[g.edgeTarget(e)] != -1;
+			edgeMap[e] = keep ? m++ : -1;
+		}
+
+		int[] sources = new int[m];
+		int[] destinations = new int[m];
+		int[] weights = new int[m];
+		for (int e = 0; e < g.edgeCount(); ++e) {
+			if (edgeMap[e] != -1) {
+				sources[edgeMap[e]] = vertexMap[g.edgeSource(e)];
+				destinations[edgeMap[e]] = vertexMap[g.edgeTarget(e)];
+				weights[edgeMap[e]] = g.edgeWeight(e);
+			}
+		}
+		int[] xs = new int[kept];
+		int[] ys = new int[kept];
+		for (int v = 0; v < n; ++v) {
+			if (vertexMap[v] != -1) {
+				xs[vertexMap[v]] = g.x(v);
+				ys[vertexMap[v]] = g.y(v);
+			}
+		}
+		CsrGraph expected = CsrGraph.fromEdges(kept, sources, destinations,
+				weights, xs, ys);
+		CsrGraph actual = c.getGraph();
+
+		// The ids map both ways
+		for (int v = 0; v < n; ++v) {
+			assertEquals(vertexMap[v], c.vertex(v));
+			if (vertexMap[v] != -1) {
+				assertEquals(v, c.originalVertex(vertexMap[v]));
+			}
+		}
+		for (int e = 0; e < g.edgeCount(); ++e) {
+			assertEquals(edgeMap[e], c.edge(e));
+			if (edgeMap[e] != -1) {
+				assertEquals(e, c.originalEdge(edgeMap[e]));
+			}
+		}
+
+		// The graphs are the same, arc by arc
+		assertEquals(expected.vertexCount(), actual.vertexCount());
+		assertEquals(expected.edgeCount(), actual.edgeCount());
+		for (int v = 0; v < kept; ++v) {
+			assertEquals(expected.x(v), actual.x(v));
+			assertEquals(expected.y(v), actual.y(v));
+			assertEquals(expected.firstArc(v), actual.firstArc(v));
+			assertEquals(expected.endArc(v), actual.endArc(v));
+			for (int a = expected.firstArc(v); a < expected.endArc(v); ++a) {
+				assertEquals(expected.target(a), actual.target(a));
+				assertEquals(expected.weight(a), actual.weight(a));
+				assertEquals(expected.edgeOf(a), actual.edgeOf(a));
+			}
+		}
+		for (int e = 0; e < m; ++e) {
+			assertEquals(expected.edgeSource(e), actual.edgeSource(e));
+			assertEquals(expected.edgeTarget(e), actual.edgeTarget(e));
+			assertEquals(expected.edgeWeight(e), actual.edgeWeight(e));
+		}
+
+		// And so are the results of the algorithms run on them
+		if (kept > 0) {
+			ShortestPathTree a = Dijkstra.shortestPaths(expected, 0);
+			ShortestPathTree b = Dijkstra.shortestPaths(actual, 0);
+			for (int v = 0; v < kept; ++v) {
+				assertEquals(a.distance(v), b.distance(v));
+			}
+		}
+		assertEquals(Kruskal.minimumSpanningTree(expected).getWeight(), Kruskal
+				.minimumSpanningTree(actual).getWeight());
+	}
+}
@@ -0,0 +1,138 @@
+package com.dkhalife.projects;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * 
+ * This class runs random queries on contraction hierarchies and compares
+ * them with Dijkstra's algorithm: the distance must be the same, and the
+ * unpacked path must walk from the source to the destination along edges of
+ * the graph which add up to it.
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+public class ContractionHierarchyTest {
+	// The pool the hierarchies are built and queried in
+	private static ForkJoinPool pool;
+
+	// Where the saved hierarchies are written
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@BeforeClass
+	public static void startPool() {
+		pool = new ForkJoinPool(4);
+	}
+
+	@AfterClass
+	public static void stopPool() {
+		pool.shutdown();
+	}
+
+	@Test
+	public void matchesDijkstra() {
+		Random r = new Random(9);
+		for (int t = 0; t < 60; ++t) {
+			int n = 1 + r.nextInt(400);
+			CsrGraph g = RandomGraphs.multigraph(r, n, r.nextInt(4 * n),
+					r.nextBoolean() ? 10 : 1000);
+			ContractionHierarchy ch = ContractionHierarchy.build(g, pool);
+
+			for (int q = 0; q < 150; ++q) {
+				int source = r.nextInt(n);
+				check(g, ch, source, r.nextInt(n),
+						Dijkstra.shortestPaths(g, source));
+			}
+		}
+	}
+
+	@Test
+	public void loadsWhatItSaved() throws IOException {
+		Random r = new Random(10);
+		for (int t = 0; t < 10; ++t) {
+			int n = 1 + r.nextInt(300);
+			CsrGraph g = RandomGraphs.multigraph(r, n, r.nextInt(3 * n), 100);
+			Path path = folder.newFile().toPath();
+			ContractionHierarchy.build(g, pool).save(path);
+			ContractionHierarchy ch = ContractionHierarchy.load(path);
+
+			for (int q = 0; q < 100; ++q) {
+				int source = r.nextInt(n);
+				check(g, ch, source, r.nextInt(n),
+						Dijkstra.shortestPaths(g, source));
+			}
+		}
+	}
+
+	@Test
+	public void answersQueriesFromManyThreads() throws Exception {
+		Random r = new Random(11);
+		final CsrGraph g = RandomGraphs.multigraph(r, 500, 1000, 100);
+		final ContractionHierarchy ch = ContractionHierarchy.build(g, pool);
+
+		Future<?>[] tasks = new Future<?>[8];
+		for (int i = 0; i < tasks.length; ++i) {
+			final long seed = r.nextLong();
+			tasks[i] = pool.submit(new Callable<Void>() {
+				public Void call() {
+					Random r = new Random(seed);
+					for (int q = 0; q < 50; ++q) {
+						int source = r.nextInt(g.vertexCount());
+						check(g, ch, source, r.nextInt(g.vertexCount()),
+								Dijkstra.shortestPaths(g, source));
+					}
+					return null;
+				}
+			});
+		}
+		for (Future<?> task : tasks) {
+			task.get();
+		}
+	}
+
+	/**
+	 * 
+	 * Runs a query and compares it with the tree Dijkstra's algorithm grew
+	 * from the same source
+	 * 
+	 */
+	private static void check(CsrGraph g, ContractionHierarchy ch,
+			int source, int destination, ShortestPathTree expected) {
+		ShortestPath path = ch.shortestPath(source, destination);
+		assertEquals(expected.distance(destination), path.getDistance());
+
+		if (path.getDistance() == ShortestPathTree.INFINITY) {
+			assertNull(path.getEdges());
+			return;
+		}
+
+		// Walk the edges from the source, they must end at the destination
+		long length = 0;
+		int v = source;
+		for (int e : path.getEdges()) {
+			assertTrue(g.edgeSource(e) == v || g.edgeTarget(e) == v);
+			v = g.opposite(e, v);
+			length += g.edgeWeight(e);
+		}
+		assertEquals(destination, v);
+		assertEquals(path.getDistance(), length);
+	}
+}
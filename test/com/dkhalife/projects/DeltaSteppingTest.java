@@ -0,0 +1,80 @@
+package com.dkhalife.projects;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ * 
+ * This class checks the distances delta-stepping finds against Dijkstra's
+ * algorithm, on random graphs with any delta and any number of threads.
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+public class DeltaSteppingTest {
+	// The pool the searches run in
+	private static ForkJoinPool pool;
+
+	@BeforeClass
+	public static void startPool() {
+		pool = new ForkJoinPool(4);
+	}
+
+	@AfterClass
+	public static void stopPool() {
+		pool.shutdown();
+	}
+
+	@Test
+	public void matchesDijkstra() {
+		Random r = new Random(1);
+		for (int t = 0; t < 300; ++t) {
+			int n = 1 + r.nextInt(300);
+			CsrGraph g = RandomGraphs.multigraph(r, n, r.nextInt(4 * n),
+					r.nextBoolean() ? 10 : 1000);
+			int source = r.nextInt(n);
+			int delta = r.nextBoolean() ? DeltaStepping.delta(g) : 1 + r
+					.nextInt(200);
+
+			check(g, Dijkstra.shortestPaths(g, source),
+					DeltaStepping.shortestPaths(g, source, delta, pool));
+		}
+	}
+
+	@Test
+	public void matchesDijkstraOnALargeGraph() {
+		Random r = new Random(2);
+		CsrGraph g = RandomGraphs.multigraph(r, 100000, 400000, 100);
+
+		check(g, Dijkstra.shortestPaths(g, 0),
+				DeltaStepping.shortestPaths(g, 0, DeltaStepping.delta(g), pool));
+	}
+
+	/**
+	 * 
+	 * Compares the distances of two trees, and makes sure the parents of the
+	 * second one lead along shortest paths
+	 * 
+	 */
+	private static void check(CsrGraph g, ShortestPathTree expected,
+			ShortestPathTree actual) {
+		for (int v = 0; v < g.vertexCount(); ++v) {
+			assertEquals(expected.distance(v), actual.distance(v));
+
+			int e = actual.parentEdge(v);
+			if (e != -1) {
+				int u = g.opposite(e, v);
+				assertEquals(actual.distance(v), actual.distance(u)
+						+ g.edgeWeight(e));
+			}
+		}
+	}
+}
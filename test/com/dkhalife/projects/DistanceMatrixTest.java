@@ -0,0 +1,107 @@
+package com.dkhalife.projects;
+
+import static org.junit.Assert.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.AfterClass;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * 
+ * This class checks the distance matrices, computed in memory or streamed to
+ * a file, against Dijkstra's algorithm from each source.
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+public class DistanceMatrixTest {
+	// The pool the matrices are computed in
+	private static ForkJoinPool pool;
+
+	// Where the streamed matrices are written
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@BeforeClass
+	public static void startPool() {
+		pool = new ForkJoinPool(4);
+	}
+
+	@AfterClass
+	public static void stopPool() {
+		pool.shutdown();
+	}
+
+	@Test
+	public void matchesDijkstra() {
+		Random r = new Random(6);
+		for (int t = 0; t < 100; ++t) {
+			int n = 1 + r.nextInt(150);
+			CsrGraph g = RandomGraphs.multigraph(r, n, r.nextInt(3 * n), 100);
+			int[] sources = vertices(r, n, r.nextInt(Math.min(n, 40) + 1));
+			int[] targets = vertices(r, n, r.nextInt(Math.min(n, 40) + 1));
+
+			check(g, DistanceMatrix.compute(g, sources, targets, pool),
+					sources, targets);
+		}
+	}
+
+	@Test
+	public void streamsTheSameMatrix() throws IOException {
+		Random r = new Random(7);
+		for (int t = 0; t < 10; ++t) {
+			int n = 1 + r.nextInt(300);
+			CsrGraph g = RandomGraphs.multigraph(r, n, r.nextInt(3 * n), 100);
+			int[] sources = vertices(r, n, 1 + r.nextInt(n));
+			int[] targets = vertices(r, n, 1 + r.nextInt(n));
+
+			Path path = folder.newFile().toPath();
+			DistanceMatrix.stream(g, sources, targets, pool, path);
+			check(g, DistanceMatrix.load(path), sources, targets);
+		}
+	}
+
+	/**
+	 * 
+	 * Picks random vertices, possibly the same one more than once
+	 * 
+	 */
+	private static int[] vertices(Random r, int n, int count) {
+		int[] vertices = new int[count];
+		for (int i = 0; i < count; ++i) {
+			vertices[i] = r.nextInt(n);
+		}
+
+		return vertices;
+	}
+
+	/**
+	 * 
+	 * Compares every distance of a matrix with Dijkstra's algorithm
+	 * 
+	 */
+	private static void check(CsrGraph g, DistanceMatrix matrix,
+			int[] sources, int[] targets) {
+		assertEquals(sources.length, matrix.rowCount());
+		assertEquals(targets.length, matrix.columnCount());
+
+		for (int i = 0; i < sources.length; ++i) {
+			assertEquals(sources[i], matrix.source(i));
+
+			ShortestPathTree tree = Dijkstra.shortestPaths(g, sources[i]);
+			for (int j = 0; j < targets.length; ++j) {
+				assertEquals(targets[j], matrix.target(j));
+				assertEquals(tree.distance(targets[j]), matrix.distance(i, j));
+			}
+		}
+	}
+}
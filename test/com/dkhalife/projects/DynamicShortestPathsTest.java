@@ -0,0 +1,86 @@
+package com.dkhalife.projects;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * 
+ * This class applies random insertions, reweightings and removals to the
+ * shortest paths DynamicShortestPaths keeps, and compares the distances
+ * with a new run of Dijkstra's algorithm after each of them.
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+public class DynamicShortestPathsTest {
+	@Test
+	public void matchesDijkstraAfterEveryChange() {
+		Random r = new Random(3);
+		for (int t = 0; t < 60; ++t) {
+			int n = 2 + r.nextInt(80);
+			EditableGraph graph = EditableGraph.random(r, n, r.nextInt(3 * n),
+					r.nextBoolean() ? 5 : 100);
+			int source = r.nextInt(n);
+
+			// The paths are built either from the graph or from its tree
+			CsrGraph g = graph.toCsr();
+			DynamicShortestPaths paths = r.nextBoolean() ? new DynamicShortestPaths(
+					g, source) : new DynamicShortestPaths(g, Dijkstra
+					.shortestPaths(g, source));
+			check(graph, paths);
+
+			for (int i = 0; i < 100; ++i) {
+				int[] edge = graph.randomEdge(r);
+				int choice = r.nextInt(4);
+				if (choice == 0 && edge != null) {
+					graph.removeEdge(edge[0], edge[1]);
+					paths.removeEdge(edge[0], edge[1]);
+				}
+				else if (choice == 1 && edge != null) {
+					int w = r.nextInt(100);
+					graph.setWeight(edge[0], edge[1], w);
+					paths.setWeight(edge[0], edge[1], w);
+				}
+				else {
+					// New vertices may come along with the new edges
+					int u = r.nextInt(n + 2);
+					int v = r.nextInt(n + 2);
+					if (u != v) {
+						int w = r.nextInt(100);
+						graph.setWeight(u, v, w);
+						paths.setWeight(u, v, w);
+					}
+				}
+
+				check(graph, paths);
+			}
+		}
+	}
+
+	/**
+	 * 
+	 * Compares the repaired paths with the ones of the graph as it is now, and
+	 * makes sure the parents lead along shortest paths
+	 * 
+	 */
+	private static void check(EditableGraph graph, DynamicShortestPaths paths) {
+		CsrGraph g = graph.toCsr();
+		ShortestPathTree expected = Dijkstra.shortestPaths(g,
+				paths.getSource());
+
+		for (int v = 0; v < g.vertexCount(); ++v) {
+			assertEquals(expected.distance(v), paths.distance(v));
+
+			int u = paths.parent(v);
+			if (u != -1) {
+				assertEquals(paths.distance(v), paths.distance(u)
+						+ graph.weight(u, v));
+			}
+		}
+	}
+}
@@ -0,0 +1,158 @@
+package com.dkhalife.projects;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * 
+ * This class compares the minimal spanning forest DynamicSpanningForest
+ * maintains with the one Kruskal's algorithm finds, whichever way the
+ * forest was built and whichever edges are then inserted, reweighted or
+ * removed.
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+public class DynamicSpanningForestTest {
+	@Test
+	public void matchesKruskalAfterEveryChange() {
+		Random r = new Random(4);
+		for (int t = 0; t < 100; ++t) {
+			int n = 2 + r.nextInt(60);
+			EditableGraph graph = EditableGraph.random(r, n, r.nextInt(4 * n),
+					r.nextBoolean() ? 5 : 100);
+			DynamicSpanningForest forest = newForest(r, graph);
+			check(graph, forest);
+
+			for (int i = 0; i < 150; ++i) {
+				change(r, graph, forest, n + 2);
+				check(graph, forest);
+			}
+		}
+	}
+
+	@Test
+	public void matchesKruskalWhenCutsSplitLargeTrees() {
+		// A ring with a few chords, where most cuts leave two large trees
+		// and the replacement has to be found through the levels
+		Random r = new Random(5);
+		int n = 3000;
+		EditableGraph graph = new EditableGraph(n);
+		for (int v = 0; v < n; ++v) {
+			graph.setWeight(v, (v + 1) % n, r.nextInt(1000));
+		}
+		for (int i = 0; i < 20; ++i) {
+			int u = r.nextInt(n);
+			int v = r.nextInt(n);
+			if (u != v) {
+				graph.setWeight(u, v, r.nextInt(1000));
+			}
+		}
+
+		DynamicSpanningForest forest = newForest(r, graph);
+		for (int i = 0; i < 400; ++i) {
+			change(r, graph, forest, n);
+			if (i % 20 == 0) {
+				check(graph, forest);
+			}
+		}
+		check(graph, forest);
+	}
+
+	/**
+	 * 
+	 * Builds the forest of a graph, either by itself, from Kruskal's forest,
+	 * from the tree Prim's algorithm finds from a single vertex, or one edge
+	 * at a time
+	 * 
+	 */
+	private static DynamicSpanningForest newForest(Random r,
+			EditableGraph graph) {
+		CsrGraph g = graph.toCsr();
+		switch (r.nextInt(4)) {
+		case 0:
+			return new DynamicSpanningForest(g);
+		case 1:
+			return new DynamicSpanningForest(g,
+					Kruskal.minimumSpanningTree(g));
+		case 2:
+			return new DynamicSpanningForest(g, new GraphEngine()
+					.minimumSpanningTree(g, r.nextInt(g.vertexCount())));
+		default:
+			DynamicSpanningForest forest = new DynamicSpanningForest();
+			for (int e = 0; e < g.edgeCount(); ++e) {
+				forest.setWeight(g.edgeSource(e), g.edgeTarget(e),
+						g.edgeWeight(e));
+			}
+			return forest;
+		}
+	}
+
+	/**
+	 * 
+	 * Applies a random change to both the graph and the forest
+	 * 
+	 */
+	private static void change(Random r, EditableGraph graph,
+			DynamicSpanningForest forest, int n) {
+		int[] edge = graph.randomEdge(r);
+		int choice = r.nextInt(4);
+		if (choice == 0 && edge != null) {
+			graph.removeEdge(edge[0], edge[1]);
+			forest.removeEdge(edge[0], edge[1]);
+		}
+		else if (choice == 1 && edge != null) {
+			int w = r.nextInt(100);
+			graph.setWeight(edge[0], edge[1], w);
+			forest.setWeight(edge[0], edge[1], w);
+		}
+		else {
+			int u = r.nextInt(n);
+			int v = r.nextInt(n);
+			if (u != v) {
+				int w = r.nextInt(100);
+				graph.setWeight(u, v, w);
+				forest.setWeight(u, v, w);
+			}
+		}
+	}
+
+	/**
+	 * 
+	 * Compares the repaired forest with the minimal spanning forest of the
+	 * graph as it is now: same weight, same number of edges, every edge of
+	 * the forest in the graph, and the same components
+	 * 
+	 */
+	private static void check(EditableGraph graph,
+			DynamicSpanningForest forest) {
+		CsrGraph g = graph.toCsr();
+		SpanningTree expected = Kruskal.minimumSpanningTree(g);
+		assertEquals(expected.getWeight(), forest.getWeight());
+		assertEquals(expected.getEdges().length, forest.forestSize());
+
+		DisjointSet components = new DisjointSet(g.vertexCount());
+		int[] edges = forest.forestEdges();
+		long weight = 0;
+		for (int i = 0; i < edges.length; i += 2) {
+			int w = graph.weight(edges[i], edges[i + 1]);
+			assertTrue(w != -1);
+			weight += w;
+			components.union(edges[i], edges[i + 1]);
+		}
+		assertEquals(expected.getWeight(), weight);
+
+		for (int e = 0; e < g.edgeCount(); ++e) {
+			int u = g.edgeSource(e);
+			int v = g.edgeTarget(e);
+			assertTrue(forest.connected(u, v));
+			assertTrue(components.find(u) == components.find(v));
+		}
+	}
+}
@@ -0,0 +1,84 @@
+package com.dkhalife.projects;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * 
+ * This class puts and removes random edges in an index and in a HashMap, and
+ * compares what they return. The vertices are few, so the same edges come
+ * back again and again, long probing runs form, and removals have to shift
+ * the entries after them back across the end of the table as well.
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+public class EdgeIndexTest {
+	@Test
+	public void matchesAHashMap() {
+		Random r = new Random(15);
+		for (int t = 0; t < 100; ++t) {
+			EdgeIndex index = new EdgeIndex(r.nextInt(50));
+			Map<Long, Integer> map = new HashMap<Long, Integer>();
+			int n = 1 + r.nextInt(r.nextBoolean() ? 10 : 60);
+
+			for (int i = 0; i < 3000; ++i) {
+				int u = r.nextInt(n);
+				int v = r.nextInt(n);
+				Long key = EdgeIndex.key(u, v);
+
+				switch (r.nextInt(10)) {
+				case 0:
+				case 1:
+				case 2:
+				case 3:
+					int value = r.nextInt(1000);
+					Integer previous = map.put(key, value);
+					assertEquals(previous == null ? -1 : previous.intValue(),
+							index.put(u, v, value));
+					break;
+				case 4:
+				case 5:
+				case 6:
+					Integer removed = map.remove(key);
+					assertEquals(removed == null ? -1 : removed.intValue(),
+							index.remove(v, u));
+					break;
+				case 7:
+					if (r.nextInt(100) == 0) {
+						map.clear();
+						index.clear();
+					}
+					break;
+				default:
+					Integer expected = map.get(key);
+					assertEquals(expected == null ? -1 : expected.intValue(),
+							index.get(u, v));
+				}
+
+				assertEquals(map.size(), index.size());
+			}
+
+			// Every edge still in the map must be found, whatever was shifted
+			for (int u = 0; u < n; ++u) {
+				for (int v = 0; v < n; ++v) {
+					Integer expected = map.get(EdgeIndex.key(u, v));
+					assertEquals(expected == null ? -1 : expected.intValue(),
+							index.get(v, u));
+				}
+			}
+		}
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void rejectsNegativeValues() {
+		new EdgeIndex().put(1, 2, -1);
+	}
+}
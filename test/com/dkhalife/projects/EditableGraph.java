@@ -0,0 +1,172 @@
+package com.dkhalife.projects;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * 
+ * This class keeps the edges of a graph being changed in a plain map, so
+ * that the tests of the dynamic algorithms can build the graph again after
+ * each change and compute the expected results from scratch.
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+class EditableGraph {
+	// The number of vertices
+	private int n;
+
+	// The weight of each edge, by the key of its ends
+	private final Map<Long, Integer> weights = new HashMap<Long, Integer>();
+
+	/**
+	 * 
+	 * A graph is constructed with its number of vertices and no edges
+	 * 
+	 * @param n The number of vertices
+	 * 
+	 */
+	EditableGraph(int n) {
+		this.n = n;
+	}
+
+	/**
+	 * 
+	 * Builds a random graph without loops or parallel edges
+	 * 
+	 * @param r The random generator
+	 * @param n The number of vertices
+	 * @param m The number of edges to try, the duplicates are dropped
+	 * @param maxWeight The largest weight
+	 * @return The graph
+	 * 
+	 */
+	static EditableGraph random(Random r, int n, int m, int maxWeight) {
+		EditableGraph g = new EditableGraph(n);
+		for (int i = 0; i < m && n > 1; ++i) {
+			int u = r.nextInt(n);
+			int v = r.nextInt(n);
+			if (u != v && g.weight(u, v) == -1) {
+				g.setWeight(u, v, r.nextInt(maxWeight + 1));
+			}
+		}
+
+		return g;
+	}
+
+	/**
+	 * 
+	 * Getter for the number of vertices
+	 * 
+	 * @return The number of vertices
+	 * 
+	 */
+	int vertexCount() {
+		return n;
+	}
+
+	/**
+	 * 
+	 * Getter for the number of edges
+	 * 
+	 * @return The number of edges
+	 * 
+	 */
+	int edgeCount() {
+		return weights.size();
+	}
+
+	/**
+	 * 
+	 * Getter for the weight of an edge
+	 * 
+	 * @param u The first vertex
+	 * @param v The second vertex
+	 * @return The weight, or -1 if they aren't neighbors
+	 * 
+	 */
+	int weight(int u, int v) {
+		Integer w = weights.get(EdgeIndex.key(u, v));
+		return w == null ? -1 : w;
+	}
+
+	/**
+	 * 
+	 * Inserts an edge, or changes its weight
+	 * 
+	 * @param u The first vertex
+	 * @param v The second vertex
+	 * @param w The weight
+	 * 
+	 */
+	void setWeight(int u, int v, int w) {
+		n = Math.max(n, Math.max(u, v) + 1);
+		weights.put(EdgeIndex.key(u, v), w);
+	}
+
+	/**
+	 * 
+	 * Removes an edge
+	 * 
+	 * @param u The first vertex
+	 * @param v The second vertex
+	 * 
+	 */
+	void removeEdge(int u, int v) {
+		weights.remove(EdgeIndex.key(u, v));
+	}
+
+	/**
+	 * 
+	 * Picks one of the edges at random
+	 * 
+	 * @param r The random generator
+	 * @return The ends of the edge, or null if there is none
+	 * 
+	 */
+	int[] randomEdge(Random r) {
+		if (weights.isEmpty())
+			return null;
+
+		// The edges are few, so walking to one of them is fine
+		int i = r.nextInt(weights.size());
+		for (long key : weights.keySet()) {
+			if (i-- == 0)
+				return new int[] { (int) (key >>> 32), (int) key };
+		}
+
+		return null;
+	}
+
+	/**
+	 * 
+	 * Builds the CSR representation of the graph as it is now, with its edges
+	 * in a stable order
+	 * 
+	 * @return The graph
+	 * 
+	 */
+	CsrGraph toCsr() {
+		long[] keys = new long[weights.size()];
+		int m = 0;
+		for (long key : weights.keySet()) {
+			keys[m++] = key;
+		}
+		Arrays.sort(keys);
+
+		int[] sources = new int[m];
+		int[] destinations = new int[m];
+		int[] w = new int[m];
+		for (int e = 0; e < m; ++e) {
+			sources[e] = (int) (keys[e] >>> 32);
+			destinations[e] = (int) keys[e];
+			w[e] = weights.get(keys[e]);
+		}
+
+		return CsrGraph.fromEdges(n, sources, destinations, w, null, null);
+	}
+}
@@ -0,0 +1,47 @@
+package com.dkhalife.projects;
+
+import java.util.Random;
+
+/**
+ * 
+ * This class builds the seeded random graphs the tests compare the
+ * algorithms on.
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+class RandomGraphs {
+	/**
+	 * 
+	 * This class only holds static methods
+	 * 
+	 */
+	private RandomGraphs() {
+	}
+
+	/**
+	 * 
+	 * Builds a random graph, which may have loops and parallel edges
+	 * 
+	 * @param r The random generator
+	 * @param n The number of vertices
+	 * @param m The number of edges
+	 * @param maxWeight The largest weight
+	 * @return The graph
+	 * 
+	 */
+	static CsrGraph multigraph(Random r, int n, int m, int maxWeight) {
+		int[] sources = new int[m];
+		int[] destinations = new int[m];
+		int[] weights = new int[m];
+		for (int e = 0; e < m; ++e) {
+			sources[e] = r.nextInt(n);
+			destinations[e] = r.nextInt(n);
+			weights[e] = r.nextInt(maxWeight + 1);
+		}
+
+		return CsrGraph.fromEdges(n, sources, destinations, weights, null, null);
+	}
+}
@@ -0,0 +1,243 @@
+package com.dkhalife.projects;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * 
+ * This class replays random lookups, insertions and invalidations on a cache
+ * and on a plain list kept in least recently used order, and compares the
+ * trees they return, the memory they account for and their counters.
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+public class ShortestPathCacheTest {
+	@Test
+	public void matchesAPlainLruList() {
+		Random r = new Random(12);
+		for (int t = 0; t < 200; ++t) {
+			long capacity = 100 + r.nextInt(3000);
+			ShortestPathCache cache = new ShortestPathCache(capacity);
+			Model model = new Model(capacity);
+			long version = 0;
+
+			for (int i = 0; i < 500; ++i) {
+				int source = r.nextInt(12);
+				long v = version - r.nextInt(3);
+				switch (r.nextInt(10)) {
+				case 0:
+					// The graph changed
+					++version;
+					cache.invalidate(version);
+					model.invalidate(version);
+					break;
+				case 1:
+					if (r.nextInt(10) == 0) {
+						cache.clear();
+						model.clear();
+					}
+					break;
+				case 2:
+				case 3:
+				case 4:
+				case 5:
+					int length = 1 + r.nextInt(r.nextBoolean() ? 40 : 400);
+					ShortestPathTree tree = new ShortestPathTree(source,
+							new int[length], new int[length], 0);
+					cache.put(source, v, tree);
+					model.put(source, v, tree);
+					break;
+				default:
+					assertSame(model.get(source, v), cache.get(source, v));
+				}
+
+				assertEquals(model.entries.size(), cache.count());
+				assertEquals(model.size, cache.bytes());
+				assertEquals(model.hits, cache.getHits());
+				assertEquals(model.misses, cache.getMisses());
+				assertEquals(model.evictions, cache.getEvictions());
+				assertEquals(model.invalidations, cache.getInvalidations());
+			}
+		}
+	}
+
+	@Test
+	public void answersLikeDijkstraUntilTheGraphChanges() {
+		Random r = new Random(13);
+		CsrGraph g = RandomGraphs.multigraph(r, 200, 600, 100);
+		ShortestPathCache cache = new ShortestPathCache();
+
+		for (int i = 0; i < 100; ++i) {
+			int source = r.nextInt(20);
+			long version = i / 10;
+			ShortestPathTree expected = Dijkstra.shortestPaths(g, source);
+			ShortestPathTree tree = cache.shortestPaths(g, source, version);
+			for (int v = 0; v < g.vertexCount(); ++v) {
+				assertEquals(expected.distance(v), tree.distance(v));
+			}
+
+			// The same version gives the same tree back
+			assertSame(tree, cache.shortestPaths(g, source, version));
+		}
+	}
+
+	/**
+	 * 
+	 * This class is the reference the cache is compared with: its entries
+	 * are kept in a list, from the least recently used to the most recently
+	 * used, and every operation walks the whole list
+	 * 
+	 */
+	private static class Model {
+		// The memory the trees can take, in bytes
+		private final long capacity;
+
+		// The entries
+		private final ArrayList<Entry> entries = new ArrayList<Entry>();
+
+		// The memory the trees take, in bytes
+		private long size = 0;
+
+		// The counters the cache is expected to have
+		private long hits = 0;
+		private long misses = 0;
+		private long evictions = 0;
+		private long invalidations = 0;
+
+		/**
+		 * 
+		 * A model is constructed with the capacity of the cache
+		 * 
+		 */
+		Model(long capacity) {
+			this.capacity = capacity;
+		}
+
+		/**
+		 * 
+		 * Looks for a tree, which becomes the most recently used
+		 * 
+		 */
+		ShortestPathTree get(int source, long version) {
+			int i = find(source, version);
+			if (i == -1) {
+				++misses;
+				return null;
+			}
+
+			++hits;
+			Entry entry = entries.remove(i);
+			entries.add(entry);
+			return entry.tree;
+		}
+
+		/**
+		 * 
+		 * Adds a tree, then evicts the least recently used ones until the
+		 * trees fit again
+		 * 
+		 */
+		void put(int source, long version, ShortestPathTree tree) {
+			long weight = weightOf(tree);
+			if (weight > capacity)
+				return;
+
+			int i = find(source, version);
+			if (i != -1) {
+				size -= weightOf(entries.remove(i).tree);
+			}
+			entries.add(new Entry(source, version, tree));
+			size += weight;
+
+			while (size > capacity) {
+				size -= weightOf(entries.remove(0).tree);
+				++evictions;
+			}
+		}
+
+		/**
+		 * 
+		 * Drops the trees of older versions
+		 * 
+		 */
+		void invalidate(long version) {
+			for (int i = entries.size() - 1; i >= 0; --i) {
+				if (entries.get(i).version < version) {
+					size -= weightOf(entries.remove(i).tree);
+					++invalidations;
+				}
+			}
+		}
+
+		/**
+		 * 
+		 * Drops every tree
+		 * 
+		 */
+		void clear() {
+			entries.clear();
+			size = 0;
+		}
+
+		/**
+		 * 
+		 * Finds the position of an entry, or -1
+		 * 
+		 */
+		private int find(int source, long version) {
+			for (int i = 0; i < entries.size(); ++i) {
+				Entry entry = entries.get(i);
+				if (entry.source == source && entry.version == version)
+					return i;
+			}
+
+			return -1;
+		}
+
+		/**
+		 * 
+		 * The memory a tree takes, as the cache documents it: an int for
+		 * the distance and one for the parent edge of each vertex, plus 64
+		 * bytes
+		 * 
+		 */
+		private static long weightOf(ShortestPathTree tree) {
+			return 8L * tree.distances().length + 64;
+		}
+	}
+
+	/**
+	 * 
+	 * This class holds a tree of the model along with its key
+	 * 
+	 */
+	private static class Entry {
+		// The source vertex
+		private final int source;
+
+		// The version of the graph
+		private final long version;
+
+		// The tree
+		private final ShortestPathTree tree;
+
+		/**
+		 * 
+		 * An entry is constructed with its key and its tree
+		 * 
+		 */
+		Entry(int source, long version, ShortestPathTree tree) {
+			this.source = source;
+			this.version = version;
+			this.tree = tree;
+		}
+	}
+}
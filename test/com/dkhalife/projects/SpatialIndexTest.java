@@ -0,0 +1,136 @@
+package com.dkhalife.projects;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * 
+ * This class moves random points around an index and checks every lookup
+ * against a scan of all the points. The coordinates go negative and spread
+ * over many cells, so the cells collide in the hash table and the rectangles
+ * are looked up both cell by cell and by walking the table.
+ * 
+ * @author Dany Khalife
+ * @version 1.0
+ * @since October, 2026
+ * 
+ */
+public class SpatialIndexTest {
+	@Test
+	public void matchesAScan() {
+		Random r = new Random(14);
+		for (int t = 0; t < 100; ++t) {
+			SpatialIndex index = new SpatialIndex(1 + r.nextInt(8));
+			int ids = 1 + r.nextInt(200);
+			int spread = 1 + r.nextInt(r.nextBoolean() ? 20 : 500);
+
+			// The points the index is expected to hold
+			int[] xs = new int[ids];
+			int[] ys = new int[ids];
+			boolean[] present = new boolean[ids];
+			int count = 0;
+
+			for (int i = 0; i < 1000; ++i) {
+				int x = r.nextInt(2 * spread + 1) - spread;
+				int y = r.nextInt(2 * spread + 1) - spread;
+				int id = r.nextInt(ids);
+
+				switch (r.nextInt(10)) {
+				case 0:
+				case 1:
+				case 2:
+					// Adding an id already there moves it
+					if (!present[id]) {
+						++count;
+					}
+					index.add(id, x, y);
+					xs[id] = x;
+					ys[id] = y;
+					present[id] = true;
+					break;
+				case 3:
+					if (present[id]) {
+						--count;
+					}
+					index.remove(id);
+					present[id] = false;
+					break;
+				case 4:
+					if (r.nextInt(50) == 0) {
+						index.clear();
+						Arrays.fill(present, false);
+						count = 0;
+					}
+					break;
+				case 5:
+				case 6:
+					int d = r.nextInt(spread / 4 + 2);
+					assertEquals(nearest(xs, ys, present, x, y, d),
+							index.nearest(x, y, d));
+					break;
+				default:
+					int width = r.nextInt(2 * spread + 1);
+					int height = r.nextInt(2 * spread + 1);
+					int[] found = index.range(x, y, x + width, y + height);
+					Arrays.sort(found);
+					assertArrayEquals(range(xs, ys, present, x, y, x + width,
+							y + height), found);
+				}
+
+				assertEquals(count, index.size());
+				assertEquals(present[id], index.contains(id));
+			}
+		}
+	}
+
+	/**
+	 * 
+	 * Finds the closest point within a distance along both axes by looking at
+	 * all of them, the smallest id first so that it wins the ties
+	 * 
+	 */
+	private static int nearest(int[] xs, int[] ys, boolean[] present, int x,
+			int y, int d) {
+		int best = -1;
+		long bestDistance = Long.MAX_VALUE;
+		for (int id = 0; id < present.length; ++id) {
+			long dx = xs[id] - x;
+			long dy = ys[id] - y;
+			if (!present[id] || Math.abs(dx) > d || Math.abs(dy) > d)
+				continue;
+
+			if (dx * dx + dy * dy < bestDistance) {
+				best = id;
+				bestDistance = dx * dx + dy * dy;
+			}
+		}
+
+		return best;
+	}
+
+	/**
+	 * 
+	 * Finds the points inside a rectangle by looking at all of them
+	 * 
+	 * @return Their ids, sorted
+	 * 
+	 */
+	private static int[] range(int[] xs, int[] ys, boolean[] present, int x1,
+			int y1, int x2, int y2) {
+		int[] result = new int[present.length];
+		int found = 0;
+		for (int id = 0; id < present.length; ++id) {
+			if (present[id] && xs[id] >= x1 && xs[id] <= x2 && ys[id] >= y1
+					&& ys[id] <= y2) {
+				result[found++] = id;
+			}
+		}
+
+		return Arrays.copyOf(result, found);
+	}
+}